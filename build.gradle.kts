@@ -35,6 +35,7 @@ val jeiVersion: String = "15.2.0.21"
 val patchouliVersion: String = "1.20.1-81-FORGE"
 val jadeVersion: String = "4614153"
 val topVersion: String = "4629624"
+val jmhVersion: String = "1.37"
 
 val modId: String = "tfc"
 val modVersion: String = System.getenv("VERSION") ?: "0.0.0-indev"
@@ -79,6 +80,16 @@ repositories {
     }
 }
 
+// Benchmarks, in src/jmh, which can use anything from main and test. Run with ./gradlew jmh
+// Arguments can be passed to JMH with -Pjmh="...", e.g. -Pjmh="RegionBenchmark -prof gc"
+val jmh: SourceSet = sourceSets.create("jmh") {
+    compileClasspath += sourceSets.main.get().output + sourceSets.test.get().output
+    runtimeClasspath += sourceSets.main.get().output + sourceSets.test.get().output
+}
+
+configurations[jmh.implementationConfigurationName].extendsFrom(configurations.implementation.get())
+configurations[jmh.runtimeOnlyConfigurationName].extendsFrom(configurations.runtimeOnly.get())
+
 dependencies {
     minecraft("net.minecraftforge", "forge", version = "$minecraftVersion-$forgeVersion")
 
@@ -121,6 +132,10 @@ dependencies {
     // There is not a testImplementation-like configuration, AFAIK, that is available at minecraft runtime, so we use minecraftLibrary
     minecraftLibrary("org.junit.jupiter:junit-jupiter-api:5.9.2")
     minecraftLibrary("org.junit.jupiter:junit-jupiter-engine:5.9.2")
+
+    // JMH
+    "jmhImplementation"("org.openjdk.jmh:jmh-core:$jmhVersion")
+    "jmhAnnotationProcessor"("org.openjdk.jmh:jmh-generator-annprocess:$jmhVersion")
 }
 
 minecraft {
@@ -236,6 +251,15 @@ tasks {
         }
     }
 
+    register<JavaExec>("jmh") {
+        group = "verification"
+        description = "Runs the JMH world generation benchmarks."
+
+        classpath = jmh.runtimeClasspath
+        mainClass.set("org.openjdk.jmh.Main")
+        args((project.findProperty("jmh") as String? ?: "").split(" ").filter { it.isNotBlank() })
+    }
+
     jar {
         manifest {
             attributes["Implementation-Version"] = project.version
@@ -1498,6 +1498,10 @@ DEFAULT_LANG = {
     'tfc.commands.propick.cleared': 'Cleared %s blocks, Found %s prospectable blocks',
     'tfc.commands.particle.no_fluid': 'Unknown Fluid: %s',
     'tfc.commands.trim.not_applied': 'A trim cannot be applied to this item',
+    'tfc.commands.worldgen_caches.not_tfc': 'This world is not using the TFC chunk generator',
+    'tfc.commands.worldgen_caches.cache': 'Cache %s (size %s): %s hits, %s misses, %s evictions, %s%% hit rate',
+    'tfc.commands.worldgen_caches.deduplicated': 'Deduplicated %s region and %s partition builds',
+    'tfc.commands.food_syncs.syncs': 'Food data syncs: %s sent, %s suppressed, %s%% suppressed',
     'tfc.commands.trim.not_armor': 'The metal specified does not have armor items',
     'tfc.commands.trim.bad_material': 'Material item not recognized',
     'tfc.commands.trim.bad_template': 'Template item not recognized',
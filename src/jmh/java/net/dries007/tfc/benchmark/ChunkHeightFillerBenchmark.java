@@ -0,0 +1,91 @@
+/*
+ * Licensed under the EUPL, Version 1.2.
+ * You may obtain a copy of the Licence at:
+ * https://joinup.ec.europa.eu/collection/eupl/eupl-text-eupl-12
+ */
+
+package net.dries007.tfc.benchmark;
+
+import java.util.concurrent.TimeUnit;
+import net.minecraft.core.QuartPos;
+import net.minecraft.world.level.ChunkPos;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import net.dries007.tfc.world.BiomeWeights;
+import net.dries007.tfc.world.ChunkBiomeSampler;
+import net.dries007.tfc.world.ChunkHeightFiller;
+import net.dries007.tfc.world.ChunkNoiseSamplers;
+import net.dries007.tfc.world.TFCChunkGenerator;
+import net.dries007.tfc.world.biome.BiomeExtension;
+
+/**
+ * Benchmarks the terrain height part of chunk generation, which is shared by {@link net.dries007.tfc.world.ChunkNoiseFiller}. The full noise filler requires TFC's fluids, blocks and density functions to be registered, so it cannot run outside a server.
+ * Chunks are taken from a fixed 64x64 chunk area, so after warmup, all regions are cached.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ChunkHeightFillerBenchmark
+{
+    private static final int AREA_CHUNKS = 64;
+
+    private WorldgenState state;
+    private ChunkNoiseSamplers noiseSamplers;
+    private int index;
+
+    @Setup
+    public void setup(WorldgenState state)
+    {
+        this.state = state;
+        this.noiseSamplers = new ChunkNoiseSamplers(WorldgenState.SEED);
+    }
+
+    @Benchmark
+    public BiomeWeights[] sampleBiomes()
+    {
+        return ChunkBiomeSampler.sampleBiomes(nextChunk(), this::sampleBiomeNoRiver, BiomeExtension::biomeBlendType);
+    }
+
+    @Benchmark
+    public double sampleHeight()
+    {
+        final ChunkPos pos = nextChunk();
+        return createFiller(pos).sampleHeight(pos.getMinBlockX() + 8, pos.getMinBlockZ() + 8);
+    }
+
+    @Benchmark
+    public double[] sampleHeights()
+    {
+        final ChunkPos pos = nextChunk();
+        return createFiller(pos).sampleHeights(pos.getMinBlockX(), pos.getMinBlockZ());
+    }
+
+    private ChunkHeightFiller createFiller(ChunkPos pos)
+    {
+        final BiomeWeights[] biomeWeights = ChunkBiomeSampler.sampleBiomes(pos, this::sampleBiomeNoRiver, BiomeExtension::biomeBlendType);
+        return new ChunkHeightFiller(biomeWeights, state.biomeSource, noiseSamplers, TFCChunkGenerator.SEA_LEVEL_Y);
+    }
+
+    private BiomeExtension sampleBiomeNoRiver(int blockX, int blockZ)
+    {
+        return state.biomeSource.getBiomeExtensionNoRiver(QuartPos.fromBlock(blockX), QuartPos.fromBlock(blockZ));
+    }
+
+    private ChunkPos nextChunk()
+    {
+        final int i = index++;
+        return new ChunkPos(i % AREA_CHUNKS, (i / AREA_CHUNKS) % AREA_CHUNKS);
+    }
+}
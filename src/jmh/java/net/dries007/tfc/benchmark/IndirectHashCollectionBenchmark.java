@@ -0,0 +1,131 @@
+/*
+ * Licensed under the EUPL, Version 1.2.
+ * You may obtain a copy of the Licence at:
+ * https://joinup.ec.europa.eu/collection/eupl/eupl-text-eupl-12
+ */
+
+package net.dries007.tfc.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import com.mojang.datafixers.util.Pair;
+import org.jetbrains.annotations.Nullable;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import net.dries007.tfc.util.collections.IndirectHashCollection;
+
+/**
+ * Compares looking up a recipe matched on both an item and a fluid, by a linear scan over all recipes, against an {@link IndirectHashCollection} indexed on both values.
+ * Scores are per query.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class IndirectHashCollectionBenchmark
+{
+    private static final int ITEM_COUNT = 2000;
+    private static final int FLUID_COUNT = 20;
+    private static final int QUERY_COUNT = 10_000;
+
+    @Param({"1000", "5000"})
+    public int recipeCount;
+
+    private List<MockRecipe> recipes;
+    private IndirectHashCollection<Pair<Integer, Integer>, MockRecipe> cache;
+    private int[] items, fluids;
+
+    @Setup
+    public void setup()
+    {
+        // A modpack-sized set of recipes, each matching a few items and fluids, and queries of which roughly half can match any recipe
+        final Random random = new Random(12345);
+        recipes = new ArrayList<>();
+        for (int i = 0; i < recipeCount; i++)
+        {
+            recipes.add(new MockRecipe(Set.of(random.nextInt(ITEM_COUNT), ITEM_COUNT + random.nextInt(ITEM_COUNT)), Set.of(random.nextInt(FLUID_COUNT))));
+        }
+
+        cache = new IndirectHashCollection<>(r -> IndirectHashCollection.keysOf(r.items(), r.fluids()));
+        cache.reload(recipes);
+
+        items = new int[QUERY_COUNT];
+        fluids = new int[QUERY_COUNT];
+        for (int i = 0; i < QUERY_COUNT; i++)
+        {
+            items[i] = random.nextInt(2 * ITEM_COUNT);
+            fluids[i] = random.nextInt(FLUID_COUNT);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(QUERY_COUNT)
+    public void linearScan(Blackhole bh)
+    {
+        for (int i = 0; i < QUERY_COUNT; i++)
+        {
+            bh.consume(linearScan(items[i], fluids[i]));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(QUERY_COUNT)
+    public void indexed(Blackhole bh)
+    {
+        for (int i = 0; i < QUERY_COUNT; i++)
+        {
+            bh.consume(indexed(items[i], fluids[i]));
+        }
+    }
+
+    @Nullable
+    private MockRecipe linearScan(int item, int fluid)
+    {
+        for (MockRecipe recipe : recipes)
+        {
+            if (recipe.matches(item, fluid))
+            {
+                return recipe;
+            }
+        }
+        return null;
+    }
+
+    @Nullable
+    private MockRecipe indexed(int item, int fluid)
+    {
+        for (MockRecipe recipe : cache.getAll(Pair.of(item, fluid)))
+        {
+            if (recipe.matches(item, fluid))
+            {
+                return recipe;
+            }
+        }
+        return null;
+    }
+
+    record MockRecipe(Set<Integer> items, Set<Integer> fluids)
+    {
+        boolean matches(int item, int fluid)
+        {
+            return items.contains(item) && fluids.contains(fluid);
+        }
+    }
+}
@@ -0,0 +1,132 @@
+/*
+ * Licensed under the EUPL, Version 1.2.
+ * You may obtain a copy of the Licence at:
+ * https://joinup.ec.europa.eu/collection/eupl/eupl-text-eupl-12
+ */
+
+package net.dries007.tfc.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import io.netty.buffer.Unpooled;
+import net.minecraft.nbt.CompoundTag;
+import net.minecraft.network.FriendlyByteBuf;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import net.dries007.tfc.TestHelper;
+import net.dries007.tfc.common.capabilities.INetworkSerializable;
+import net.dries007.tfc.common.capabilities.ItemStackCapabilitySync;
+import net.dries007.tfc.common.capabilities.food.FoodData;
+import net.dries007.tfc.common.capabilities.food.FoodHandler;
+import net.dries007.tfc.common.capabilities.food.FoodTraits;
+import net.dries007.tfc.common.capabilities.heat.HeatHandler;
+
+/**
+ * Compares encoding a food or heat capability via {@link ItemStackCapabilitySync#writeCapability(INetworkSerializable, FriendlyByteBuf)}, in the compact format against the NBT format.
+ * Scores are per capability. The encoded size of each, in bytes, is printed during setup.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class NetworkCapabilityFormatBenchmark
+{
+    private static final int ENCODE_COUNT = 1000;
+
+    @Param({"food", "heat"})
+    public String capability;
+
+    private INetworkSerializable compact;
+    private INetworkSerializable nbt;
+    private FriendlyByteBuf buffer;
+
+    @Setup
+    public void setup()
+    {
+        TestHelper.bootstrap();
+        FoodHandler.setNonDecaying(false);
+
+        compact = switch (capability)
+            {
+                case "food" -> {
+                    final FoodHandler food = new FoodHandler(FoodData.decayOnly(1f));
+                    food.setCreationDate(12_345_678L);
+                    food.getTraits().addAll(List.of(FoodTraits.SALTED, FoodTraits.PICKLED));
+                    yield food;
+                }
+                case "heat" -> {
+                    final HeatHandler heat = new HeatHandler(1, 0, 0);
+                    heat.setTemperature(1200);
+                    yield heat;
+                }
+                default -> throw new IllegalArgumentException("Unknown capability: " + capability);
+            };
+        nbt = new NbtOnly(compact);
+        buffer = new FriendlyByteBuf(Unpooled.buffer(256));
+
+        System.out.printf("%s: compact = %d bytes, nbt = %d bytes%n", capability, encodedSize(compact), encodedSize(nbt));
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ENCODE_COUNT)
+    public void compact(Blackhole bh)
+    {
+        encode(compact, bh);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ENCODE_COUNT)
+    public void nbt(Blackhole bh)
+    {
+        encode(nbt, bh);
+    }
+
+    private void encode(INetworkSerializable cap, Blackhole bh)
+    {
+        for (int i = 0; i < ENCODE_COUNT; i++)
+        {
+            buffer.clear();
+            ItemStackCapabilitySync.writeCapability(cap, buffer);
+            bh.consume(buffer.writerIndex());
+        }
+    }
+
+    private int encodedSize(INetworkSerializable cap)
+    {
+        buffer.clear();
+        ItemStackCapabilitySync.writeCapability(cap, buffer);
+        return buffer.writerIndex();
+    }
+
+    /**
+     * Does not opt in to the compact format, so the wrapped capability is written as NBT.
+     */
+    record NbtOnly(INetworkSerializable delegate) implements INetworkSerializable
+    {
+        @Override
+        public CompoundTag serializeNBT()
+        {
+            return delegate.serializeNBT();
+        }
+
+        @Override
+        public void deserializeNBT(CompoundTag nbt)
+        {
+            delegate.deserializeNBT(nbt);
+        }
+    }
+}
@@ -0,0 +1,64 @@
+/*
+ * Licensed under the EUPL, Version 1.2.
+ * You may obtain a copy of the Licence at:
+ * https://joinup.ec.europa.eu/collection/eupl/eupl-text-eupl-12
+ */
+
+package net.dries007.tfc.benchmark;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import net.dries007.tfc.world.noise.Cellular2D;
+import net.dries007.tfc.world.noise.Noise2D;
+import net.dries007.tfc.world.noise.OpenSimplex2D;
+
+/**
+ * Samples a 16x16 chunk worth of each noise type.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class NoiseBenchmark
+{
+    private final Noise2D openSimplex = new OpenSimplex2D(WorldgenState.SEED).octaves(4).spread(0.01f);
+    private final Cellular2D cellular = new Cellular2D(WorldgenState.SEED).spread(0.02f);
+
+    private int chunkX;
+
+    @Benchmark
+    public void openSimplex2D(Blackhole blackhole)
+    {
+        sampleChunk(openSimplex, blackhole);
+    }
+
+    @Benchmark
+    public void cellular2D(Blackhole blackhole)
+    {
+        sampleChunk(cellular, blackhole);
+    }
+
+    private void sampleChunk(Noise2D noise, Blackhole blackhole)
+    {
+        final int minX = (chunkX++) << 4;
+        for (int x = 0; x < 16; x++)
+        {
+            for (int z = 0; z < 16; z++)
+            {
+                blackhole.consume(noise.noise(minX + x, z));
+            }
+        }
+    }
+}
@@ -0,0 +1,104 @@
+/*
+ * Licensed under the EUPL, Version 1.2.
+ * You may obtain a copy of the Licence at:
+ * https://joinup.ec.europa.eu/collection/eupl/eupl-text-eupl-12
+ */
+
+package net.dries007.tfc.benchmark;
+
+import java.util.concurrent.TimeUnit;
+import net.minecraft.world.level.ChunkPos;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import net.dries007.tfc.world.chunkdata.ChunkData;
+import net.dries007.tfc.world.chunkdata.RegionChunkDataGenerator;
+import net.dries007.tfc.world.layer.TFCLayers;
+import net.dries007.tfc.world.layer.framework.Area;
+import net.dries007.tfc.world.region.Region;
+import net.dries007.tfc.world.region.RegionGenerator;
+
+/**
+ * Benchmarks for the region-scale parts of world generation: generating a complete {@link Region}, and the per-chunk queries that are made against already generated regions.
+ * Per-chunk queries walk a fixed 64x64 chunk area, so after warmup they always hit the region cache.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RegionBenchmark
+{
+    private static final int AREA_CHUNKS = 64;
+
+    private RegionGenerator freshGenerator;
+    private RegionChunkDataGenerator chunkDataGenerator;
+    private Area rockLayer;
+    private int index;
+
+    @Setup
+    public void setup(WorldgenState state)
+    {
+        chunkDataGenerator = RegionChunkDataGenerator.create(WorldgenState.SEED, null, state.regionGenerator); // Rock layer settings are only needed to generate rocks
+        rockLayer = TFCLayers.createOverworldRockLayer(state.regionGenerator, WorldgenState.SEED).get();
+    }
+
+    @Setup(Level.Invocation)
+    public void setupInvocation()
+    {
+        freshGenerator = WorldgenState.createRegionGenerator();
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public Region createRegion()
+    {
+        return freshGenerator.getOrCreateRegion(0, 0);
+    }
+
+    @Benchmark
+    public ChunkData generateChunkData()
+    {
+        final ChunkData data = new ChunkData(chunkDataGenerator, nextChunk());
+        chunkDataGenerator.generate(data);
+        return data;
+    }
+
+    @Benchmark
+    public void biomeLayer(WorldgenState state, Blackhole blackhole)
+    {
+        final ChunkPos pos = nextChunk();
+        final int minQuartX = pos.x << 2, minQuartZ = pos.z << 2;
+        for (int x = 0; x < 4; x++)
+        {
+            for (int z = 0; z < 4; z++)
+            {
+                blackhole.consume(state.biomeLayer.get(minQuartX + x, minQuartZ + z));
+            }
+        }
+    }
+
+    @Benchmark
+    public void rockLayer(Blackhole blackhole)
+    {
+        final ChunkPos pos = nextChunk();
+        blackhole.consume(rockLayer.get(pos.getMinBlockX(), pos.getMinBlockZ()));
+    }
+
+    private ChunkPos nextChunk()
+    {
+        final int i = index++;
+        return new ChunkPos(i % AREA_CHUNKS, (i / AREA_CHUNKS) % AREA_CHUNKS);
+    }
+}
@@ -0,0 +1,77 @@
+/*
+ * Licensed under the EUPL, Version 1.2.
+ * You may obtain a copy of the Licence at:
+ * https://joinup.ec.europa.eu/collection/eupl/eupl-text-eupl-12
+ */
+
+package net.dries007.tfc.benchmark;
+
+import java.util.EnumSet;
+import java.util.concurrent.TimeUnit;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.Direction;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import net.dries007.tfc.util.rotation.Node;
+import net.dries007.tfc.util.rotation.Rotation;
+import net.dries007.tfc.util.rotation.RotationNetworkManager;
+import net.dries007.tfc.util.rotation.SourceNode;
+
+/**
+ * Builds many separate, parallel, rotation networks, by adding a source for each network and then extending every network one node at a time, in an interleaved order.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RotationNetworkBenchmark
+{
+    @Param({"20", "200"})
+    public int networks;
+
+    @Param({"50"})
+    public int nodesPerNetwork;
+
+    @Benchmark
+    public RotationNetworkManager addNodesAcrossNetworks()
+    {
+        final RotationNetworkManager manager = new RotationNetworkManager();
+        for (int i = 0; i < networks; i++)
+        {
+            manager.addSource(new SourceNode(new BlockPos(2 * i, 0, 0), EnumSet.of(Direction.SOUTH), Direction.SOUTH, 1.0f) {});
+        }
+        for (int z = 1; z <= nodesPerNetwork; z++)
+        {
+            for (int i = 0; i < networks; i++)
+            {
+                manager.add(new PassthroughNode(new BlockPos(2 * i, 0, z), EnumSet.of(Direction.NORTH, Direction.SOUTH)));
+            }
+        }
+        return manager;
+    }
+
+    static class PassthroughNode extends Node
+    {
+        PassthroughNode(BlockPos pos, EnumSet<Direction> connections)
+        {
+            super(pos, connections);
+        }
+
+        @Override
+        public Rotation rotation(Rotation sourceRotation, Direction sourceDirection, Direction exitDirection)
+        {
+            return Rotation.of(Direction.fromAxisAndDirection(exitDirection.getAxis(), sourceRotation.direction().getAxisDirection()), 1.0f);
+        }
+    }
+}
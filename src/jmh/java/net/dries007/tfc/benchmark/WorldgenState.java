@@ -0,0 +1,97 @@
+/*
+ * Licensed under the EUPL, Version 1.2.
+ * You may obtain a copy of the Licence at:
+ * https://joinup.ec.europa.eu/collection/eupl/eupl-text-eupl-12
+ */
+
+package net.dries007.tfc.benchmark;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import net.minecraft.core.Holder;
+import net.minecraft.world.level.biome.Biome;
+import net.minecraft.world.level.biome.BiomeGenerationSettings;
+import net.minecraft.world.level.biome.BiomeSpecialEffects;
+import net.minecraft.world.level.biome.MobSpawnSettings;
+import net.minecraft.world.level.levelgen.XoroshiroRandomSource;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import net.dries007.tfc.TestHelper;
+import net.dries007.tfc.world.biome.BiomeExtension;
+import net.dries007.tfc.world.biome.BiomeSourceExtension;
+import net.dries007.tfc.world.layer.TFCLayers;
+import net.dries007.tfc.world.layer.framework.ConcurrentArea;
+import net.dries007.tfc.world.region.RegionGenerator;
+import net.dries007.tfc.world.region.RegionPartition;
+import net.dries007.tfc.world.region.Units;
+import net.dries007.tfc.world.settings.Settings;
+
+/**
+ * Shared, fixed seed, world generation state for benchmarks. This mirrors what {@link net.dries007.tfc.world.TFCChunkGenerator#initRandomState} sets up, without requiring a server or any registries beyond vanilla.
+ * Instead of a biome registry, each {@link BiomeExtension} is mapped to a minimal, unregistered, direct biome holder, with no features or spawns, which is enough for code that only needs a distinct biome per extension.
+ */
+@State(Scope.Benchmark)
+public class WorldgenState
+{
+    public static final long SEED = 1798237841231L;
+    public static final Settings SETTINGS = new Settings(false, 0, 0, 0, 20_000, 0, 20_000, 0, null, 0.5f, 0.5f);
+
+    public static RegionGenerator createRegionGenerator()
+    {
+        return new RegionGenerator(SETTINGS, new XoroshiroRandomSource(SEED), null);
+    }
+
+    private static Holder<Biome> createBiome()
+    {
+        return Holder.direct(new Biome.BiomeBuilder()
+            .hasPrecipitation(false)
+            .temperature(0.5f)
+            .downfall(0.5f)
+            .specialEffects(new BiomeSpecialEffects.Builder()
+                .fogColor(0xC0D8FF)
+                .waterColor(0x3F76E4)
+                .waterFogColor(0x050533)
+                .skyColor(0x78A7FF)
+                .build())
+            .mobSpawnSettings(MobSpawnSettings.EMPTY)
+            .generationSettings(BiomeGenerationSettings.EMPTY)
+            .build());
+    }
+
+    public final Map<BiomeExtension, Holder<Biome>> biomes = new ConcurrentHashMap<>();
+
+    public RegionGenerator regionGenerator;
+    public ConcurrentArea<BiomeExtension> biomeLayer;
+    public BiomeSourceExtension biomeSource;
+
+    @Setup
+    public void setup()
+    {
+        TestHelper.bootstrap();
+
+        regionGenerator = createRegionGenerator();
+        biomeLayer = new ConcurrentArea<>(TFCLayers.createRegionBiomeLayer(regionGenerator, SEED), TFCLayers::getFromLayerId);
+        biomeSource = new BiomeSourceExtension()
+        {
+            @Override
+            public BiomeExtension getBiomeExtensionNoRiver(int quartX, int quartZ)
+            {
+                return biomeLayer.get(quartX, quartZ);
+            }
+
+            @Override
+            public Holder<Biome> getBiomeFromExtension(BiomeExtension extension)
+            {
+                return biomes.computeIfAbsent(extension, e -> createBiome());
+            }
+
+            @Override
+            public RegionPartition.Point getPartition(int blockX, int blockZ)
+            {
+                return regionGenerator.getOrCreatePartitionPoint(Units.blockToGrid(blockX), Units.blockToGrid(blockZ));
+            }
+        };
+    }
+}
@@ -111,6 +111,7 @@ import net.minecraftforge.event.entity.player.PlayerEvent;
 import net.minecraftforge.event.entity.player.PlayerInteractEvent;
 import net.minecraftforge.event.level.BlockEvent;
 import net.minecraftforge.event.level.ChunkDataEvent;
+import net.minecraftforge.event.level.ChunkEvent;
 import net.minecraftforge.event.level.ChunkWatchEvent;
 import net.minecraftforge.event.level.ExplosionEvent;
 import net.minecraftforge.event.level.LevelEvent;
@@ -215,6 +216,7 @@ import net.dries007.tfc.util.events.DouseFireEvent;
 import net.dries007.tfc.util.events.LoggingEvent;
 import net.dries007.tfc.util.events.SelectClimateModelEvent;
 import net.dries007.tfc.util.events.StartFireEvent;
+import net.dries007.tfc.util.tracker.HydrationCache;
 import net.dries007.tfc.util.tracker.WeatherHelpers;
 import net.dries007.tfc.util.tracker.WorldTracker;
 import net.dries007.tfc.util.tracker.WorldTrackerCapability;
@@ -241,6 +243,8 @@ public final class ForgeEventHandler
         bus.addListener(ForgeEventHandler::onChunkWatch);
         bus.addListener(ForgeEventHandler::onChunkDataSave);
         bus.addListener(ForgeEventHandler::onChunkDataLoad);
+        bus.addListener(ForgeEventHandler::onChunkLoad);
+        bus.addListener(ForgeEventHandler::onChunkUnload);
         bus.addListener(ForgeEventHandler::registerCommands);
         bus.addListener(ForgeEventHandler::onBlockBroken);
         bus.addListener(ForgeEventHandler::onBlockPlace);
@@ -452,6 +456,29 @@ public final class ForgeEventHandler
         }
     }
 
+    public static void onChunkLoad(ChunkEvent.Load event)
+    {
+        if (event.getLevel() instanceof Level level && event.getChunk() instanceof LevelChunk)
+        {
+            WorldTracker.get(level).getHydrationCache().onChunkChanged(event.getChunk().getPos());
+        }
+    }
+
+    public static void onChunkUnload(ChunkEvent.Unload event)
+    {
+        if (event.getLevel() instanceof Level level && event.getChunk() instanceof LevelChunk)
+        {
+            final WorldTracker tracker = WorldTracker.get(level);
+            tracker.getHydrationCache().onChunkChanged(event.getChunk().getPos());
+            tracker.getRotationManager().onChunkUnloaded(event.getChunk());
+            if (!level.isClientSide())
+            {
+                tracker.getSupportIndex().onChunkUnloaded(event.getChunk().getPos());
+                tracker.getEnvironmentTicker().onChunkUnloaded(event.getChunk().getPos());
+            }
+        }
+    }
+
     public static void registerCommands(RegisterCommandsEvent event)
     {
         LOGGER.debug("Registering TFC Commands");
@@ -1506,6 +1533,7 @@ public final class ForgeEventHandler
 
             // Then apply post reload actions which may query the cache
             Support.updateMaximumSupportRange();
+            HydrationCache.invalidateAll();
             Metal.updateMetalFluidMap();
 
             ItemSizeManager.applyItemStackSizeOverrides();
@@ -0,0 +1,170 @@
+/*
+ * Licensed under the EUPL, Version 1.2.
+ * You may obtain a copy of the Licence at:
+ * https://joinup.ec.europa.eu/collection/eupl/eupl-text-eupl-12
+ */
+
+package net.dries007.tfc.client;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.SectionPos;
+import net.minecraft.world.level.ChunkPos;
+import net.minecraft.world.level.Level;
+import org.jetbrains.annotations.Nullable;
+
+import net.dries007.tfc.util.calendar.Calendars;
+import net.dries007.tfc.util.calendar.ICalendar;
+import net.dries007.tfc.util.climate.Climate;
+import net.dries007.tfc.util.climate.OverworldClimateModel;
+import net.dries007.tfc.world.TFCChunkGenerator;
+import net.dries007.tfc.world.chunkdata.ChunkData;
+
+/**
+ * A cache, per chunk, of the climate used by {@link TFCColors} to tint blocks, which is queried for every tinted block when a chunk is meshed.
+ * <ul>
+ *     <li>Each chunk stores, per column, the rainfall, average temperature, and the temperature at sea level. The latter is computed at a fixed time in the middle of the current month, so it is only recomputed when the month changes.</li>
+ *     <li>Above sea level, an {@link OverworldClimateModel} only adjusts temperature linearly by elevation, so the temperature at any height can be recovered from the temperature at sea level. Below sea level, or in other climate models, this falls back to querying {@link Climate} directly.</li>
+ *     <li>Cached chunks are invalidated when the chunk is unloaded, or new chunk data is received in a {@link net.dries007.tfc.network.ChunkWatchPacket}.</li>
+ * </ul>
+ * This is accessed from chunk meshing threads. Like vanilla's {@link net.minecraft.client.color.block.BlockTintCache}, each thread remembers the last chunk it queried, which is checked without locking, as meshing a chunk queries the same chunk for every tinted block. Otherwise, access to the cache is synchronized.
+ * <p>
+ * Every invalidation increments a generation counter, which both expires each thread's last chunk, and prevents an entry which was computed concurrently with an invalidation from being cached, as it may have been computed from stale chunk data.
+ */
+public enum ChunkClimateCache
+{
+    INSTANCE;
+
+    private final Long2ObjectOpenHashMap<Entry> chunks = new Long2ObjectOpenHashMap<>();
+    private final ThreadLocal<LastEntry> lastEntry = new ThreadLocal<>();
+    private volatile @Nullable Level level;
+    private volatile int generation;
+
+    public float getTemperature(Level level, BlockPos pos)
+    {
+        final @Nullable Entry entry = pos.getY() >= TFCChunkGenerator.SEA_LEVEL_Y ? get(level, pos) : null;
+        return entry != null
+            ? OverworldClimateModel.getAdjustedAverageTempByElevation(pos.getY(), entry.temperature[index(pos)])
+            : Climate.getTemperature(level, pos);
+    }
+
+    public float getAverageTemperature(Level level, BlockPos pos)
+    {
+        final @Nullable Entry entry = get(level, pos);
+        return entry != null ? entry.averageTemperature[index(pos)] : Climate.getAverageTemperature(level, pos);
+    }
+
+    public float getRainfall(Level level, BlockPos pos)
+    {
+        final @Nullable Entry entry = get(level, pos);
+        return entry != null ? entry.rainfall[index(pos)] : Climate.getRainfall(level, pos);
+    }
+
+    public synchronized void invalidate(ChunkPos pos)
+    {
+        chunks.remove(pos.toLong());
+        generation++;
+    }
+
+    public synchronized void clear()
+    {
+        chunks.clear();
+        level = null;
+        generation++;
+    }
+
+    /**
+     * @return The cached climate for the chunk at {@code pos}, or computes and caches it. Returns {@code null} if the climate for this chunk cannot be cached.
+     */
+    @Nullable
+    private Entry get(Level level, BlockPos pos)
+    {
+        final long month = Calendars.CLIENT.getTotalCalendarMonths();
+        final long key = ChunkPos.asLong(SectionPos.blockToSectionCoord(pos.getX()), SectionPos.blockToSectionCoord(pos.getZ()));
+
+        // Any change of level also increments the generation, so a matching generation means the last entry belongs to this level
+        final @Nullable LastEntry last = lastEntry.get();
+        if (last != null && last.key == key && last.generation == generation && level == this.level && last.entry.month == month)
+        {
+            return last.entry;
+        }
+
+        final int expectedGeneration;
+        synchronized (this)
+        {
+            if (level != this.level)
+            {
+                chunks.clear();
+                this.level = level;
+                generation++;
+            }
+            final @Nullable Entry entry = chunks.get(key);
+            if (entry != null && entry.month == month)
+            {
+                lastEntry.set(new LastEntry(key, generation, entry));
+                return entry;
+            }
+            expectedGeneration = generation;
+        }
+
+        final @Nullable Entry entry = compute(level, new ChunkPos(key), month);
+        if (entry != null)
+        {
+            synchronized (this)
+            {
+                if (generation == expectedGeneration)
+                {
+                    chunks.put(key, entry);
+                    lastEntry.set(new LastEntry(key, generation, entry));
+                }
+            }
+        }
+        return entry;
+    }
+
+    @Nullable
+    private Entry compute(Level level, ChunkPos chunkPos, long month)
+    {
+        final OverworldClimateModel model = OverworldClimateModel.getIfPresent(level);
+        final ChunkData data = ChunkData.get(level, chunkPos);
+        if (model == null || data.status() != ChunkData.Status.CLIENT)
+        {
+            // Don't cache missing data, as it will be available once the chunk watch packet arrives
+            return null;
+        }
+
+        final int daysInMonth = Calendars.CLIENT.getCalendarDaysInMonth();
+        final long calendarTicks = (month * daysInMonth + daysInMonth / 2) * ICalendar.TICKS_IN_DAY;
+        final Entry entry = new Entry(month, new float[16 * 16], new float[16 * 16], new float[16 * 16]);
+        final BlockPos.MutableBlockPos cursor = new BlockPos.MutableBlockPos();
+        for (int x = 0; x < 16; x++)
+        {
+            for (int z = 0; z < 16; z++)
+            {
+                cursor.set(chunkPos.getBlockX(x), TFCChunkGenerator.SEA_LEVEL_Y, chunkPos.getBlockZ(z));
+
+                final int index = index(cursor);
+                entry.temperature[index] = model.getTemperature(level, cursor, data, calendarTicks, daysInMonth);
+                entry.averageTemperature[index] = data.getAverageTemp(cursor);
+                entry.rainfall[index] = data.getRainfall(cursor);
+            }
+        }
+        return entry;
+    }
+
+    private static int index(BlockPos pos)
+    {
+        return (pos.getX() & 15) | ((pos.getZ() & 15) << 4);
+    }
+
+    /**
+     * @param month The calendar month that {@code temperature} was computed for
+     * @param temperature The temperature at sea level, per column
+     */
+    private record Entry(long month, float[] temperature, float[] averageTemperature, float[] rainfall) {}
+
+    /**
+     * The last chunk queried by a thread, which is only valid while the cache is at {@code generation}.
+     */
+    private record LastEntry(long key, int generation, Entry entry) {}
+}
@@ -56,6 +56,7 @@ import net.minecraftforge.client.gui.overlay.VanillaGuiOverlay;
 import net.minecraftforge.common.MinecraftForge;
 import net.minecraftforge.event.TickEvent;
 import net.minecraftforge.event.entity.player.ItemTooltipEvent;
+import net.minecraftforge.event.level.ChunkEvent;
 import net.minecraftforge.eventbus.api.IEventBus;
 import net.minecraftforge.fluids.FluidStack;
 import net.minecraftforge.network.PacketDistributor;
@@ -129,6 +130,7 @@ public class ClientForgeEventHandler
         bus.addListener(ClientForgeEventHandler::onClientPlayerLoggedIn);
         bus.addListener(ClientForgeEventHandler::onClientPlayerLoggedOut);
         bus.addListener(ClientForgeEventHandler::onClientTick);
+        bus.addListener(ClientForgeEventHandler::onChunkUnload);
         bus.addListener(ClientForgeEventHandler::onKeyEvent);
         bus.addListener(ClientForgeEventHandler::onScreenKey);
         bus.addListener(ClientForgeEventHandler::onHighlightBlockEvent);
@@ -406,6 +408,7 @@ public class ClientForgeEventHandler
         {
             Calendars.CLIENT.resetToDefault();
             IndirectHashCollection.clearAllCaches();
+            ChunkClimateCache.INSTANCE.clear();
         }
     }
 
@@ -420,6 +423,14 @@ public class ClientForgeEventHandler
         }
     }
 
+    public static void onChunkUnload(ChunkEvent.Unload event)
+    {
+        if (event.getLevel().isClientSide())
+        {
+            ChunkClimateCache.INSTANCE.invalidate(event.getChunk().getPos());
+        }
+    }
+
     private static void tickWind()
     {
         if (!TFCConfig.CLIENT.enableWindParticles.get())
@@ -16,7 +16,6 @@ import net.minecraft.world.level.BlockAndTintGetter;
 import net.minecraft.world.level.ColorResolver;
 import net.minecraft.world.level.CommonLevelAccessor;
 import net.minecraft.world.level.Level;
-import net.minecraft.world.level.LevelAccessor;
 import net.minecraft.world.level.LevelReader;
 import net.minecraft.world.level.biome.Biome;
 
@@ -27,11 +26,9 @@ import net.dries007.tfc.util.Helpers;
 import net.dries007.tfc.util.calendar.Calendars;
 import net.dries007.tfc.util.calendar.Month;
 import net.dries007.tfc.util.calendar.Season;
-import net.dries007.tfc.util.climate.Climate;
 import net.dries007.tfc.util.climate.OverworldClimateModel;
 import net.dries007.tfc.world.TFCChunkGenerator;
 import net.dries007.tfc.world.biome.TFCBiomes;
-import net.dries007.tfc.world.chunkdata.ChunkData;
 
 import net.minecraft.world.level.block.Block;
 import net.minecraft.world.level.block.state.BlockState;
@@ -159,10 +156,9 @@ public final class TFCColors
     /**
      * Gets a color based on average temperature and time of year. Autumn occurs at different times of the year at height-adjusted average temperatures from the poles to 12c
      */
-    private static int getSeasonalFoliageColor(BlockPos pos, LevelAccessor level, int autumnIndex)
+    private static int getSeasonalFoliageColor(BlockPos pos, Level level, int autumnIndex)
     {
-        ChunkData data = ChunkData.get(level, pos);
-        float temp = OverworldClimateModel.getAdjustedAverageTempByElevation(pos, data);
+        final float temp = OverworldClimateModel.getAdjustedAverageTempByElevation(pos.getY(), ChunkClimateCache.INSTANCE.getAverageTemperature(level, pos));
         float timeOfYear = Calendars.CLIENT.getCalendarFractionOfYear();
         final float tempClamped = temp > 12f ? 12f : Math.max(temp, -20f);
 
@@ -264,8 +260,8 @@ public final class TFCColors
         final Level level = ClientHelpers.getLevel();
         if (level != null)
         {
-            final float temperature = Climate.getTemperature(level, pos);
-            final float rainfall = Climate.getRainfall(level, pos);
+            final float temperature = ChunkClimateCache.INSTANCE.getTemperature(level, pos);
+            final float rainfall = ChunkClimateCache.INSTANCE.getRainfall(level, pos);
             return getClimateColor(colorCache, temperature, rainfall);
         }
         return 0;
@@ -276,8 +272,8 @@ public final class TFCColors
         final Level level = ClientHelpers.getLevel();
         if (level != null)
         {
-            final float averageTemperature = Climate.getAverageTemperature(level, pos);
-            final float rainfall = Climate.getRainfall(level, pos);
+            final float averageTemperature = ChunkClimateCache.INSTANCE.getAverageTemperature(level, pos);
+            final float rainfall = ChunkClimateCache.INSTANCE.getRainfall(level, pos);
             return getClimateColor(colorCache, averageTemperature, rainfall);
         }
         return 0;
@@ -288,7 +284,7 @@ public final class TFCColors
         final Level level = ClientHelpers.getLevel();
         if (level != null)
         {
-            final float rainfall = Climate.getRainfall(level, pos);
+            final float rainfall = ChunkClimateCache.INSTANCE.getRainfall(level, pos);
             return getClimateColor(colorCache, averageTemperature, rainfall);
         }
         return 0;
@@ -69,7 +69,10 @@ public abstract class AbstractFirepitBlockEntity<C extends IItemHandlerModifiabl
     public static void serverTick(Level level, BlockPos pos, BlockState state, AbstractFirepitBlockEntity<?> firepit)
     {
         firepit.checkForLastTickSync();
-        firepit.checkForCalendarUpdate();
+        if (firepit.checkForCalendarUpdate())
+        {
+            return; // Waiting to catch up, so don't tick until then
+        }
 
         if (firepit.needsRecipeUpdate)
         {
@@ -44,7 +44,6 @@ import net.dries007.tfc.common.container.AnvilContainer;
 import net.dries007.tfc.common.container.AnvilPlanContainer;
 import net.dries007.tfc.common.container.ISlotCallback;
 import net.dries007.tfc.common.recipes.AnvilRecipe;
-import net.dries007.tfc.common.recipes.TFCRecipeTypes;
 import net.dries007.tfc.common.recipes.WeldingRecipe;
 import net.dries007.tfc.util.Helpers;
 import net.dries007.tfc.util.advancements.TFCAdvancements;
@@ -407,7 +406,7 @@ public class AnvilBlockEntity extends InventoryBlockEntity<AnvilBlockEntity.Anvi
 
         assert level != null;
 
-        final WeldingRecipe recipe = level.getRecipeManager().getRecipeFor(TFCRecipeTypes.WELDING.get(), inventory, level).orElse(null);
+        final @Nullable WeldingRecipe recipe = WeldingRecipe.get(level, inventory);
         if (recipe != null)
         {
             if (!recipe.isCorrectTier(getTier()))
@@ -23,7 +23,6 @@ import net.minecraft.world.entity.player.Inventory;
 import net.minecraft.world.entity.player.Player;
 import net.minecraft.world.inventory.AbstractContainerMenu;
 import net.minecraft.world.item.ItemStack;
-import net.minecraft.world.item.crafting.RecipeManager;
 import net.minecraft.world.level.Level;
 import net.minecraft.world.level.block.entity.BlockEntity;
 import net.minecraft.world.level.block.state.BlockState;
@@ -60,8 +59,9 @@ import net.dries007.tfc.common.capabilities.size.Weight;
 import net.dries007.tfc.common.container.BarrelContainer;
 import net.dries007.tfc.common.fluids.FluidHelpers;
 import net.dries007.tfc.common.recipes.BarrelRecipe;
+import net.dries007.tfc.common.recipes.InstantBarrelRecipe;
+import net.dries007.tfc.common.recipes.InstantFluidBarrelRecipe;
 import net.dries007.tfc.common.recipes.SealedBarrelRecipe;
-import net.dries007.tfc.common.recipes.TFCRecipeTypes;
 import net.dries007.tfc.common.recipes.inventory.EmptyInventory;
 import net.dries007.tfc.config.TFCConfig;
 import net.dries007.tfc.util.Helpers;
@@ -90,7 +90,10 @@ public class BarrelBlockEntity extends TickableInventoryBlockEntity<BarrelBlockE
         }
 
         barrel.checkForLastTickSync();
-        barrel.checkForCalendarUpdate();
+        if (barrel.checkForCalendarUpdate())
+        {
+            return; // Waiting to catch up, so don't tick until then
+        }
 
         if (level.getGameTime() % 5 == 0)
         {
@@ -137,10 +140,8 @@ public class BarrelBlockEntity extends TickableInventoryBlockEntity<BarrelBlockE
             barrel.needsInstantRecipeUpdate = false;
             if (barrel.inventory.excess.isEmpty()) // Excess must be empty for instant recipes to apply
             {
-                final RecipeManager recipeManager = level.getRecipeManager();
-                Optional.<BarrelRecipe>empty() // For type erasure
-                    .or(() -> recipeManager.getRecipeFor(TFCRecipeTypes.BARREL_INSTANT.get(), barrel.inventory, level))
-                    .or(() -> recipeManager.getRecipeFor(TFCRecipeTypes.BARREL_INSTANT_FLUID.get(), barrel.inventory, level))
+                Optional.<BarrelRecipe>ofNullable(InstantBarrelRecipe.get(barrel.inventory))
+                    .or(() -> Optional.ofNullable(InstantFluidBarrelRecipe.get(barrel.inventory)))
                     .ifPresent(instantRecipe -> {
                         instantRecipe.assembleOutputs(barrel.inventory);
                         if (barrel.soundCooldownTicks == 0)
@@ -487,7 +488,7 @@ public class BarrelBlockEntity extends TickableInventoryBlockEntity<BarrelBlockE
         if (inventory.excess.isEmpty())
         {
             // Will only work on a recipe as long as the 'excess' is empty
-            recipe = level.getRecipeManager().getRecipeFor(TFCRecipeTypes.BARREL_SEALED.get(), inventory, level).orElse(null);
+            recipe = SealedBarrelRecipe.get(inventory);
             if (recipe != null && oldRecipe != recipe && (oldRecipe == null || !oldRecipe.getId().equals(recipe.getId())))
             {
                 // The recipe has changed to a new one, so update the recipe ticks
@@ -544,7 +545,7 @@ public class BarrelBlockEntity extends TickableInventoryBlockEntity<BarrelBlockE
         {
             if (recipe == null)
             {
-                recipe = level.getRecipeManager().getRecipeFor(TFCRecipeTypes.BARREL_SEALED.get(), inventory, level).orElse(null);
+                recipe = SealedBarrelRecipe.get(inventory);
             }
             if (recipe != null)
             {
@@ -66,7 +66,10 @@ public class BlastFurnaceBlockEntity extends TickableInventoryBlockEntity<BlastF
     public static void serverTick(Level level, BlockPos pos, BlockState state, BlastFurnaceBlockEntity entity)
     {
         entity.checkForLastTickSync();
-        entity.checkForCalendarUpdate();
+        if (entity.checkForCalendarUpdate())
+        {
+            return; // Waiting to catch up, so don't tick until then
+        }
 
         if (level.getGameTime() % 20 == 0)
         {
@@ -7,7 +7,6 @@
 package net.dries007.tfc.common.blockentities;
 
 import java.util.ArrayList;
-import java.util.Collection;
 import java.util.List;
 
 import net.minecraft.core.BlockPos;
@@ -31,7 +30,6 @@ import net.dries007.tfc.common.blocks.devices.BloomeryBlock;
 import net.dries007.tfc.common.capabilities.heat.HeatCapability;
 import net.dries007.tfc.common.recipes.BloomeryRecipe;
 import net.dries007.tfc.common.recipes.HeatingRecipe;
-import net.dries007.tfc.common.recipes.TFCRecipeTypes;
 import net.dries007.tfc.common.recipes.inventory.ItemStackInventory;
 import net.dries007.tfc.config.TFCConfig;
 import net.dries007.tfc.util.Helpers;
@@ -51,7 +49,10 @@ public class BloomeryBlockEntity extends TickableInventoryBlockEntity<ItemStackH
     public static void serverTick(Level level, BlockPos pos, BlockState state, BloomeryBlockEntity bloomery)
     {
         bloomery.checkForLastTickSync();
-        bloomery.checkForCalendarUpdate();
+        if (bloomery.checkForCalendarUpdate())
+        {
+            return; // Waiting to catch up, so don't tick until then
+        }
 
         if (level.getGameTime() % 20 == 0)
         {
@@ -324,10 +325,8 @@ public class BloomeryBlockEntity extends TickableInventoryBlockEntity<ItemStackH
         {
             assert inputStacks.isEmpty(); // If the cached recipe is null, we must have no inputs
 
-            final Collection<BloomeryRecipe> recipes = Helpers.getRecipes(level, TFCRecipeTypes.BLOOMERY).values();
             final ItemStackInventory inventory = new ItemStackInventory();
 
-            loop:
             for (ItemEntity entity : itemEntities)
             {
                 // Optimization: pre-melt each input stack, and only check against the bloomery recipe's fluid input
@@ -336,16 +335,13 @@ public class BloomeryBlockEntity extends TickableInventoryBlockEntity<ItemStackH
                 final @Nullable HeatingRecipe heat = HeatingRecipe.getRecipe(inventory);
                 if (heat != null)
                 {
-                    final FluidStack fluid = heat.assembleFluid(inventory);
-                    for (BloomeryRecipe recipe : recipes)
+                    final @Nullable BloomeryRecipe recipe = BloomeryRecipe.get(heat.assembleFluid(inventory));
+                    if (recipe != null)
                     {
-                        if (recipe.matchesInput(fluid))
-                        {
-                            // Located a recipe that matches a primary input, so break
-                            cachedRecipe = recipe;
-                            markForSync();
-                            break loop;
-                        }
+                        // Located a recipe that matches a primary input, so break
+                        cachedRecipe = recipe;
+                        markForSync();
+                        break;
                     }
                 }
             }
@@ -469,7 +465,6 @@ public class BloomeryBlockEntity extends TickableInventoryBlockEntity<ItemStackH
 
         cachedRecipe = null;
 
-        final Collection<BloomeryRecipe> recipes = Helpers.getRecipes(level, TFCRecipeTypes.BLOOMERY).values();
         final ItemStackInventory inventory = new ItemStackInventory();
         for (ItemStack stack : inputStacks)
         {
@@ -479,15 +474,12 @@ public class BloomeryBlockEntity extends TickableInventoryBlockEntity<ItemStackH
             final @Nullable HeatingRecipe heat = HeatingRecipe.getRecipe(inventory);
             if (heat != null)
             {
-                final FluidStack fluid = heat.assembleFluid(inventory);
-                for (BloomeryRecipe recipe : recipes)
+                final @Nullable BloomeryRecipe recipe = BloomeryRecipe.get(heat.assembleFluid(inventory));
+                if (recipe != null)
                 {
-                    if (recipe.matchesInput(fluid))
-                    {
-                        // Located a recipe that matches one of our primary inputs
-                        cachedRecipe = recipe;
-                        return;
-                    }
+                    // Located a recipe that matches one of our primary inputs
+                    cachedRecipe = recipe;
+                    return;
                 }
             }
         }
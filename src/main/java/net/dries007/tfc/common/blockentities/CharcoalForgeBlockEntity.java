@@ -7,6 +7,7 @@
 package net.dries007.tfc.common.blockentities;
 
 import java.util.Arrays;
+import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.Direction;
 import net.minecraft.nbt.CompoundTag;
@@ -47,7 +48,7 @@ import net.dries007.tfc.util.calendar.ICalendarTickable;
 
 import static net.dries007.tfc.TerraFirmaCraft.*;
 
-public class CharcoalForgeBlockEntity extends TickableInventoryBlockEntity<ItemStackHandler> implements ICalendarTickable, MenuProvider
+public class CharcoalForgeBlockEntity extends TickableInventoryBlockEntity<ItemStackHandler> implements ICalendarTickable, MenuProvider, DeviceSync.Target
 {
     public static final int SLOT_FUEL_MIN = 0;
     public static final int SLOT_FUEL_MAX = 4;
@@ -67,7 +68,10 @@ public class CharcoalForgeBlockEntity extends TickableInventoryBlockEntity<ItemS
     public static void serverTick(Level level, BlockPos pos, BlockState state, CharcoalForgeBlockEntity forge)
     {
         forge.checkForLastTickSync();
-        forge.checkForCalendarUpdate();
+        if (forge.checkForCalendarUpdate())
+        {
+            return; // Waiting to catch up, so don't tick until then
+        }
 
         if (forge.needsRecipeUpdate)
         {
@@ -136,7 +140,15 @@ public class CharcoalForgeBlockEntity extends TickableInventoryBlockEntity<ItemS
                     forge.handleInputMelting(stack, slot);
                 }
             }
-            forge.markForSync();
+
+            // Temperatures change every tick, so only sync what visibly changed, rather than the whole forge
+            forge.markDirty();
+            forge.deviceSync.sync(forge, forge.temperature, forge.burnTicks, forge.inventory);
+        }
+        else if (forge.deviceSync.isPending())
+        {
+            // The forge has cooled, but the last sync was rate limited for some players, so keep retrying until they see it cold
+            forge.deviceSync.sync(forge, forge.temperature, forge.burnTicks, forge.inventory);
         }
 
         // This is here to avoid duplication glitches
@@ -155,6 +167,7 @@ public class CharcoalForgeBlockEntity extends TickableInventoryBlockEntity<ItemS
     private int airTicks; // Ticks of air provided by bellows
     private long lastPlayerTick; // Last player tick this forge was ticked (for purposes of catching up)
     private boolean needsRecipeUpdate; // Set to indicate on tick, the cached recipes need to be re-updated
+    private final DeviceSync deviceSync = new DeviceSync(14);
 
     public CharcoalForgeBlockEntity(BlockPos pos, BlockState state)
     {
@@ -242,6 +255,24 @@ public class CharcoalForgeBlockEntity extends TickableInventoryBlockEntity<ItemS
         return airTicks;
     }
 
+    @Override
+    public void onDeviceSync(float temperature, int burnTicks, Int2ObjectMap<ItemStack> slots)
+    {
+        this.temperature = temperature;
+        this.burnTicks = burnTicks;
+        for (Int2ObjectMap.Entry<ItemStack> entry : slots.int2ObjectEntrySet())
+        {
+            inventory.setStackInSlot(entry.getIntKey(), entry.getValue());
+        }
+    }
+
+    @Override
+    public void sendVanillaUpdatePacket()
+    {
+        super.sendVanillaUpdatePacket();
+        deviceSync.reset();
+    }
+
     public void onFirstCreation()
     {
         burnTicks = 200;
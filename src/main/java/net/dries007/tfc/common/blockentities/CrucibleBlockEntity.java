@@ -64,7 +64,10 @@ public class CrucibleBlockEntity extends TickableInventoryBlockEntity<CrucibleBl
     public static void serverTick(Level level, BlockPos pos, BlockState state, CrucibleBlockEntity crucible)
     {
         crucible.checkForLastTickSync();
-        crucible.checkForCalendarUpdate();
+        if (crucible.checkForCalendarUpdate())
+        {
+            return; // Waiting to catch up, so don't tick until then
+        }
 
         if (crucible.needsRecipeUpdate)
         {
@@ -0,0 +1,221 @@
+/*
+ * Licensed under the EUPL, Version 1.2.
+ * You may obtain a copy of the Licence at:
+ * https://joinup.ec.europa.eu/collection/eupl/eupl-text-eupl-12
+ */
+
+package net.dries007.tfc.common.blockentities;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.function.BiConsumer;
+import it.unimi.dsi.fastutil.ints.Int2ObjectArrayMap;
+import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
+import net.minecraft.core.BlockPos;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.level.ChunkPos;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.level.block.entity.BlockEntity;
+import net.minecraftforge.items.IItemHandler;
+import net.minecraftforge.network.PacketDistributor;
+import org.jetbrains.annotations.Nullable;
+import org.jetbrains.annotations.VisibleForTesting;
+
+import net.dries007.tfc.common.capabilities.heat.HeatCapability;
+import net.dries007.tfc.common.capabilities.heat.IHeat;
+import net.dries007.tfc.network.DeviceSyncPacket;
+import net.dries007.tfc.network.PacketHandler;
+
+/**
+ * A compact, field level sync for heating devices, which change their temperature, and the temperature of their contents, every tick while hot.
+ * <p>
+ * Rather than syncing the entire block entity via {@link TFCBlockEntity#markForSync()}, this only sends the device temperature, burn ticks, and the inventory slots that have changed, and only when a change is large enough to be visible.
+ * What was sent is tracked per player, and syncs are rate limited per player: each device syncs to a player at most once every {@link #MIN_SYNC_INTERVAL} ticks, and each player receives at most {@link #MAX_SYNCS_PER_PLAYER_PER_TICK} device syncs per tick, across all devices. A player who is over their limit simply receives a larger delta later.
+ * Any change which affects more than temperatures (i.e. items being added, removed, or converted) should still use a full sync.
+ */
+public final class DeviceSync
+{
+    /**
+     * The minimum change in temperature, of either the device or any item, which causes a sync.
+     */
+    public static final float TEMPERATURE_THRESHOLD = 1f;
+    public static final int MIN_SYNC_INTERVAL = 4;
+    public static final int MAX_SYNCS_PER_PLAYER_PER_TICK = 4;
+
+    private static final Map<Object, PlayerBudget> BUDGETS = new WeakHashMap<>();
+
+    private final int slots;
+    private final Map<Object, Sent> players;
+    private boolean pending;
+
+    public DeviceSync(int slots)
+    {
+        this.slots = slots;
+        this.players = new WeakHashMap<>();
+    }
+
+    /**
+     * Invalidates everything that was previously sent, so the next sync will include all non-empty slots.
+     * Call this after a full sync, as the client state is then unknown.
+     */
+    public void reset()
+    {
+        players.clear();
+        pending = false;
+    }
+
+    /**
+     * @return {@code true} if the last sync skipped at least one player due to rate limits. Devices must keep calling {@link #sync} while this is true, even once they stop changing temperature, otherwise the final change (i.e. cooling to zero) may never reach those players.
+     */
+    public boolean isPending()
+    {
+        return pending;
+    }
+
+    /**
+     * Called on server, every tick the device changes temperature, and after that while {@link #isPending()}. Sends a {@link DeviceSyncPacket} to each player watching the device, if anything visible has changed since the last sync to that player.
+     */
+    public <T extends BlockEntity & Target> void sync(T device, float temperature, int burnTicks, IItemHandler inventory)
+    {
+        final Level level = device.getLevel();
+        if (!(level instanceof ServerLevel serverLevel))
+        {
+            return;
+        }
+
+        final BlockPos pos = device.getBlockPos();
+        sync(serverLevel.getChunkSource().chunkMap.getPlayers(new ChunkPos(pos), false), level.getGameTime(), temperature, inventory,
+            (player, changedSlots) -> PacketHandler.send(PacketDistributor.PLAYER.with(() -> player), new DeviceSyncPacket(pos, temperature, burnTicks, changedSlots)));
+    }
+
+    /**
+     * Syncs to each of {@code players}, by invoking {@code sender} with the slots which have changed for that player, if anything visible has changed.
+     */
+    @VisibleForTesting
+    public <P> void sync(Iterable<P> players, long tick, float temperature, IItemHandler inventory, BiConsumer<P, Int2ObjectMap<ItemStack>> sender)
+    {
+        final int slots = Math.min(this.slots, inventory.getSlots());
+        float[] stackTemperatures = null;
+        pending = false;
+        for (P player : players)
+        {
+            final Sent sent = this.players.computeIfAbsent(player, key -> new Sent(this.slots));
+            final PlayerBudget budget = BUDGETS.computeIfAbsent(player, key -> new PlayerBudget());
+            if (tick - sent.lastSyncTick < MIN_SYNC_INTERVAL || !budget.hasRemaining(tick))
+            {
+                pending = true;
+                continue;
+            }
+
+            if (stackTemperatures == null)
+            {
+                stackTemperatures = new float[slots];
+                for (int slot = 0; slot < slots; slot++)
+                {
+                    stackTemperatures[slot] = getTemperature(inventory.getStackInSlot(slot));
+                }
+            }
+
+            final @Nullable Int2ObjectMap<ItemStack> changedSlots = sent.update(inventory, stackTemperatures, slots);
+            if (changedSlots == null && !isVisiblyDifferent(temperature, sent.temperature))
+            {
+                continue;
+            }
+
+            sent.temperature = temperature;
+            sent.lastSyncTick = tick;
+            budget.used++;
+            sender.accept(player, changedSlots == null ? new Int2ObjectArrayMap<>() : changedSlots);
+        }
+    }
+
+    private static float getTemperature(ItemStack stack)
+    {
+        final @Nullable IHeat heat = HeatCapability.get(stack);
+        return heat == null ? 0 : heat.getTemperature();
+    }
+
+    private static boolean isVisiblyDifferent(float temperature, float sentTemperature)
+    {
+        // Always sync a change to, or from, zero, as that is when devices and items visibly stop, or start, being hot
+        return Float.isNaN(sentTemperature) || Math.abs(temperature - sentTemperature) >= TEMPERATURE_THRESHOLD || (temperature == 0) != (sentTemperature == 0);
+    }
+
+    /**
+     * What was last sent to a single player.
+     */
+    private static final class Sent
+    {
+        final ItemStack[] stacks;
+        final float[] stackTemperatures;
+        float temperature = Float.NaN;
+        long lastSyncTick = Long.MIN_VALUE;
+
+        Sent(int slots)
+        {
+            this.stacks = new ItemStack[slots];
+            this.stackTemperatures = new float[slots];
+
+            Arrays.fill(stacks, ItemStack.EMPTY);
+            Arrays.fill(stackTemperatures, Float.NaN);
+        }
+
+        /**
+         * Records the current state of all slots which have visibly changed since they were last sent.
+         *
+         * @return The changed slots, or {@code null} if none have changed.
+         */
+        @Nullable
+        Int2ObjectMap<ItemStack> update(IItemHandler inventory, float[] currentTemperatures, int slots)
+        {
+            Int2ObjectMap<ItemStack> changedSlots = null;
+            for (int slot = 0; slot < slots; slot++)
+            {
+                final ItemStack stack = inventory.getStackInSlot(slot);
+                if (!ItemStack.isSameItemSameTags(stack, stacks[slot]) || stack.getCount() != stacks[slot].getCount() || isVisiblyDifferent(currentTemperatures[slot], stackTemperatures[slot]))
+                {
+                    if (changedSlots == null)
+                    {
+                        changedSlots = new Int2ObjectArrayMap<>();
+                    }
+                    changedSlots.put(slot, stack.copy());
+                    stacks[slot] = stack.copy();
+                    stackTemperatures[slot] = currentTemperatures[slot];
+                }
+            }
+            return changedSlots;
+        }
+    }
+
+    /**
+     * The number of device syncs sent to a single player in the current tick.
+     */
+    private static final class PlayerBudget
+    {
+        long tick = Long.MIN_VALUE;
+        int used;
+
+        boolean hasRemaining(long currentTick)
+        {
+            if (tick != currentTick)
+            {
+                tick = currentTick;
+                used = 0;
+            }
+            return used < MAX_SYNCS_PER_PLAYER_PER_TICK;
+        }
+    }
+
+    /**
+     * Implemented by block entities which receive a {@link DeviceSyncPacket} on client.
+     */
+    public interface Target
+    {
+        /**
+         * Called on client, to apply a sync. Only the slots which have changed are present in {@code slots}.
+         */
+        void onDeviceSync(float temperature, int burnTicks, Int2ObjectMap<ItemStack> slots);
+    }
+}
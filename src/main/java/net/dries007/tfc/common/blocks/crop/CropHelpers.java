@@ -17,6 +17,7 @@ import net.minecraft.world.entity.player.Player;
 import net.minecraft.world.item.ItemStack;
 import net.minecraft.world.level.Level;
 import net.minecraft.world.level.block.state.BlockState;
+import org.jetbrains.annotations.Nullable;
 
 import net.dries007.tfc.client.TFCSounds;
 import net.dries007.tfc.common.blockentities.CropBlockEntity;
@@ -54,31 +55,66 @@ public final class CropHelpers
     }
 
     /**
+     * Catches up on all growth since the crop was last ticked, in steps of at most {@link #UPDATE_INTERVAL}. Everything which is invariant over the whole period is computed once, and the temperature is sampled once at each step boundary, which matters when a crop is loaded after a long time.
+     *
      * @return {@code true} if the crop survived.
      */
     public static boolean growthTick(Level level, BlockPos pos, BlockState state, CropBlockEntity crop)
     {
         final long firstTick = crop.getLastGrowthTick(), thisTick = Calendars.SERVER.getTicks();
-        long tick = firstTick + CropHelpers.UPDATE_INTERVAL, lastTick = firstTick;
-        for (; tick < thisTick; tick += CropHelpers.UPDATE_INTERVAL)
+        if (firstTick >= thisTick)
         {
-            if (!CropHelpers.growthTickStep(level, pos, state, level.getRandom(), lastTick, tick, crop))
+            return true;
+        }
+
+        // Step boundaries are [firstTick, firstTick + interval, ..., thisTick]
+        final int steps = (int) ((thisTick - firstTick - 1) / UPDATE_INTERVAL) + 1;
+        final long[] ticks = new long[steps + 1];
+        final long[] calendarTicks = new long[steps + 1];
+        for (int i = 0; i < steps; i++)
+        {
+            ticks[i] = firstTick + i * UPDATE_INTERVAL;
+        }
+        ticks[steps] = thisTick;
+        for (int i = 0; i <= steps; i++)
+        {
+            calendarTicks[i] = Calendars.SERVER.ticksToCalendarTicks(ticks[i]);
+        }
+
+        final ICalendar calendar = Calendars.get(level);
+        final float[] temperatures = new float[steps + 1];
+        Climate.getTemperatures(level, pos, calendar, calendarTicks, temperatures);
+
+        final BlockPos sourcePos = pos.below();
+        final int hydration = FarmlandBlock.getHydration(level, sourcePos);
+        final IFarmland farmland = level.getBlockEntity(sourcePos) instanceof IFarmland f ? f : null;
+
+        for (int i = 0; i < steps; i++)
+        {
+            if (!growthTickStep(level, pos, state, level.getRandom(), ticks[i], ticks[i + 1], temperatures[i], temperatures[i + 1], hydration, farmland, crop))
             {
                 return false;
             }
-            lastTick = tick;
         }
-        return lastTick >= thisTick || CropHelpers.growthTickStep(level, pos, state, level.getRandom(), lastTick, thisTick, crop);
+        return true;
     }
 
     public static boolean growthTickStep(Level level, BlockPos pos, BlockState state, RandomSource random, long fromTick, long toTick, CropBlockEntity crop)
     {
-        // Calculate invariants
         final ICalendar calendar = Calendars.get(level);
         final BlockPos sourcePos = pos.below();
         final int hydration = FarmlandBlock.getHydration(level, sourcePos);
         final float startTemperature = Climate.getTemperature(level, pos, calendar, Calendars.SERVER.ticksToCalendarTicks(fromTick));
         final float endTemperature = Climate.getTemperature(level, pos, calendar, Calendars.SERVER.ticksToCalendarTicks(toTick));
+        final IFarmland farmland = level.getBlockEntity(sourcePos) instanceof IFarmland f ? f : null;
+
+        return growthTickStep(level, pos, state, random, fromTick, toTick, startTemperature, endTemperature, hydration, farmland, crop);
+    }
+
+    private static boolean growthTickStep(Level level, BlockPos pos, BlockState state, RandomSource random, long fromTick, long toTick, float startTemperature, float endTemperature, int hydration, @Nullable IFarmland farmland, CropBlockEntity crop)
+    {
+        // Calculate invariants
+        final ICalendar calendar = Calendars.get(level);
         final long tickDelta = toTick - fromTick;
 
         final ICropBlock cropBlock = (ICropBlock) state.getBlock();
@@ -91,7 +127,7 @@ public final class CropHelpers
 
         final FarmlandBlockEntity.NutrientType primaryNutrient = cropBlock.getPrimaryNutrient();
         float nutrientsAvailable = 0, nutrientsRequired = NUTRIENT_CONSUMPTION * tickDelta, nutrientsConsumed = 0;
-        if (level.getBlockEntity(sourcePos) instanceof IFarmland farmland)
+        if (farmland != null)
         {
             nutrientsAvailable = farmland.getNutrient(primaryNutrient);
             nutrientsConsumed = farmland.consumeNutrientAndResupplyOthers(primaryNutrient, nutrientsRequired);
@@ -43,6 +43,8 @@ import net.dries007.tfc.util.climate.Climate;
 import net.dries007.tfc.util.climate.ClimateModel;
 import net.dries007.tfc.util.climate.ClimateRange;
 import net.dries007.tfc.util.registry.RegistrySoilVariant;
+import net.dries007.tfc.util.tracker.HydrationCache;
+import net.dries007.tfc.util.tracker.WorldTracker;
 import net.dries007.tfc.world.chunkdata.ChunkData;
 
 public class FarmlandBlock extends Block implements ISoilBlock, HoeOverlayBlock, IForgeBlockExtension, EntityBlockExtension
@@ -101,7 +103,9 @@ public class FarmlandBlock extends Block implements ISoilBlock, HoeOverlayBlock,
         }
         final ChunkData data = ChunkData.get(level, pos);
         final float rainfall = data.getRainfall(pos); // Rainfall forms a baseline, providing up to 60% hydration
-        final int waterCost = findMinCostWater(level, pos); // Nearby water contributes an additional 0 - 80% hydration based on proximity
+        final int waterCost = level instanceof Level realLevel // Nearby water contributes an additional 0 - 80% hydration based on proximity
+            ? WorldTracker.get(realLevel).getHydrationCache().getWaterCost(pos, p -> findMinCostWater(level, p))
+            : findMinCostWater(level, pos);
         return Mth.clamp((int) (60 * rainfall / ClimateModel.MAXIMUM_RAINFALL) + 20 * (5 - waterCost), 0, 100);
     }
 
@@ -118,9 +122,9 @@ public class FarmlandBlock extends Block implements ISoilBlock, HoeOverlayBlock,
         final BlockPos.MutableBlockPos cursor = new BlockPos.MutableBlockPos();
 
         int minCostWater = 5;
-        for (int dx = -4; dx <= 4; dx++)
+        for (int dx = -HydrationCache.RANGE; dx <= HydrationCache.RANGE; dx++)
         {
-            for (int dz = -4; dz <= 4; dz++)
+            for (int dz = -HydrationCache.RANGE; dz <= HydrationCache.RANGE; dz++)
             {
                 for (int dy = -1; dy <= 0; dy++)
                 {
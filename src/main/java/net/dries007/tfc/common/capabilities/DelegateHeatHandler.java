@@ -8,6 +8,7 @@ package net.dries007.tfc.common.capabilities;
 
 
 import net.minecraft.nbt.CompoundTag;
+import net.minecraft.network.FriendlyByteBuf;
 
 import net.dries007.tfc.common.capabilities.heat.IHeat;
 
@@ -65,4 +66,22 @@ public interface DelegateHeatHandler extends IHeat
     {
         getHeatHandler().deserializeNBT(nbt);
     }
+
+    @Override
+    default boolean hasNetworkFormat()
+    {
+        return getHeatHandler().hasNetworkFormat();
+    }
+
+    @Override
+    default void writeToNetwork(FriendlyByteBuf buffer)
+    {
+        getHeatHandler().writeToNetwork(buffer);
+    }
+
+    @Override
+    default void readFromNetwork(FriendlyByteBuf buffer)
+    {
+        getHeatHandler().readFromNetwork(buffer);
+    }
 }
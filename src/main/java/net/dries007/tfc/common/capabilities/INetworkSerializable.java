@@ -0,0 +1,47 @@
+/*
+ * Licensed under the EUPL, Version 1.2.
+ * You may obtain a copy of the Licence at:
+ * https://joinup.ec.europa.eu/collection/eupl/eupl-text-eupl-12
+ */
+
+package net.dries007.tfc.common.capabilities;
+
+import net.minecraft.nbt.CompoundTag;
+import net.minecraft.network.FriendlyByteBuf;
+import net.minecraftforge.common.util.INBTSerializable;
+
+/**
+ * A capability which is synced by {@link ItemStackCapabilitySync}. By default, this is synced via NBT, but implementations may opt in to a compact binary format, which is much smaller and faster to encode than NBT.
+ * <p>
+ * The binary format must contain exactly the same information as {@link #serializeNBT()}. Implementations which extend another, and serialize additional data to NBT, must either also extend the binary format, or return {@code false} from {@link #hasNetworkFormat()}.
+ */
+public interface INetworkSerializable extends INBTSerializable<CompoundTag>
+{
+    /**
+     * @return {@code true} if this should be synced via {@link #writeToNetwork(FriendlyByteBuf)}, rather than NBT.
+     */
+    default boolean hasNetworkFormat()
+    {
+        return false;
+    }
+
+    /**
+     * Writes this in the compact binary format. Only called if {@link #hasNetworkFormat()} is {@code true}. By default, this falls back to writing NBT, but implementations which opt in should override this, as data longer than 255 bytes cannot be sent in the compact format, and is discarded and re-written as NBT.
+     */
+    default void writeToNetwork(FriendlyByteBuf buffer)
+    {
+        buffer.writeNbt(serializeNBT());
+    }
+
+    /**
+     * Reads this from the compact binary format, as written by {@link #writeToNetwork(FriendlyByteBuf)}. By default, this falls back to reading NBT.
+     */
+    default void readFromNetwork(FriendlyByteBuf buffer)
+    {
+        final CompoundTag tag = buffer.readNbt();
+        if (tag != null)
+        {
+            deserializeNBT(tag);
+        }
+    }
+}
@@ -10,7 +10,8 @@ import net.minecraft.nbt.CompoundTag;
 import net.minecraft.network.FriendlyByteBuf;
 import net.minecraft.world.item.ItemStack;
 import net.minecraftforge.common.capabilities.Capability;
-import net.minecraftforge.common.util.INBTSerializable;
+import org.jetbrains.annotations.Nullable;
+import org.jetbrains.annotations.VisibleForTesting;
 
 import net.dries007.tfc.common.capabilities.food.FoodCapability;
 import net.dries007.tfc.common.capabilities.heat.HeatCapability;
@@ -33,10 +34,17 @@ import net.dries007.tfc.common.capabilities.heat.HeatCapability;
  * Finally, in order to avoid issues caused by other mods due to incorrectly synced item stacks (see <a href="https://github.com/TerraFirmaCraft/TerraFirmaCraft/issues/2198">TerraFirmaCraft#2198</a>), we need to write and read this data in an as unconditional method as possible.
  * This means we cannot check for empty stacks, or those that do not have a capability. In the best case, we write an additional +1 bytes per item stack (a typical item stack has ~4-6 bytes default). This is about as least-cost that we can make it (in the worst case, we write 1 + two nbt tags).
  * <p>
+ * Each capability is written with a leading format byte: absent, NBT, or a compact binary format (see {@link INetworkSerializable}). The compact format is used by all standard food and heat implementations, and is typically several times smaller than NBT, and NBT is only used as a fallback for implementations that do not support it, or whose compact data is too long to be length prefixed.
+ * Compact data is length prefixed, so it can be skipped if the receiving stack has no matching capability. Any change to a compact format should also change the format byte.
+ * <p>
  * We also use a separate capability instance - the {@link HeatCapability#NETWORK_CAPABILITY} and {@link FoodCapability#NETWORK_CAPABILITY}. This is done as to be able to access underlying capability implementations without triggering any initialization which may rely on on-thread resources, such as accessing recipes or recipe caches.
  */
 public final class ItemStackCapabilitySync
 {
+    private static final byte FORMAT_ABSENT = 0;
+    private static final byte FORMAT_NBT = 1;
+    private static final byte FORMAT_COMPACT_V1 = 2;
+
     public static boolean hasSyncableCapability(ItemStack stack)
     {
         return stack.getCapability(FoodCapability.NETWORK_CAPABILITY).isPresent() || stack.getCapability(HeatCapability.NETWORK_CAPABILITY).isPresent();
@@ -72,19 +80,78 @@ public final class ItemStackCapabilitySync
         }
     }
 
-    private static void writeToNetwork(Capability<? extends INBTSerializable<CompoundTag>> capability, ItemStack stack, FriendlyByteBuf buffer)
+    private static void writeToNetwork(Capability<? extends INetworkSerializable> capability, ItemStack stack, FriendlyByteBuf buffer)
+    {
+        writeCapability(stack.getCapability(capability).resolve().orElse(null), buffer);
+    }
+
+    private static void readFromNetwork(Capability<? extends INetworkSerializable> capability, ItemStack stack, FriendlyByteBuf buffer)
     {
-        buffer.writeNbt(stack.getCapability(capability)
-            .map(INBTSerializable::serializeNBT)
-            .orElse(null));
+        readCapability(stack.getCapability(capability).resolve().orElse(null), buffer);
+    }
+
+    /**
+     * Writes a single capability, with a leading format byte, or {@link #FORMAT_ABSENT} if {@code cap} is {@code null}.
+     */
+    @VisibleForTesting
+    public static void writeCapability(@Nullable INetworkSerializable cap, FriendlyByteBuf buffer)
+    {
+        if (cap == null)
+        {
+            buffer.writeByte(FORMAT_ABSENT);
+        }
+        else
+        {
+            if (cap.hasNetworkFormat())
+            {
+                // Length prefixed, as a single byte, so the reader can always skip this if it cannot read it
+                final int formatIndex = buffer.writerIndex();
+                buffer.writeByte(FORMAT_COMPACT_V1);
+                buffer.writeByte(0);
+                cap.writeToNetwork(buffer);
+
+                final int length = buffer.writerIndex() - formatIndex - 2;
+                if (length <= 255)
+                {
+                    buffer.setByte(formatIndex + 1, length);
+                    return;
+                }
+
+                // Too long to be length prefixed, which can happen if an implementation opts in without overriding the default writeToNetwork(), so discard it and use NBT instead
+                buffer.writerIndex(formatIndex);
+            }
+            buffer.writeByte(FORMAT_NBT);
+            buffer.writeNbt(cap.serializeNBT());
+        }
     }
 
-    private static void readFromNetwork(Capability<? extends INBTSerializable<CompoundTag>> capability, ItemStack stack, FriendlyByteBuf buffer)
+    /**
+     * Reads a single capability, as written by {@link #writeCapability(INetworkSerializable, FriendlyByteBuf)}, into {@code cap}. If {@code cap} is {@code null}, or cannot read the format, the data is skipped.
+     */
+    @VisibleForTesting
+    public static void readCapability(@Nullable INetworkSerializable cap, FriendlyByteBuf buffer)
     {
-        final CompoundTag tag = buffer.readNbt();
-        if (tag != null)
+        final byte format = buffer.readByte();
+        switch (format)
         {
-            stack.getCapability(capability).ifPresent(cap -> cap.deserializeNBT(tag));
+            case FORMAT_ABSENT -> {}
+            case FORMAT_NBT -> {
+                final CompoundTag tag = buffer.readNbt();
+                if (tag != null && cap != null)
+                {
+                    cap.deserializeNBT(tag);
+                }
+            }
+            case FORMAT_COMPACT_V1 -> {
+                final int length = buffer.readUnsignedByte();
+                final int end = buffer.readerIndex() + length;
+                if (cap != null && cap.hasNetworkFormat())
+                {
+                    cap.readFromNetwork(buffer);
+                }
+                buffer.readerIndex(end); // Skip anything that was not read, if the capability is absent, or different on this side
+            }
+            default -> throw new IllegalStateException("Unknown capability sync format: " + format);
         }
     }
 }
@@ -8,6 +8,7 @@ package net.dries007.tfc.common.capabilities.food;
 
 import java.util.List;
 import net.minecraft.nbt.CompoundTag;
+import net.minecraft.network.FriendlyByteBuf;
 
 public interface DelegateFoodHandler extends IFood
 {
@@ -73,6 +74,24 @@ public interface DelegateFoodHandler extends IFood
         getFoodHandler().deserializeNBT(nbt);
     }
 
+    @Override
+    default boolean hasNetworkFormat()
+    {
+        return getFoodHandler().hasNetworkFormat();
+    }
+
+    @Override
+    default void writeToNetwork(FriendlyByteBuf buffer)
+    {
+        getFoodHandler().writeToNetwork(buffer);
+    }
+
+    @Override
+    default void readFromNetwork(FriendlyByteBuf buffer)
+    {
+        getFoodHandler().readFromNetwork(buffer);
+    }
+
     @Override
     default boolean isRotten()
     {
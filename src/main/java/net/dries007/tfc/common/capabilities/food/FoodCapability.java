@@ -12,7 +12,6 @@ import java.util.function.Supplier;
 import net.minecraft.core.RegistryAccess;
 import net.minecraft.network.chat.Component;
 import net.minecraft.resources.ResourceLocation;
-import net.minecraft.world.item.Item;
 import net.minecraft.world.item.ItemStack;
 import net.minecraft.world.item.crafting.Recipe;
 import net.minecraft.world.item.crafting.RecipeManager;
@@ -28,7 +27,7 @@ import net.dries007.tfc.util.DataManager;
 import net.dries007.tfc.util.Helpers;
 import net.dries007.tfc.util.calendar.Calendars;
 import net.dries007.tfc.util.calendar.ICalendar;
-import net.dries007.tfc.util.collections.IndirectHashCollection;
+import net.dries007.tfc.util.collections.ItemDefinitionCollection;
 
 public final class FoodCapability
 {
@@ -37,7 +36,7 @@ public final class FoodCapability
 
     public static final ResourceLocation KEY = Helpers.identifier("food");
     public static final DataManager<FoodDefinition> MANAGER = new DataManager<>(Helpers.identifier("food_items"), "food", FoodDefinition::new, FoodDefinition::new, FoodDefinition::encode, Packet::new);
-    public static final IndirectHashCollection<Item, FoodDefinition> CACHE = IndirectHashCollection.create(FoodDefinition::getValidItems, MANAGER::getValues);
+    public static final ItemDefinitionCollection<FoodDefinition> CACHE = ItemDefinitionCollection.create(MANAGER::getValues);
 
     @Nullable
     public static IFood get(ItemStack stack)
@@ -53,14 +52,7 @@ public final class FoodCapability
     @Nullable
     public static FoodDefinition getDefinition(ItemStack stack)
     {
-        for (FoodDefinition def : CACHE.getAll(stack.getItem()))
-        {
-            if (def.matches(stack))
-            {
-                return def;
-            }
-        }
-        return null;
+        return CACHE.get(stack);
     }
 
     /**
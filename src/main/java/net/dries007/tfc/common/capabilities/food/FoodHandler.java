@@ -15,6 +15,7 @@ import net.minecraft.nbt.CompoundTag;
 import net.minecraft.nbt.ListTag;
 import net.minecraft.nbt.StringTag;
 import net.minecraft.nbt.Tag;
+import net.minecraft.network.FriendlyByteBuf;
 import net.minecraft.network.chat.Component;
 import net.minecraft.world.item.ItemStack;
 import net.minecraftforge.common.capabilities.Capability;
@@ -215,6 +216,47 @@ public class FoodHandler implements ICapabilitySerializable<CompoundTag>, IFood
         creationDate = nbt.contains("creationDate") ? nbt.getLong("creationDate") : UNKNOWN_CREATION_DATE;
     }
 
+    /**
+     * Dynamic food handlers also sync their food data, and possibly more, so they use NBT.
+     */
+    @Override
+    public boolean hasNetworkFormat()
+    {
+        return !isDynamic();
+    }
+
+    @Override
+    public void writeToNetwork(FriendlyByteBuf buffer)
+    {
+        // Zigzag encode the creation date, so small negative dates, including the special values, don't take the full ten bytes of a negative var long
+        // Rotten food, which is common, is encoded as zero, and every other date is offset by one
+        final long creationDate = getCreationDate();
+        buffer.writeVarLong(creationDate == ROTTEN_CREATION_DATE ? 0 : ((creationDate << 1) ^ (creationDate >> 63)) + 1);
+        buffer.writeVarInt(foodTraits.size());
+        for (FoodTrait trait : foodTraits)
+        {
+            buffer.writeVarInt(FoodTrait.getNetworkId(trait));
+        }
+    }
+
+    @Override
+    public void readFromNetwork(FriendlyByteBuf buffer)
+    {
+        final long encoded = buffer.readVarLong() - 1;
+        this.creationDate = encoded == -1 ? ROTTEN_CREATION_DATE : (encoded >>> 1) ^ -(encoded & 1);
+
+        foodTraits.clear();
+        final int size = buffer.readVarInt();
+        for (int i = 0; i < size; i++)
+        {
+            final FoodTrait trait = FoodTrait.byNetworkId(buffer.readVarInt());
+            if (trait != null)
+            {
+                foodTraits.add(trait);
+            }
+        }
+    }
+
     /**
      * This marks if the food data should be serialized. For normal food items, it isn't, because all values are provided on construction via CapabilityFood. Only mark this if food data will change per item stack
      */
@@ -22,6 +22,7 @@ import net.minecraft.world.item.ItemStack;
 public class FoodTrait
 {
     private static final BiMap<ResourceLocation, FoodTrait> REGISTRY = HashBiMap.create();
+    private static volatile @Nullable List<FoodTrait> networkIds; // All traits, sorted by id. Computed lazily, and reset on registration
 
     /**
      * Register a food trait.
@@ -34,6 +35,7 @@ public class FoodTrait
             throw new IllegalArgumentException("Duplicate key: " + id);
         }
         REGISTRY.put(id, trait);
+        networkIds = null;
         return trait;
     }
 
@@ -53,6 +55,41 @@ public class FoodTrait
         return REGISTRY.inverse().get(trait);
     }
 
+    /**
+     * Traits are synced by their index in the list of all traits sorted by id, which is identical on client and server as long as both have the same traits registered.
+     *
+     * @return The network id of {@code trait}, or -1 if it is not registered.
+     */
+    public static int getNetworkId(FoodTrait trait)
+    {
+        return getNetworkIds().indexOf(trait);
+    }
+
+    @Nullable
+    public static FoodTrait byNetworkId(int id)
+    {
+        final List<FoodTrait> traits = getNetworkIds();
+        return id >= 0 && id < traits.size() ? traits.get(id) : null;
+    }
+
+    private static List<FoodTrait> getNetworkIds()
+    {
+        List<FoodTrait> traits = networkIds;
+        if (traits == null)
+        {
+            synchronized (FoodTrait.class)
+            {
+                traits = REGISTRY.keySet()
+                    .stream()
+                    .sorted()
+                    .map(REGISTRY::get)
+                    .toList();
+                networkIds = traits;
+            }
+        }
+        return traits;
+    }
+
     private final Supplier<Float> decayModifier;
     @Nullable private final String translationKey;
 
@@ -6,6 +6,8 @@
 
 package net.dries007.tfc.common.capabilities.food;
 
+import java.util.Arrays;
+import java.util.concurrent.atomic.LongAdder;
 import net.minecraft.nbt.CompoundTag;
 import net.minecraft.server.level.ServerPlayer;
 import net.minecraft.util.Mth;
@@ -65,6 +67,28 @@ public class TFCFoodData extends net.minecraft.world.food.FoodData
 
     public static final float DEFAULT_AVERAGE_NUTRITION = 0.4f; // 1/2 of 4 bars = 0.5 x 4 / 5
 
+    public static final int THIRST_SYNC_STEPS = 90; // Thirst is synced when it changes by a visible amount, which is one pixel of the 90 pixel wide thirst bar
+    public static final int MIN_SYNC_INTERVAL = 10; // Minimum ticks between syncs caused by thirst changes. Nutrient changes are always synced immediately
+
+    private static final LongAdder SENT_SYNCS = new LongAdder();
+    private static final LongAdder SUPPRESSED_SYNCS = new LongAdder();
+
+    /**
+     * @return The total number of ticks, across all players, where a {@link FoodDataUpdatePacket} was sent.
+     */
+    public static long getSentSyncs()
+    {
+        return SENT_SYNCS.sum();
+    }
+
+    /**
+     * @return The total number of ticks, across all players, where a {@link FoodDataUpdatePacket} was not sent as nothing visible had changed.
+     */
+    public static long getSuppressedSyncs()
+    {
+        return SUPPRESSED_SYNCS.sum();
+    }
+
     public static void replaceFoodStats(Player player)
     {
         // Only replace the server player's stats if they aren't already
@@ -76,6 +100,11 @@ public class TFCFoodData extends net.minecraft.world.food.FoodData
             ((PlayerAccessor) player).accessor$setFoodData(newStats);
             PlayerData.get(player).writeTo(newStats);
         }
+        else
+        {
+            // The client will have replaced its food stats, so the next tick needs to sync everything again
+            ((TFCFoodData) foodStats).markForSync();
+        }
         // Send the update regardless so the client can perform the same logic
         if (player instanceof ServerPlayer serverPlayer)
         {
@@ -98,6 +127,10 @@ public class TFCFoodData extends net.minecraft.world.food.FoodData
     private long lastDrinkTick;
     private float thirst;
 
+    private final float[] sentNutrients; // The last nutrients sent to client
+    private int sentThirst; // The last thirst sent to client, quantized, or -1 if a sync is required
+    private int lastSyncTick;
+
     public TFCFoodData(Player sourcePlayer, net.minecraft.world.food.FoodData delegate)
     {
         this(sourcePlayer, delegate, new NutritionData(0.5f, 0.0f));
@@ -109,6 +142,8 @@ public class TFCFoodData extends net.minecraft.world.food.FoodData
         this.delegate = delegate;
         this.nutritionData = oldNutritionData;
         this.thirst = MAX_THIRST;
+        this.sentNutrients = new float[Nutrient.TOTAL];
+        this.sentThirst = -1;
     }
 
     @Override
@@ -224,10 +259,18 @@ public class TFCFoodData extends net.minecraft.world.food.FoodData
         // Since this is only called server side, and vanilla has a custom packet for this stuff, we need our own
         if (player instanceof ServerPlayer serverPlayer)
         {
-            PacketHandler.send(PacketDistributor.PLAYER.with(() -> serverPlayer), new FoodDataUpdatePacket(nutritionData.getNutrients(), thirst));
+            syncToClient(serverPlayer);
         }
     }
 
+    /**
+     * Forces the next tick to sync all data to the client.
+     */
+    public void markForSync()
+    {
+        sentThirst = -1;
+    }
+
     @Override
     public void readAdditionalSaveData(CompoundTag vanillaNbt)
     {
@@ -345,6 +388,30 @@ public class TFCFoodData extends net.minecraft.world.food.FoodData
         this.thirst = thirst;
     }
 
+    /**
+     * Sends a {@link FoodDataUpdatePacket} only if something visible has changed since the last sync. Nutrients only change upon eating, so any change is synced immediately.
+     * Thirst drifts a little bit every few ticks, so it is only synced when the thirst bar would change, and at most once every {@link #MIN_SYNC_INTERVAL} ticks.
+     */
+    private void syncToClient(ServerPlayer player)
+    {
+        final float[] nutrients = nutritionData.getNutrients();
+        final int quantizedThirst = (int) (thirst * THIRST_SYNC_STEPS / MAX_THIRST);
+        final boolean nutrientsChanged = sentThirst == -1 || !Arrays.equals(nutrients, sentNutrients);
+        final boolean thirstChanged = quantizedThirst != sentThirst && player.tickCount - lastSyncTick >= MIN_SYNC_INTERVAL;
+        if (nutrientsChanged || thirstChanged)
+        {
+            System.arraycopy(nutrients, 0, sentNutrients, 0, sentNutrients.length);
+            sentThirst = quantizedThirst;
+            lastSyncTick = player.tickCount;
+            PacketHandler.send(PacketDistributor.PLAYER.with(() -> player), new FoodDataUpdatePacket(nutrients, thirst));
+            SENT_SYNCS.increment();
+        }
+        else
+        {
+            SUPPRESSED_SYNCS.increment();
+        }
+    }
+
     public float getHealthModifier()
     {
         final float averageNutrition = nutritionData.getAverageNutrition(); // In [0, 1]
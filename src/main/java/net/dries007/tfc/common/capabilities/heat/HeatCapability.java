@@ -9,7 +9,6 @@ package net.dries007.tfc.common.capabilities.heat;
 import java.util.Iterator;
 import net.minecraft.core.BlockPos;
 import net.minecraft.resources.ResourceLocation;
-import net.minecraft.world.item.Item;
 import net.minecraft.world.item.ItemStack;
 import net.minecraft.world.level.Level;
 import net.minecraft.world.level.block.entity.BlockEntity;
@@ -23,7 +22,7 @@ import net.dries007.tfc.network.DataManagerSyncPacket;
 import net.dries007.tfc.util.DataManager;
 import net.dries007.tfc.util.Fuel;
 import net.dries007.tfc.util.Helpers;
-import net.dries007.tfc.util.collections.IndirectHashCollection;
+import net.dries007.tfc.util.collections.ItemDefinitionCollection;
 
 public final class HeatCapability
 {
@@ -39,7 +38,7 @@ public final class HeatCapability
     public static final Capability<INetworkHeat> NETWORK_CAPABILITY = Helpers.capability(new CapabilityToken<>() {});
 
     public static final DataManager<HeatDefinition> MANAGER = new DataManager<>(Helpers.identifier("item_heats"), "item heat", HeatDefinition::new, HeatDefinition::new, HeatDefinition::encode, Packet::new);
-    public static final IndirectHashCollection<Item, HeatDefinition> CACHE = IndirectHashCollection.create(HeatDefinition::getValidItems, MANAGER::getValues);
+    public static final ItemDefinitionCollection<HeatDefinition> CACHE = ItemDefinitionCollection.create(MANAGER::getValues);
 
     public static final float POTTERY_HEAT_CAPACITY = 1.2f;
 
@@ -92,14 +91,7 @@ public final class HeatCapability
     @Nullable
     public static HeatDefinition getDefinition(ItemStack stack)
     {
-        for (HeatDefinition def : CACHE.getAll(stack.getItem()))
-        {
-            if (def.matches(stack))
-            {
-                return def;
-            }
-        }
-        return null;
+        return CACHE.get(stack);
     }
 
     public static float adjustTempTowards(float temp, float target)
@@ -0,0 +1,35 @@
+/*
+ * Licensed under the EUPL, Version 1.2.
+ * You may obtain a copy of the Licence at:
+ * https://joinup.ec.europa.eu/collection/eupl/eupl-text-eupl-12
+ */
+
+package net.dries007.tfc.common.commands;
+
+import com.mojang.brigadier.Command;
+import com.mojang.brigadier.builder.LiteralArgumentBuilder;
+import net.minecraft.commands.CommandSourceStack;
+import net.minecraft.commands.Commands;
+import net.minecraft.network.chat.Component;
+
+import net.dries007.tfc.common.capabilities.food.TFCFoodData;
+
+public final class FoodSyncCommand
+{
+    private static final String SYNCS = "tfc.commands.food_syncs.syncs";
+
+    public static LiteralArgumentBuilder<CommandSourceStack> create()
+    {
+        return Commands.literal("foodSyncs")
+            .requires(source -> source.hasPermission(2))
+            .executes(context -> printSyncStatistics(context.getSource()));
+    }
+
+    private static int printSyncStatistics(CommandSourceStack source)
+    {
+        final long sent = TFCFoodData.getSentSyncs(), suppressed = TFCFoodData.getSuppressedSyncs();
+        final String suppressedRate = "%.1f".formatted(sent + suppressed == 0 ? 0f : 100f * suppressed / (sent + suppressed));
+        source.sendSuccess(() -> Component.translatable(SYNCS, sent, suppressed, suppressedRate), false);
+        return Command.SINGLE_SUCCESS;
+    }
+}
@@ -34,6 +34,8 @@ public final class TFCCommands
             .then(PropickCommand.create())
             .then(ForgeCommand.create())
             .then(AddTrimCommand.create(context))
+            .then(WorldgenCacheCommand.create())
+            .then(FoodSyncCommand.create())
         );
 
         // For command modifications / replacements, we register directly
@@ -0,0 +1,51 @@
+/*
+ * Licensed under the EUPL, Version 1.2.
+ * You may obtain a copy of the Licence at:
+ * https://joinup.ec.europa.eu/collection/eupl/eupl-text-eupl-12
+ */
+
+package net.dries007.tfc.common.commands;
+
+import com.mojang.brigadier.Command;
+import com.mojang.brigadier.builder.LiteralArgumentBuilder;
+import net.minecraft.commands.CommandSourceStack;
+import net.minecraft.commands.Commands;
+import net.minecraft.network.chat.Component;
+
+import net.dries007.tfc.world.FastConcurrentCache;
+import net.dries007.tfc.world.TFCChunkGenerator;
+import net.dries007.tfc.world.region.RegionGenerator;
+
+public final class WorldgenCacheCommand
+{
+    private static final String NOT_TFC = "tfc.commands.worldgen_caches.not_tfc";
+    private static final String CACHE = "tfc.commands.worldgen_caches.cache";
+    private static final String DEDUPLICATED = "tfc.commands.worldgen_caches.deduplicated";
+
+    public static LiteralArgumentBuilder<CommandSourceStack> create()
+    {
+        return Commands.literal("worldgenCaches")
+            .requires(source -> source.hasPermission(2))
+            .executes(context -> printCacheStatistics(context.getSource()));
+    }
+
+    private static int printCacheStatistics(CommandSourceStack source)
+    {
+        if (!(source.getLevel().getChunkSource().getGenerator() instanceof TFCChunkGenerator generator))
+        {
+            source.sendFailure(Component.translatable(NOT_TFC));
+            return 0;
+        }
+
+        for (FastConcurrentCache<?> cache : generator.caches())
+        {
+            final long hits = cache.hits(), misses = cache.misses();
+            final String hitRate = "%.1f".formatted(hits + misses == 0 ? 0f : 100f * hits / (hits + misses));
+            source.sendSuccess(() -> Component.translatable(CACHE, cache.name(), cache.size(), hits, misses, cache.evictions(), hitRate), false);
+        }
+
+        final RegionGenerator regionGenerator = generator.regionGenerator();
+        source.sendSuccess(() -> Component.translatable(DEDUPLICATED, regionGenerator.deduplicatedRegionBuilds(), regionGenerator.deduplicatedPartitionBuilds()), false);
+        return Command.SINGLE_SUCCESS;
+    }
+}
@@ -17,7 +17,7 @@ import net.minecraft.world.item.ItemStack;
 import net.minecraftforge.items.ItemStackHandler;
 import org.jetbrains.annotations.Nullable;
 
-import net.dries007.tfc.common.recipes.TFCRecipeTypes;
+import net.dries007.tfc.common.recipes.KnappingRecipe;
 import net.dries007.tfc.common.recipes.inventory.EmptyInventory;
 import net.dries007.tfc.util.KnappingPattern;
 import net.dries007.tfc.util.KnappingType;
@@ -84,9 +84,8 @@ public class KnappingContainer extends ItemStackContainer implements ButtonHandl
         final Slot slot = slots.get(SLOT_OUTPUT);
         if (player.level() instanceof ServerLevel level)
         {
-            slot.set(level.getRecipeManager().getRecipeFor(TFCRecipeTypes.KNAPPING.get(), query, level)
-                .map(recipe -> recipe.assemble(query, level.registryAccess()))
-                .orElse(ItemStack.EMPTY));
+            final @Nullable KnappingRecipe recipe = KnappingRecipe.get(level, query);
+            slot.set(recipe != null ? recipe.assemble(query, level.registryAccess()) : ItemStack.EMPTY);
         }
     }
 
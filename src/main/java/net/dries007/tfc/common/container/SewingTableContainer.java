@@ -7,7 +7,9 @@
 package net.dries007.tfc.common.container;
 
 import java.util.List;
+import java.util.Optional;
 import java.util.function.Predicate;
+import it.unimi.dsi.fastutil.ints.IntArrayList;
 import net.minecraft.nbt.CompoundTag;
 import net.minecraft.sounds.SoundEvents;
 import net.minecraft.util.Mth;
@@ -26,7 +28,7 @@ import org.jetbrains.annotations.Nullable;
 import net.dries007.tfc.common.TFCTags;
 import net.dries007.tfc.common.blocks.wood.SewingTableBlock;
 import net.dries007.tfc.common.capabilities.InventoryItemHandler;
-import net.dries007.tfc.common.recipes.TFCRecipeTypes;
+import net.dries007.tfc.common.recipes.SewingRecipe;
 import net.dries007.tfc.common.recipes.inventory.EmptyInventory;
 import net.dries007.tfc.util.ArrayContainerData;
 import net.dries007.tfc.util.Helpers;
@@ -136,7 +138,7 @@ public class SewingTableContainer extends Container implements ISlotCallback, Bu
     public void updateResultItem()
     {
         access.execute((level, pos) -> {
-            level.getRecipeManager().getRecipeFor(TFCRecipeTypes.SEWING.get(), recipeWrapper, level).ifPresentOrElse(recipe -> {
+            Optional.ofNullable(SewingRecipe.get(level, recipeWrapper)).ifPresentOrElse(recipe -> {
                 final ItemStack result = recipe.getResultItem(level.registryAccess());
                 if (result.getItem() != inventory.getStackInSlot(SLOT_RESULT).getItem())
                 {
@@ -406,6 +408,14 @@ public class SewingTableContainer extends Container implements ISlotCallback, Bu
             return true;
         }
 
+        /**
+         * @return A view of the placed squares, which is equal to a matching recipe's squares.
+         */
+        public List<Integer> getSquares()
+        {
+            return IntArrayList.wrap(container.placedMaterialData.getArray());
+        }
+
         public boolean squaresMatch(List<Integer> inputs)
         {
             final int[] array = container.placedMaterialData.getArray();
@@ -6,6 +6,7 @@
 
 package net.dries007.tfc.common.items;
 
+import java.util.Optional;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.Direction;
 import net.minecraft.network.chat.Component;
@@ -32,7 +33,7 @@ import net.dries007.tfc.common.blocks.HotPouredGlassBlock;
 import net.dries007.tfc.common.blocks.TFCBlocks;
 import net.dries007.tfc.common.capabilities.glass.GlassOperation;
 import net.dries007.tfc.common.capabilities.glass.GlassWorkData;
-import net.dries007.tfc.common.recipes.TFCRecipeTypes;
+import net.dries007.tfc.common.recipes.GlassworkingRecipe;
 import net.dries007.tfc.common.recipes.inventory.ItemStackInventory;
 import net.dries007.tfc.util.Helpers;
 import net.dries007.tfc.util.advancements.TFCAdvancements;
@@ -73,7 +74,7 @@ public class GlassBlowpipeItem extends BlowpipeItem
             // test on a copy so that if it doesn't work we don't cause irreversible changes
             final ItemStack copy = item.copy();
             GlassWorkData.apply(copy, GlassOperation.BASIN_POUR);
-            final boolean created = level.getRecipeManager().getRecipeFor(TFCRecipeTypes.GLASSWORKING.get(), new ItemStackInventory(copy), level).map(recipe -> {
+            final boolean created = Optional.ofNullable(GlassworkingRecipe.get(level, new ItemStackInventory(copy))).map(recipe -> {
                 if (!GlassOperation.BASIN_POUR.hasRequiredTemperature(copy))
                 {
                     player.displayClientMessage(Component.translatable("tfc.tooltip.glass.not_hot_enough"), true);
@@ -102,7 +103,7 @@ public class GlassBlowpipeItem extends BlowpipeItem
             // test on a copy so that if it doesn't work we don't cause irreversible changes
             final ItemStack copy = item.copy();
             GlassWorkData.apply(copy, GlassOperation.TABLE_POUR);
-            final boolean created = level.getRecipeManager().getRecipeFor(TFCRecipeTypes.GLASSWORKING.get(), new ItemStackInventory(copy), level).map(recipe -> {
+            final boolean created = Optional.ofNullable(GlassworkingRecipe.get(level, new ItemStackInventory(copy))).map(recipe -> {
                 if (!GlassOperation.TABLE_POUR.hasRequiredTemperature(copy))
                 {
                     player.displayClientMessage(Component.translatable("tfc.tooltip.glass.not_hot_enough"), true);
@@ -188,7 +189,7 @@ public class GlassBlowpipeItem extends BlowpipeItem
                 GlassWorkData.apply(stack, op);
 
                 final Level level = entity.level();
-                level.getRecipeManager().getRecipeFor(TFCRecipeTypes.GLASSWORKING.get(), new ItemStackInventory(stack), level).ifPresent(recipe -> {
+                Optional.ofNullable(GlassworkingRecipe.get(level, new ItemStackInventory(stack))).ifPresent(recipe -> {
                     final boolean broken = consumeBlowpipe(player, player.getUsedItemHand(), stack);
                     ItemHandlerHelper.giveItemToPlayer(player, recipe.getResultItem(level.registryAccess()));
                     level.playSound(null, player.blockPosition(), broken ? SoundEvents.ITEM_BREAK : SoundEvents.ENCHANTMENT_TABLE_USE, SoundSource.PLAYERS);
@@ -6,8 +6,13 @@
 
 package net.dries007.tfc.common.recipes;
 
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Collectors;
 import com.google.gson.JsonObject;
 import com.google.gson.JsonParseException;
+import com.mojang.datafixers.util.Pair;
 import net.minecraft.core.RegistryAccess;
 import net.minecraft.core.registries.BuiltInRegistries;
 import net.minecraft.network.FriendlyByteBuf;
@@ -16,8 +21,11 @@ import net.minecraft.network.chat.MutableComponent;
 import net.minecraft.resources.ResourceLocation;
 import net.minecraft.sounds.SoundEvent;
 import net.minecraft.sounds.SoundEvents;
+import net.minecraft.world.item.Item;
 import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.item.Items;
 import net.minecraft.world.level.Level;
+import net.minecraft.world.level.material.Fluid;
 import net.minecraftforge.fluids.FluidStack;
 import net.minecraftforge.fluids.capability.IFluidHandler;
 import org.jetbrains.annotations.Nullable;
@@ -30,9 +38,18 @@ import net.dries007.tfc.common.recipes.outputs.ItemStackProvider;
 import net.dries007.tfc.config.TFCConfig;
 import net.dries007.tfc.util.Helpers;
 import net.dries007.tfc.util.JsonHelpers;
+import net.dries007.tfc.util.collections.IndirectHashCollection;
 
 public abstract class BarrelRecipe implements ISimpleRecipe<BarrelInventory>
 {
+    /**
+     * @return The key of the current item and fluid in {@code inventory}, for lookup in a collection indexed with {@link #getValidKeys()}.
+     */
+    public static Pair<Item, Fluid> getKey(BarrelInventory inventory)
+    {
+        return Pair.of(inventory.getStackInSlot(BarrelBlockEntity.SLOT_ITEM).getItem(), inventory.getFluidInTank(0).getFluid());
+    }
+
     private final ResourceLocation id;
 
     protected final ItemStackIngredient inputItem;
@@ -129,6 +146,17 @@ public abstract class BarrelRecipe implements ISimpleRecipe<BarrelInventory>
         });
     }
 
+    /**
+     * @return Every (item, fluid) pair which could match this recipe. An empty item ingredient matches an empty stack, which is {@link Items#AIR}.
+     */
+    public Collection<Pair<Item, Fluid>> getValidKeys()
+    {
+        final Collection<Item> items = inputItem.ingredient().isEmpty()
+            ? List.of(Items.AIR)
+            : Arrays.stream(inputItem.ingredient().getItems()).map(ItemStack::getItem).collect(Collectors.toSet());
+        return IndirectHashCollection.keysOf(items, inputFluid.ingredient().fluids());
+    }
+
     @Override
     public boolean matches(BarrelInventory container, @Nullable Level level)
     {
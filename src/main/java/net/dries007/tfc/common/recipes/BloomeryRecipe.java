@@ -14,6 +14,7 @@ import net.minecraft.world.item.ItemStack;
 import net.minecraft.world.item.crafting.RecipeSerializer;
 import net.minecraft.world.item.crafting.RecipeType;
 import net.minecraft.world.level.Level;
+import net.minecraft.world.level.material.Fluid;
 import net.minecraftforge.fluids.FluidStack;
 
 import net.dries007.tfc.common.recipes.ingredients.FluidStackIngredient;
@@ -23,11 +24,30 @@ import net.dries007.tfc.common.recipes.inventory.ItemStackInventory;
 import net.dries007.tfc.common.recipes.outputs.ItemStackProvider;
 import net.dries007.tfc.util.Helpers;
 import net.dries007.tfc.util.JsonHelpers;
+import net.dries007.tfc.util.collections.IndirectHashCollection;
 
 import org.jetbrains.annotations.Nullable;
 
 public class BloomeryRecipe implements ISimpleRecipe<EmptyInventory>
 {
+    public static final IndirectHashCollection<Fluid, BloomeryRecipe> CACHE = IndirectHashCollection.createForRecipe(recipe -> recipe.inputFluid.ingredient().fluids(), TFCRecipeTypes.BLOOMERY);
+
+    /**
+     * @return A recipe matching the primary (fluid) input, ignoring amounts.
+     */
+    @Nullable
+    public static BloomeryRecipe get(FluidStack inputFluid)
+    {
+        for (BloomeryRecipe recipe : CACHE.getAll(inputFluid.getFluid()))
+        {
+            if (recipe.matchesInput(inputFluid))
+            {
+                return recipe;
+            }
+        }
+        return null;
+    }
+
     private final ResourceLocation id;
     private final FluidStackIngredient inputFluid;
     private final ItemStackIngredient catalyst;
@@ -7,12 +7,16 @@
 package net.dries007.tfc.common.recipes;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.stream.Collectors;
 import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
+import com.mojang.datafixers.util.Pair;
 import net.minecraft.core.RegistryAccess;
 import net.minecraft.network.FriendlyByteBuf;
 import net.minecraft.resources.ResourceLocation;
+import net.minecraft.world.item.Item;
 import net.minecraft.world.item.ItemStack;
 import net.minecraft.world.item.crafting.Ingredient;
 import net.minecraft.world.item.crafting.RecipeSerializer;
@@ -24,9 +28,32 @@ import net.dries007.tfc.common.capabilities.glass.GlassOperation;
 import net.dries007.tfc.common.capabilities.glass.GlassWorkData;
 import net.dries007.tfc.common.recipes.inventory.ItemStackInventory;
 import net.dries007.tfc.util.JsonHelpers;
+import net.dries007.tfc.util.collections.IndirectHashCollection;
 
 public class GlassworkingRecipe implements ISimpleRecipe<ItemStackInventory>
 {
+    public static final IndirectHashCollection<Pair<Item, List<GlassOperation>>, GlassworkingRecipe> CACHE = IndirectHashCollection.createForRecipe(recipe -> IndirectHashCollection.keysOf(Arrays.stream(recipe.batchItem.getItems()).map(ItemStack::getItem).collect(Collectors.toSet()), List.of(recipe.operations)), TFCRecipeTypes.GLASSWORKING);
+
+    /**
+     * Recipes are indexed by (batch item, operations), as both must match exactly.
+     */
+    @Nullable
+    public static GlassworkingRecipe get(Level level, ItemStackInventory inventory)
+    {
+        final GlassWorkData data = GlassWorkData.get(inventory.getStack());
+        if (data != null)
+        {
+            for (GlassworkingRecipe recipe : CACHE.getAll(Pair.of(data.getBatch().getItem(), data.getOperations().getSteps())))
+            {
+                if (recipe.matches(inventory, level))
+                {
+                    return recipe;
+                }
+            }
+        }
+        return null;
+    }
+
     private final ResourceLocation id;
     private final List<GlassOperation> operations;
     private final Ingredient batchItem;
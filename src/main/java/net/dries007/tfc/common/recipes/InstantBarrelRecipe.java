@@ -7,19 +7,38 @@
 package net.dries007.tfc.common.recipes;
 
 import com.google.gson.JsonObject;
+import com.mojang.datafixers.util.Pair;
 import net.minecraft.network.FriendlyByteBuf;
 import net.minecraft.resources.ResourceLocation;
+import net.minecraft.world.item.Item;
 import net.minecraft.world.item.crafting.RecipeSerializer;
 import net.minecraft.world.item.crafting.RecipeType;
 import net.minecraft.world.level.Level;
+import net.minecraft.world.level.material.Fluid;
 
 import net.dries007.tfc.common.blockentities.BarrelBlockEntity;
 import net.dries007.tfc.common.recipes.inventory.BarrelInventory;
+import net.dries007.tfc.util.collections.IndirectHashCollection;
 
 import org.jetbrains.annotations.Nullable;
 
 public class InstantBarrelRecipe extends BarrelRecipe
 {
+    public static final IndirectHashCollection<Pair<Item, Fluid>, InstantBarrelRecipe> CACHE = IndirectHashCollection.createForRecipe(BarrelRecipe::getValidKeys, TFCRecipeTypes.BARREL_INSTANT);
+
+    @Nullable
+    public static InstantBarrelRecipe get(BarrelInventory inventory)
+    {
+        for (InstantBarrelRecipe recipe : CACHE.getAll(getKey(inventory)))
+        {
+            if (recipe.matches(inventory, null))
+            {
+                return recipe;
+            }
+        }
+        return null;
+    }
+
     public InstantBarrelRecipe(ResourceLocation id, Builder builder)
     {
         super(id, builder);
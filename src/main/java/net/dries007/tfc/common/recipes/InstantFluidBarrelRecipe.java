@@ -16,6 +16,7 @@ import net.minecraft.world.item.ItemStack;
 import net.minecraft.world.item.crafting.RecipeSerializer;
 import net.minecraft.world.item.crafting.RecipeType;
 import net.minecraft.world.level.Level;
+import net.minecraft.world.level.material.Fluid;
 import net.minecraftforge.fluids.FluidStack;
 import net.minecraftforge.fluids.capability.IFluidHandler;
 import net.minecraftforge.fluids.capability.IFluidHandlerItem;
@@ -31,9 +32,26 @@ import net.dries007.tfc.common.recipes.outputs.ItemStackProvider;
 import net.dries007.tfc.config.TFCConfig;
 import net.dries007.tfc.util.Helpers;
 import net.dries007.tfc.util.JsonHelpers;
+import net.dries007.tfc.util.collections.IndirectHashCollection;
 
 public class InstantFluidBarrelRecipe extends BarrelRecipe
 {
+    // The added fluid may come from either item slot, so these are only indexed by the primary fluid
+    public static final IndirectHashCollection<Fluid, InstantFluidBarrelRecipe> CACHE = IndirectHashCollection.createForRecipe(recipe -> recipe.inputFluid.ingredient().fluids(), TFCRecipeTypes.BARREL_INSTANT_FLUID);
+
+    @Nullable
+    public static InstantFluidBarrelRecipe get(BarrelInventory inventory)
+    {
+        for (InstantFluidBarrelRecipe recipe : CACHE.getAll(inventory.getFluidInTank(0).getFluid()))
+        {
+            if (recipe.matches(inventory, null))
+            {
+                return recipe;
+            }
+        }
+        return null;
+    }
+
     private final FluidStackIngredient addedFluid;
 
     public InstantFluidBarrelRecipe(ResourceLocation id, Builder builder, FluidStackIngredient addedFluid)
@@ -6,8 +6,10 @@
 
 package net.dries007.tfc.common.recipes;
 
+import java.util.List;
 import java.util.function.Supplier;
 import com.google.gson.JsonObject;
+import com.mojang.datafixers.util.Pair;
 import net.minecraft.core.RegistryAccess;
 import net.minecraft.network.FriendlyByteBuf;
 import net.minecraft.resources.ResourceLocation;
@@ -21,13 +23,38 @@ import net.minecraft.world.level.Level;
 import org.jetbrains.annotations.Nullable;
 
 import net.dries007.tfc.common.container.KnappingContainer;
+import net.dries007.tfc.util.DataManager;
 import net.dries007.tfc.util.Helpers;
 import net.dries007.tfc.util.JsonHelpers;
 import net.dries007.tfc.util.KnappingPattern;
 import net.dries007.tfc.util.KnappingType;
+import net.dries007.tfc.util.collections.IndirectHashCollection;
 
 public class KnappingRecipe implements ISimpleRecipe<KnappingContainer.Query>
 {
+    public static final IndirectHashCollection<Pair<ResourceLocation, Integer>, KnappingRecipe> CACHE = IndirectHashCollection.createForRecipe(recipe -> List.of(getKey(recipe.getKnappingTypeId(), recipe.pattern)), TFCRecipeTypes.KNAPPING);
+
+    @Nullable
+    public static KnappingRecipe get(Level level, KnappingContainer.Query query)
+    {
+        for (KnappingRecipe recipe : CACHE.getAll(getKey(query.container().getKnappingType().getId(), query.container().getPattern())))
+        {
+            if (recipe.matches(query, level))
+            {
+                return recipe;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Recipes are indexed by knapping type, and by the number of set cells in a matching pattern, which is the same wherever in the grid the recipe's pattern is placed.
+     */
+    private static Pair<ResourceLocation, Integer> getKey(ResourceLocation knappingType, KnappingPattern pattern)
+    {
+        return Pair.of(knappingType, pattern.countSetCells(KnappingPattern.MAX_WIDTH, KnappingPattern.MAX_HEIGHT));
+    }
+
     private final ResourceLocation id;
     private final KnappingPattern pattern;
     private final ItemStack result;
@@ -96,6 +123,12 @@ public class KnappingRecipe implements ISimpleRecipe<KnappingContainer.Query>
         return knappingType.get();
     }
 
+    private ResourceLocation getKnappingTypeId()
+    {
+        // Avoid resolving the reference, as knapping types may not be loaded yet when recipe caches are
+        return knappingType instanceof DataManager.Reference<KnappingType> reference ? reference.id() : knappingType.get().getId();
+    }
+
     public static class Serializer extends RecipeSerializerImpl<KnappingRecipe>
     {
         @Override
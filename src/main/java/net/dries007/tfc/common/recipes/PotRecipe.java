@@ -24,18 +24,22 @@ import net.minecraft.world.item.ItemStack;
 import net.minecraft.world.item.crafting.Ingredient;
 import net.minecraft.world.item.crafting.RecipeType;
 import net.minecraft.world.level.Level;
+import net.minecraft.world.level.material.Fluid;
 import org.jetbrains.annotations.Nullable;
 
 import net.dries007.tfc.common.blockentities.PotBlockEntity;
 import net.dries007.tfc.common.recipes.ingredients.FluidStackIngredient;
 import net.dries007.tfc.compat.jade.common.BlockEntityTooltip;
 import net.dries007.tfc.util.Helpers;
+import net.dries007.tfc.util.collections.IndirectHashCollection;
 
 /**
  * Recipe type for all cooking pot recipes
  */
 public abstract class PotRecipe implements ISimpleRecipe<PotBlockEntity.PotInventory>
 {
+    public static final IndirectHashCollection<Fluid, PotRecipe> CACHE = IndirectHashCollection.createForRecipe(recipe -> recipe.fluidIngredient.ingredient().fluids(), TFCRecipeTypes.POT);
+
     private static final BiMap<ResourceLocation, OutputType> OUTPUT_TYPES = HashBiMap.create();
 
     private static final ResourceLocation EMPTY_ID = Helpers.identifier("empty");
@@ -57,6 +61,19 @@ public abstract class PotRecipe implements ISimpleRecipe<PotBlockEntity.PotInven
         return outputType;
     }
 
+    @Nullable
+    public static PotRecipe get(Level level, PotBlockEntity.PotInventory inventory)
+    {
+        for (PotRecipe recipe : CACHE.getAll(inventory.getFluidInTank(0).getFluid()))
+        {
+            if (recipe.matches(inventory, level))
+            {
+                return recipe;
+            }
+        }
+        return null;
+    }
+
     protected final ResourceLocation id;
     protected final List<Ingredient> itemIngredients;
     protected final FluidStackIngredient fluidIngredient;
@@ -7,12 +7,15 @@
 package net.dries007.tfc.common.recipes;
 
 import com.google.gson.JsonObject;
+import com.mojang.datafixers.util.Pair;
 import net.minecraft.network.FriendlyByteBuf;
 import net.minecraft.resources.ResourceLocation;
+import net.minecraft.world.item.Item;
 import net.minecraft.world.item.ItemStack;
 import net.minecraft.world.item.crafting.RecipeSerializer;
 import net.minecraft.world.item.crafting.RecipeType;
 import net.minecraft.world.level.Level;
+import net.minecraft.world.level.material.Fluid;
 import org.jetbrains.annotations.Nullable;
 
 import net.dries007.tfc.common.blockentities.BarrelBlockEntity;
@@ -20,9 +23,25 @@ import net.dries007.tfc.common.recipes.inventory.BarrelInventory;
 import net.dries007.tfc.common.recipes.outputs.ItemStackProvider;
 import net.dries007.tfc.util.Helpers;
 import net.dries007.tfc.util.JsonHelpers;
+import net.dries007.tfc.util.collections.IndirectHashCollection;
 
 public class SealedBarrelRecipe extends BarrelRecipe
 {
+    public static final IndirectHashCollection<Pair<Item, Fluid>, SealedBarrelRecipe> CACHE = IndirectHashCollection.createForRecipe(BarrelRecipe::getValidKeys, TFCRecipeTypes.BARREL_SEALED);
+
+    @Nullable
+    public static SealedBarrelRecipe get(BarrelInventory inventory)
+    {
+        for (SealedBarrelRecipe recipe : CACHE.getAll(getKey(inventory)))
+        {
+            if (recipe.matches(inventory, null))
+            {
+                return recipe;
+            }
+        }
+        return null;
+    }
+
     private final int duration;
 
     @Nullable private final ItemStackProvider onSeal;
@@ -24,9 +24,28 @@ import org.jetbrains.annotations.Nullable;
 import net.dries007.tfc.common.container.SewingTableContainer;
 import net.dries007.tfc.util.Helpers;
 import net.dries007.tfc.util.JsonHelpers;
+import net.dries007.tfc.util.collections.IndirectHashCollection;
 
 public class SewingRecipe implements ISimpleRecipe<SewingTableContainer.RecipeWrapper>
 {
+    public static final IndirectHashCollection<List<Integer>, SewingRecipe> CACHE = IndirectHashCollection.createForRecipe(recipe -> List.of(recipe.squares), TFCRecipeTypes.SEWING);
+
+    /**
+     * Recipes are indexed by their squares, as they must match exactly.
+     */
+    @Nullable
+    public static SewingRecipe get(Level level, SewingTableContainer.RecipeWrapper inventory)
+    {
+        for (SewingRecipe recipe : CACHE.getAll(inventory.getSquares()))
+        {
+            if (recipe.matches(inventory, level))
+            {
+                return recipe;
+            }
+        }
+        return null;
+    }
+
     private final ResourceLocation id;
     private final List<Integer> stitches;
     private final List<Integer> squares;
@@ -6,10 +6,15 @@
 
 package net.dries007.tfc.common.recipes;
 
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import com.google.gson.JsonObject;
 import net.minecraft.core.RegistryAccess;
 import net.minecraft.network.FriendlyByteBuf;
 import net.minecraft.resources.ResourceLocation;
+import net.minecraft.world.item.Item;
 import net.minecraft.world.item.ItemStack;
 import net.minecraft.world.item.crafting.Ingredient;
 import net.minecraft.world.item.crafting.RecipeSerializer;
@@ -21,9 +26,29 @@ import net.dries007.tfc.common.capabilities.forge.ForgingBonus;
 import net.dries007.tfc.common.recipes.inventory.EmptyInventory;
 import net.dries007.tfc.common.recipes.outputs.ItemStackProvider;
 import net.dries007.tfc.util.JsonHelpers;
+import net.dries007.tfc.util.collections.IndirectHashCollection;
 
 public class WeldingRecipe implements ISimpleRecipe<WeldingRecipe.Inventory>
 {
+    public static final IndirectHashCollection<Item, WeldingRecipe> CACHE = IndirectHashCollection.createForRecipe(WeldingRecipe::getValidItems, TFCRecipeTypes.WELDING);
+
+    /**
+     * Recipes are indexed by the items of both inputs, as the inputs may be either way around. Any matching recipe must then accept the left item, unless it is empty.
+     */
+    @Nullable
+    public static WeldingRecipe get(Level level, Inventory inventory)
+    {
+        final ItemStack left = inventory.getLeft();
+        for (WeldingRecipe recipe : CACHE.getAll((left.isEmpty() ? inventory.getRight() : left).getItem()))
+        {
+            if (recipe.matches(inventory, level))
+            {
+                return recipe;
+            }
+        }
+        return null;
+    }
+
     private final ResourceLocation id;
     private final Ingredient firstInput, secondInput;
     private final int tier;
@@ -123,6 +148,11 @@ public class WeldingRecipe implements ISimpleRecipe<WeldingRecipe.Inventory>
         return combineForgingBonus;
     }
 
+    public Collection<Item> getValidItems()
+    {
+        return Stream.concat(Arrays.stream(firstInput.getItems()), Arrays.stream(secondInput.getItems())).map(ItemStack::getItem).collect(Collectors.toSet());
+    }
+
     public interface Inventory extends EmptyInventory
     {
         ItemStack getLeft();
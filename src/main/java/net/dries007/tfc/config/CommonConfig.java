@@ -27,6 +27,11 @@ public class CommonConfig
     public final ForgeConfigSpec.IntValue defaultMonthLength;
     public final ForgeConfigSpec.IntValue defaultCalendarStartDay;
 
+    // World Generation
+    public final ForgeConfigSpec.IntValue regionCacheSize;
+    public final ForgeConfigSpec.IntValue aquiferCacheSize;
+    public final ForgeConfigSpec.IntValue heightFillerCacheSize;
+
     // Debug
     private final ForgeConfigSpec.BooleanValue enableNetworkDebugging;
     private boolean hasLoggedNetworkDebugInfoMessage = false;
@@ -52,6 +57,21 @@ public class CommonConfig
             "The default is (5 * daysInMonth) = 40, which starts at June 1, 1000 (with the default daysInMonth = 8)"
         ).define("defaultCalendarStartDay", (5 * 8), -1, Integer.MAX_VALUE);
 
+        builder.swap("worldGeneration");
+
+        regionCacheSize = builder.comment(
+            "The number of regions, and region partitions, that are kept in memory for each world. Regions are ~12km in size, so this rarely needs to be changed.",
+            "Higher values may help if many players are exploring separate areas of the world at once. Rounded up to the nearest power of two."
+        ).define("regionCacheSize", 256, 4, 1 << 16);
+        aquiferCacheSize = builder.comment(
+            "The number of chunk aquifers that are kept in memory for each world during world generation.",
+            "Higher values may help when using a large number of world generation threads. Rounded up to the nearest power of two."
+        ).define("aquiferCacheSize", 256, 4, 1 << 16);
+        heightFillerCacheSize = builder.comment(
+            "The number of chunks for which terrain height sampling data is kept in memory, for each world. This is used for structure placement and spawn searching, outside of actual chunk generation.",
+            "Rounded up to the nearest power of two."
+        ).define("heightFillerCacheSize", 128, 4, 1 << 16);
+
         builder.swap("debug");
 
         enableNetworkDebugging = builder.comment(
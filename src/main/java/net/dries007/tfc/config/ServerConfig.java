@@ -35,6 +35,7 @@ public class ServerConfig
     public final ForgeConfigSpec.BooleanValue enableLightning;
     public final ForgeConfigSpec.BooleanValue enableLightningStrippingLogs;
     public final ForgeConfigSpec.IntValue oceanWindScale;
+    public final ForgeConfigSpec.IntValue calendarCatchUpMaxMicrosPerTick;
 
     // Blocks - Farmland
     public final ForgeConfigSpec.BooleanValue enableFarmlandCreation;
@@ -50,6 +51,7 @@ public class ServerConfig
     public final ForgeConfigSpec.BooleanValue enableSnowSlowEntities;
     public final ForgeConfigSpec.IntValue snowAccumulateChance;
     public final ForgeConfigSpec.IntValue snowMeltChance;
+    public final ForgeConfigSpec.IntValue environmentMaxMicrosPerTick;
     // Blocks - Leaves
     public final ForgeConfigSpec.DoubleValue leavesMovementModifier;
     // Blocks - Plants
@@ -211,6 +213,8 @@ public class ServerConfig
     public final ForgeConfigSpec.DoubleValue collapseExplosionPropagateChance;
     public final ForgeConfigSpec.IntValue collapseMinRadius;
     public final ForgeConfigSpec.IntValue collapseRadiusVariance;
+    public final ForgeConfigSpec.IntValue maxBlockUpdateChecksPerTick;
+    public final ForgeConfigSpec.IntValue collapseMaxMicrosPerTick;
     // Mechanics - Player
     public final ForgeConfigSpec.BooleanValue enablePeacefulDifficultyPassiveRegeneration;
     public final ForgeConfigSpec.DoubleValue passiveExhaustionModifier;
@@ -297,6 +301,10 @@ public class ServerConfig
         enableLightning = builder.comment("If false, vanilla lightning will not strike.").define("enableLightning", true);
         enableLightningStrippingLogs = builder.comment("If true, lightning has a chance of stripping bark off of trees.").define("enableLightningStrippingLogs", true);
         oceanWindScale = builder.comment("Every time the z coordinate reaches a multiple of this point, the wind over oceans will switch directions.").define("oceanWindScale", 5000, 128, Integer.MAX_VALUE);
+        calendarCatchUpMaxMicrosPerTick = builder.comment(
+            "The maximum time, in microseconds, that may be spent per world each tick catching up devices and crops after the calendar skips ahead (i.e. sleeping, or loading chunks). 1000 microseconds = 1 millisecond.",
+            "Any remaining catch-ups are done in the following ticks. At least one is always done each tick."
+        ).define("calendarCatchUpMaxMicrosPerTick", 5000, 1, 1_000_000);
 
         builder.swap("blocks").push("farmland");
 
@@ -323,6 +331,10 @@ public class ServerConfig
         enableSnowSlowEntities = builder.comment("[Requires MC Restart] If snow will slow players that move on top of it similar to soul sand or honey.").define("enableSnowSlowEntities", true);
         snowAccumulateChance = builder.comment("The chance that snow will accumulate during a storm. Lower values = faster snow accumulation, but also more block updates (aka lag).").define("snowAccumulateChance", 20, 1, Integer.MAX_VALUE);
         snowMeltChance = builder.comment("The chance that snow will melt during a storm. Lower values = faster snow melting, but also more block updates (aka lag).").define("snowMeltChance", 36, 1, Integer.MAX_VALUE);
+        environmentMaxMicrosPerTick = builder.comment(
+            "The maximum time, in microseconds, that may be spent per world each tick on snow, ice, and icicle placement and melting. 1000 microseconds = 1 millisecond.",
+            "Once exceeded, the remaining chunks skip their environment tick for that tick. Chunks are ticked in a random order, so this slows down snow and ice evenly."
+        ).define("environmentMaxMicrosPerTick", 5000, 1, 1_000_000);
 
         builder.swap("plants");
 
@@ -576,6 +588,14 @@ public class ServerConfig
         collapseExplosionPropagateChance = builder.comment("Chance for a block to fall from an explosion triggered collapse. Higher = mor likely.").define("collapseExplosionPropagateChance", 0.3, 0, 1);
         collapseMinRadius = builder.comment("Minimum radius for a collapse").define("collapseMinRadius", 3, 1, 32);
         collapseRadiusVariance = builder.comment("Variance of the radius of a collapse. Total size is in [minRadius, minRadius + radiusVariance]").define("collapseRadiusVariance", 16, 1, 32);
+        maxBlockUpdateChecksPerTick = builder.comment(
+            "The maximum number of positions, per world, that are checked for landslides, and separately for blocks that break when isolated, each tick.",
+            "Any remaining positions are checked in the following ticks. Lower values spread the cost of large block updates (i.e. explosions) over more ticks."
+        ).define("maxBlockUpdateChecksPerTick", 1000, 1, Integer.MAX_VALUE);
+        collapseMaxMicrosPerTick = builder.comment(
+            "The maximum time, in microseconds, that may be spent per world each tick checking positions of in-progress collapses. 1000 microseconds = 1 millisecond.",
+            "Any remaining positions are checked in the following ticks, so large collapses play out over multiple ticks. At least one position is always checked each tick."
+        ).define("collapseMaxMicrosPerTick", 2000, 1, 1_000_000);
 
         builder.swap("player");
 
@@ -0,0 +1,37 @@
+/*
+ * Licensed under the EUPL, Version 1.2.
+ * You may obtain a copy of the Licence at:
+ * https://joinup.ec.europa.eu/collection/eupl/eupl-text-eupl-12
+ */
+
+package net.dries007.tfc.mixin;
+
+import java.util.function.Function;
+import net.minecraft.world.level.block.state.BlockBehaviour;
+import net.minecraft.world.level.block.state.BlockState;
+import org.jetbrains.annotations.Nullable;
+import org.spongepowered.asm.mixin.Mixin;
+
+import net.dries007.tfc.util.BlockStateBridge;
+import net.dries007.tfc.util.Support;
+
+@Mixin(BlockBehaviour.BlockStateBase.class)
+public abstract class BlockStateBaseMixin implements BlockStateBridge
+{
+    private @Nullable Support tfc$cachedSupport;
+
+    // Written after the support, so a thread which observes the current generation also observes its support
+    private volatile int tfc$cachedSupportGeneration = -1;
+
+    @Nullable
+    @Override
+    public Support tfc$getSupport(int generation, Function<BlockState, Support> init)
+    {
+        if (tfc$cachedSupportGeneration != generation)
+        {
+            tfc$cachedSupport = init.apply((BlockState) (Object) this);
+            tfc$cachedSupportGeneration = generation;
+        }
+        return tfc$cachedSupport;
+    }
+}
@@ -6,14 +6,20 @@
 
 package net.dries007.tfc.mixin;
 
+import net.minecraft.core.BlockPos;
 import net.minecraft.server.level.ServerLevel;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.level.block.state.BlockState;
 import net.minecraft.world.level.chunk.LevelChunk;
 import net.minecraft.world.level.chunk.ProtoChunk;
 import org.spongepowered.asm.mixin.Mixin;
 import org.spongepowered.asm.mixin.injection.At;
 import org.spongepowered.asm.mixin.injection.Inject;
 import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfoReturnable;
 
+import net.dries007.tfc.util.tracker.HydrationCache;
+import net.dries007.tfc.util.tracker.SupportIndex;
 import net.dries007.tfc.world.ChunkGeneratorExtension;
 
 /**
@@ -24,6 +30,8 @@ import net.dries007.tfc.world.ChunkGeneratorExtension;
  * <p>
  * In 1.21, with NeoForge supporting both Proto and Level chunk attachments, this should not be necessary as we can represent both forms
  * of the chunk data with an attachment and NeoForge will handle copying.
+ * <p>
+ * This also observes every block change in a loaded chunk, in order to keep the {@link SupportIndex} and {@link HydrationCache} up to date.
  */
 @Mixin(LevelChunk.class)
 public abstract class LevelChunkMixin
@@ -36,4 +44,16 @@ public abstract class LevelChunkMixin
             ex.chunkDataProvider().promotePartial(chunk, (LevelChunk) (Object) this);
         }
     }
+
+    @Inject(method = "setBlockState", at = @At("RETURN"))
+    private void onBlockChanged(BlockPos pos, BlockState state, boolean isMoving, CallbackInfoReturnable<BlockState> cir)
+    {
+        final BlockState oldState = cir.getReturnValue();
+        if (oldState != null) // null if the block did not change
+        {
+            final Level level = ((LevelChunk) (Object) this).getLevel();
+            SupportIndex.onBlockChanged(level, pos, oldState, state);
+            HydrationCache.onBlockChanged(level, pos, oldState, state);
+        }
+    }
 }
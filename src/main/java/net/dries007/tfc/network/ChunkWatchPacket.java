@@ -6,6 +6,7 @@
 
 package net.dries007.tfc.network;
 
+import net.dries007.tfc.client.ChunkClimateCache;
 import net.dries007.tfc.client.ClientHelpers;
 import net.dries007.tfc.world.chunkdata.ChunkData;
 import net.dries007.tfc.world.chunkdata.ForestType;
@@ -66,6 +67,7 @@ public record ChunkWatchPacket(
             }
 
             data.onUpdatePacket(rainfallLayer, temperatureLayer, forestType, forestDensity, forestWeirdness);
+            ChunkClimateCache.INSTANCE.invalidate(chunkPos);
         }
     }
 }
\ No newline at end of file
@@ -0,0 +1,61 @@
+/*
+ * Licensed under the EUPL, Version 1.2.
+ * You may obtain a copy of the Licence at:
+ * https://joinup.ec.europa.eu/collection/eupl/eupl-text-eupl-12
+ */
+
+package net.dries007.tfc.network;
+
+import it.unimi.dsi.fastutil.ints.Int2ObjectArrayMap;
+import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
+import net.minecraft.core.BlockPos;
+import net.minecraft.network.FriendlyByteBuf;
+import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.level.Level;
+
+import net.dries007.tfc.client.ClientHelpers;
+import net.dries007.tfc.common.blockentities.DeviceSync;
+
+/**
+ * @see DeviceSync
+ */
+public record DeviceSyncPacket(BlockPos pos, float temperature, int burnTicks, Int2ObjectMap<ItemStack> slots)
+{
+    DeviceSyncPacket(FriendlyByteBuf buffer)
+    {
+        this(buffer.readBlockPos(), buffer.readFloat(), buffer.readVarInt(), readSlots(buffer));
+    }
+
+    private static Int2ObjectMap<ItemStack> readSlots(FriendlyByteBuf buffer)
+    {
+        final int size = buffer.readVarInt();
+        final Int2ObjectMap<ItemStack> slots = new Int2ObjectArrayMap<>(size);
+        for (int i = 0; i < size; i++)
+        {
+            slots.put(buffer.readVarInt(), buffer.readItem());
+        }
+        return slots;
+    }
+
+    void encode(FriendlyByteBuf buffer)
+    {
+        buffer.writeBlockPos(pos);
+        buffer.writeFloat(temperature);
+        buffer.writeVarInt(burnTicks);
+        buffer.writeVarInt(slots.size());
+        for (Int2ObjectMap.Entry<ItemStack> entry : slots.int2ObjectEntrySet())
+        {
+            buffer.writeVarInt(entry.getIntKey());
+            buffer.writeItem(entry.getValue());
+        }
+    }
+
+    void handle()
+    {
+        final Level level = ClientHelpers.getLevel();
+        if (level != null && level.isLoaded(pos) && level.getBlockEntity(pos) instanceof DeviceSync.Target target)
+        {
+            target.onDeviceSync(temperature, burnTicks, slots);
+        }
+    }
+}
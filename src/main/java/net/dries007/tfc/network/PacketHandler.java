@@ -60,6 +60,7 @@ public final class PacketHandler
         register(EffectExpirePacket.class, EffectExpirePacket::encode, EffectExpirePacket::new, EffectExpirePacket::handle);
         register(UpdateClimateModelPacket.class, UpdateClimateModelPacket::encode, UpdateClimateModelPacket::decode, UpdateClimateModelPacket::handle);
         register(RainfallUpdatePacket.class, RainfallUpdatePacket::encode, RainfallUpdatePacket::new, RainfallUpdatePacket::handle);
+        register(DeviceSyncPacket.class, DeviceSyncPacket::encode, DeviceSyncPacket::new, DeviceSyncPacket::handle);
 
         registerDataManager(Metal.Packet.class, Metal.MANAGER);
         registerDataManager(KnappingType.Packet.class, KnappingType.MANAGER);
@@ -0,0 +1,26 @@
+/*
+ * Licensed under the EUPL, Version 1.2.
+ * You may obtain a copy of the Licence at:
+ * https://joinup.ec.europa.eu/collection/eupl/eupl-text-eupl-12
+ */
+
+package net.dries007.tfc.util;
+
+import java.util.function.Function;
+import net.minecraft.world.level.block.state.BlockState;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * The bridge interface for block states, allowing them to cache their {@link Support}, which is checked on every block change.
+ * Do not call directly.
+ *
+ * @see Support#get(BlockState)
+ */
+public interface BlockStateBridge
+{
+    /**
+     * @param generation The current {@link Support#getGeneration()}. The cached support is recomputed if it was computed for a different generation.
+     */
+    @Nullable
+    Support tfc$getSupport(int generation, Function<BlockState, Support> init);
+}
@@ -38,6 +38,7 @@ import net.dries007.tfc.common.fluids.FluidHelpers;
 import net.dries007.tfc.config.TFCConfig;
 import net.dries007.tfc.util.climate.Climate;
 import net.dries007.tfc.util.climate.OverworldClimateModel;
+import net.dries007.tfc.util.tracker.EnvironmentTicker;
 import net.dries007.tfc.util.tracker.WorldTracker;
 
 /**
@@ -60,17 +61,49 @@ public final class EnvironmentHelpers
      * - Melting ice and snow due to temperature.
      */
     public static void tickChunk(ServerLevel level, LevelChunk chunk, ProfilerFiller profiler)
+    {
+        final EnvironmentTicker ticker = WorldTracker.get(level).getEnvironmentTicker();
+        if (!ticker.hasTimeRemaining())
+        {
+            profiler.incrementCounter("tfcEnvironmentSkipped");
+            return;
+        }
+
+        final long startTime = System.nanoTime();
+        tickChunk(level, chunk, ticker, profiler);
+        ticker.addTimeSpent(System.nanoTime() - startTime);
+    }
+
+    private static void tickChunk(ServerLevel level, LevelChunk chunk, EnvironmentTicker ticker, ProfilerFiller profiler)
     {
         final ChunkPos chunkPos = chunk.getPos();
         final BlockPos lcgPos = level.getBlockRandomPos(chunkPos.getMinBlockX(), 0, chunkPos.getMinBlockZ(), 15);
         final BlockPos surfacePos = level.getHeightmapPos(Heightmap.Types.MOTION_BLOCKING, lcgPos);
         final BlockPos groundPos = surfacePos.below();
+
+        profiler.push("tfcClassify");
+        final EnvironmentTicker.Classification classification = ticker.classify(level, chunk);
+        if (classification == EnvironmentTicker.Classification.NEVER_SNOWS)
+        {
+            // Nothing can freeze, so only melting needs to be checked, and that rarely needs the temperature
+            profiler.incrementCounter("tfcEnvironmentMeltOnly");
+            profiler.popPush("tfcMelt");
+            doMelting(level, surfacePos, groundPos);
+            profiler.pop();
+            return;
+        }
+
+        profiler.incrementCounter("tfcEnvironmentFull");
         final float temperature = Climate.getTemperature(level, surfacePos);
 
-        profiler.push("tfcSnow");
+        profiler.popPush("tfcSnow");
         doSnow(level, surfacePos, temperature);
         profiler.popPush("tfcIce");
-        doIce(level, groundPos, temperature);
+        if (classification == EnvironmentTicker.Classification.SEASONAL || isMeltableIce(level.getBlockState(groundPos)))
+        {
+            // Ice can't form in chunks that never freeze, so there is only something to do if there is ice to melt
+            doIce(level, groundPos, temperature);
+        }
         profiler.popPush("tfcIcicles");
         doIcicles(level, surfacePos, temperature);
         profiler.pop();
@@ -182,6 +215,35 @@ public final class EnvironmentHelpers
         }
     }
 
+    /**
+     * The equivalent of {@link #doSnow}, {@link #doIce}, and {@link #doIcicles}, in a chunk where the temperature is known to be too warm for anything to freeze.
+     * Only melting is possible, and the temperature is only queried if there is something to melt.
+     */
+    private static void doMelting(Level level, BlockPos surfacePos, BlockPos groundPos)
+    {
+        final RandomSource random = level.random;
+        if (random.nextInt(TFCConfig.SERVER.snowMeltChance.get()) == 0)
+        {
+            final float temperature = Climate.getTemperature(level, surfacePos);
+            final int expectedLayers = (int) getExpectedSnowLayerHeight(temperature);
+            removeSnowAt(level, surfacePos, temperature, expectedLayers);
+            if (random.nextFloat() < 0.2f)
+            {
+                removeSnowAt(level, surfacePos.relative(Direction.Plane.HORIZONTAL.getRandomDirection(random)), temperature, expectedLayers);
+            }
+        }
+
+        if (isMeltableIce(level.getBlockState(groundPos)))
+        {
+            doIce(level, groundPos, Climate.getTemperature(level, groundPos.above()));
+        }
+    }
+
+    private static boolean isMeltableIce(BlockState state)
+    {
+        return state.getBlock() == Blocks.ICE || state.getBlock() == TFCBlocks.ICE_PILE.get();
+    }
+
     private static void removeSnowAt(Level level, BlockPos surfacePos, float temperature, int expectedLayers)
     {
         // Snow melting - both snow and snow piles
@@ -318,7 +380,7 @@ public final class EnvironmentHelpers
         else if (temperature > OverworldClimateModel.ICE_MELT_TEMPERATURE)
         {
             // Handle ice melting
-            if (groundState.getBlock() == Blocks.ICE || groundState.getBlock() == TFCBlocks.ICE_PILE.get())
+            if (isMeltableIce(groundState))
             {
                 // Apply a heuristic to try and make ice melting more smooth, in the same way ice freezing works
                 if (random.nextInt(600) == 0 || (random.nextInt(12) == 0 && isAdjacentToWater(level, groundPos)))
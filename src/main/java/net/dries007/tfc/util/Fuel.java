@@ -10,30 +10,22 @@ import com.google.gson.JsonObject;
 import net.minecraft.network.FriendlyByteBuf;
 import net.minecraft.resources.ResourceLocation;
 import net.minecraft.util.GsonHelper;
-import net.minecraft.world.item.Item;
 import net.minecraft.world.item.ItemStack;
 import net.minecraft.world.item.crafting.Ingredient;
 
 import net.dries007.tfc.network.DataManagerSyncPacket;
-import net.dries007.tfc.util.collections.IndirectHashCollection;
+import net.dries007.tfc.util.collections.ItemDefinitionCollection;
 import org.jetbrains.annotations.Nullable;
 
 public final class Fuel extends ItemDefinition
 {
     public static final DataManager<Fuel> MANAGER = new DataManager<>(Helpers.identifier("fuels"), "fuel", Fuel::new, Fuel::new, Fuel::encode, Packet::new);
-    public static final IndirectHashCollection<Item, Fuel> CACHE = IndirectHashCollection.create(Fuel::getValidItems, MANAGER::getValues);
+    public static final ItemDefinitionCollection<Fuel> CACHE = ItemDefinitionCollection.create(MANAGER::getValues);
 
     @Nullable
     public static Fuel get(ItemStack stack)
     {
-        for (Fuel def : CACHE.getAll(stack.getItem()))
-        {
-            if (def.matches(stack))
-            {
-                return def;
-            }
-        }
-        return null;
+        return CACHE.get(stack);
     }
 
     private final int duration;
@@ -42,6 +42,14 @@ public class ItemDefinition
         return ingredient.test(stack);
     }
 
+    /**
+     * @return {@code true} if {@link #matches(ItemStack)} depends only on the item of a stack, and not on any other properties, such as its tag. This is the case for plain item and tag ingredients.
+     */
+    public boolean dependsOnlyOnItem()
+    {
+        return ingredient.getClass() == Ingredient.class;
+    }
+
     public Collection<Item> getValidItems()
     {
         return Arrays.stream(ingredient.getItems()).map(ItemStack::getItem).collect(Collectors.toSet());
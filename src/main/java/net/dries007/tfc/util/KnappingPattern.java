@@ -124,6 +124,15 @@ public class KnappingPattern
         return ((data >> index) & 0b1) == 1;
     }
 
+    /**
+     * @return The number of cells that are set in any {@code width x height} pattern which matches this one. This does not depend on where the pattern is positioned, or if it is mirrored, so it can be used to index patterns for lookup.
+     */
+    public int countSetCells(int width, int height)
+    {
+        final int mask = (1 << (this.width * this.height)) - 1;
+        return Integer.bitCount(data & mask) + (empty ? width * height - this.width * this.height : 0);
+    }
+
     public void toNetwork(FriendlyByteBuf buffer)
     {
         buffer.writeVarInt(width);
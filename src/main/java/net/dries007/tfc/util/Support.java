@@ -10,11 +10,15 @@ import java.util.HashSet;
 import java.util.Set;
 import com.google.gson.JsonObject;
 import com.google.gson.JsonParseException;
+import it.unimi.dsi.fastutil.longs.LongIterator;
+import it.unimi.dsi.fastutil.longs.LongSet;
 import net.minecraft.core.BlockPos;
+import net.minecraft.core.SectionPos;
 import net.minecraft.network.FriendlyByteBuf;
 import net.minecraft.resources.ResourceLocation;
 import net.minecraft.util.GsonHelper;
 import net.minecraft.world.level.BlockGetter;
+import net.minecraft.world.level.Level;
 import net.minecraft.world.level.block.Block;
 import net.minecraft.world.level.block.state.BlockState;
 import org.jetbrains.annotations.Nullable;
@@ -22,6 +26,8 @@ import org.jetbrains.annotations.Nullable;
 import net.dries007.tfc.common.recipes.ingredients.BlockIngredient;
 import net.dries007.tfc.network.DataManagerSyncPacket;
 import net.dries007.tfc.util.collections.IndirectHashCollection;
+import net.dries007.tfc.util.tracker.SupportIndex;
+import net.dries007.tfc.util.tracker.WorldTracker;
 
 public final class Support
 {
@@ -32,6 +38,7 @@ public final class Support
      * The maximum range of all supports, used for support radius checks.
      */
     private static SupportRange RANGE = new SupportRange(0, 0, 0);
+    private static int generation = 0;
 
     /**
      * Exposed for addons. See comment for {@link Support#RANGE}.
@@ -46,44 +53,120 @@ public final class Support
      */
     public static Set<BlockPos> findUnsupportedPositions(BlockGetter worldIn, BlockPos from, BlockPos to)
     {
-        Set<BlockPos> listSupported = new HashSet<>();
-        Set<BlockPos> listUnsupported = new HashSet<>();
-        int minX = Math.min(from.getX(), to.getX());
-        int maxX = Math.max(from.getX(), to.getX());
-        int minY = Math.min(from.getY(), to.getY());
-        int maxY = Math.max(from.getY(), to.getY());
-        int minZ = Math.min(from.getZ(), to.getZ());
-        int maxZ = Math.max(from.getZ(), to.getZ());
-        for (BlockPos searchingPoint : getMaximumSupportedAreaAround(new BlockPos(minX, minY, minZ), new BlockPos(maxX, maxY, maxZ)))
-        {
-            if (!listSupported.contains(searchingPoint))
+        final int minX = Math.min(from.getX(), to.getX());
+        final int maxX = Math.max(from.getX(), to.getX());
+        final int minY = Math.min(from.getY(), to.getY());
+        final int maxY = Math.max(from.getY(), to.getY());
+        final int minZ = Math.min(from.getZ(), to.getZ());
+        final int maxZ = Math.max(from.getZ(), to.getZ());
+        final int sizeX = maxX - minX + 1, sizeY = maxY - minY + 1, sizeZ = maxZ - minZ + 1;
+        final boolean[] supported = new boolean[sizeX * sizeY * sizeZ]; // Indexed by x + sizeX * (z + sizeZ * y), relative to min
+
+        forEachSupportAround(worldIn, minX, minY, minZ, maxX, maxY, maxZ, (supportPos, support) -> {
+            // Mark the intersection of this support's area, and the searched area, as supported
+            final int x0 = Math.max(minX, supportPos.getX() - support.supportHorizontal), x1 = Math.min(maxX, supportPos.getX() + support.supportHorizontal);
+            final int y0 = Math.max(minY, supportPos.getY() - support.supportDown), y1 = Math.min(maxY, supportPos.getY() + support.supportUp);
+            final int z0 = Math.max(minZ, supportPos.getZ() - support.supportHorizontal), z1 = Math.min(maxZ, supportPos.getZ() + support.supportHorizontal);
+            for (int y = y0; y <= y1; y++)
             {
-                listUnsupported.add(searchingPoint.immutable()); // Adding blocks that wasn't found supported
+                for (int z = z0; z <= z1; z++)
+                {
+                    for (int x = x0; x <= x1; x++)
+                    {
+                        supported[(x - minX) + sizeX * ((z - minZ) + sizeZ * (y - minY))] = true;
+                    }
+                }
             }
-            final BlockState supportState = worldIn.getBlockState(searchingPoint);
-            final Support support = get(supportState);
-            if (support != null)
+            return false;
+        });
+
+        final Set<BlockPos> listUnsupported = new HashSet<>();
+        for (int y = 0; y < sizeY; y++)
+        {
+            for (int z = 0; z < sizeZ; z++)
             {
-                for (BlockPos supported : support.getSupportedArea(searchingPoint))
+                for (int x = 0; x < sizeX; x++)
                 {
-                    listSupported.add(supported.immutable()); // Adding all supported blocks by this support
-                    listUnsupported.remove(supported); // Remove if this block was added earlier
+                    if (!supported[x + sizeX * (z + sizeZ * y)])
+                    {
+                        listUnsupported.add(new BlockPos(minX + x, minY + y, minZ + z));
+                    }
                 }
             }
         }
-        // Searching point wasn't from points between from <-> to but
-        // Time to remove the outsides that were added for convenience
-        listUnsupported.removeIf(content -> content.getX() < minX || content.getX() > maxX || content.getY() < minY || content.getY() > maxY || content.getZ() < minZ || content.getZ() > maxZ);
         return listUnsupported;
     }
 
     public static boolean isSupported(BlockGetter world, BlockPos pos)
     {
-        for (BlockPos supportPos : getMaximumSupportedAreaAround(pos, pos))
+        return forEachSupportAround(world, pos.getX(), pos.getY(), pos.getZ(), pos.getX(), pos.getY(), pos.getZ(), (supportPos, support) -> support.canSupport(supportPos, pos));
+    }
+
+    public static Iterable<BlockPos> getMaximumSupportedAreaAround(BlockPos minPoint, BlockPos maxPoint)
+    {
+        return BlockPos.betweenClosed(minPoint.offset(-RANGE.horizontal(), -RANGE.down(), -RANGE.horizontal()), maxPoint.offset(RANGE.horizontal(), RANGE.up(), RANGE.horizontal()));
+    }
+
+    /**
+     * Visits every support which may support a position in the box {@code [min, max]}, stopping early if {@code visitor} returns {@code true}.
+     * In a {@link Level}, this only looks at known support positions from the {@link SupportIndex}, otherwise, it scans the entire area of {@link #getMaximumSupportedAreaAround(BlockPos, BlockPos)}.
+     *
+     * @return {@code true} if the visitor stopped early.
+     */
+    private static boolean forEachSupportAround(BlockGetter world, int minX, int minY, int minZ, int maxX, int maxY, int maxZ, SupportVisitor visitor)
+    {
+        final int x0 = minX - RANGE.horizontal(), y0 = minY - RANGE.down(), z0 = minZ - RANGE.horizontal();
+        final int x1 = maxX + RANGE.horizontal(), y1 = maxY + RANGE.up(), z1 = maxZ + RANGE.horizontal();
+
+        if (world instanceof Level level && !level.isClientSide())
         {
-            final BlockState supportState = world.getBlockState(supportPos);
-            final Support support = get(supportState);
-            if (support != null && support.canSupport(supportPos, pos))
+            final SupportIndex index = WorldTracker.get(level).getSupportIndex();
+            final BlockPos.MutableBlockPos cursor = new BlockPos.MutableBlockPos();
+
+            // First, check that every section we need is available, as otherwise we need to fall back to a scan
+            final int sectionX0 = SectionPos.blockToSectionCoord(x0), sectionY0 = SectionPos.blockToSectionCoord(y0), sectionZ0 = SectionPos.blockToSectionCoord(z0);
+            final int sectionX1 = SectionPos.blockToSectionCoord(x1), sectionY1 = SectionPos.blockToSectionCoord(y1), sectionZ1 = SectionPos.blockToSectionCoord(z1);
+            final LongSet[] sections = new LongSet[(sectionX1 - sectionX0 + 1) * (sectionY1 - sectionY0 + 1) * (sectionZ1 - sectionZ0 + 1)];
+
+            int i = 0;
+            boolean available = true;
+            for (int sectionY = sectionY0; sectionY <= sectionY1 && available; sectionY++)
+            {
+                for (int sectionZ = sectionZ0; sectionZ <= sectionZ1 && available; sectionZ++)
+                {
+                    for (int sectionX = sectionX0; sectionX <= sectionX1 && available; sectionX++)
+                    {
+                        available = (sections[i++] = index.getSupports(sectionX, sectionY, sectionZ)) != null;
+                    }
+                }
+            }
+
+            if (available)
+            {
+                for (LongSet supports : sections)
+                {
+                    for (LongIterator iterator = supports.iterator(); iterator.hasNext(); )
+                    {
+                        cursor.set(iterator.nextLong());
+                        if (cursor.getX() >= x0 && cursor.getX() <= x1 && cursor.getY() >= y0 && cursor.getY() <= y1 && cursor.getZ() >= z0 && cursor.getZ() <= z1)
+                        {
+                            // Positions in the index may be stale, so always check the state
+                            final Support support = get(level.getBlockState(cursor));
+                            if (support != null && visitor.visit(cursor, support))
+                            {
+                                return true;
+                            }
+                        }
+                    }
+                }
+                return false;
+            }
+        }
+
+        for (BlockPos supportPos : BlockPos.betweenClosed(x0, y0, z0, x1, y1, z1))
+        {
+            final Support support = get(world.getBlockState(supportPos));
+            if (support != null && visitor.visit(supportPos, support))
             {
                 return true;
             }
@@ -91,13 +174,17 @@ public final class Support
         return false;
     }
 
-    public static Iterable<BlockPos> getMaximumSupportedAreaAround(BlockPos minPoint, BlockPos maxPoint)
+    /**
+     * The support for each block state is cached on the state itself, until supports are next reloaded.
+     */
+    @Nullable
+    public static Support get(BlockState state)
     {
-        return BlockPos.betweenClosed(minPoint.offset(-RANGE.horizontal(), -RANGE.down(), -RANGE.horizontal()), maxPoint.offset(RANGE.horizontal(), RANGE.up(), RANGE.horizontal()));
+        return ((BlockStateBridge) state).tfc$getSupport(generation, Support::find);
     }
 
     @Nullable
-    public static Support get(BlockState state)
+    private static Support find(BlockState state)
     {
         for (Support support : CACHE.getAll(state.getBlock()))
         {
@@ -109,8 +196,18 @@ public final class Support
         return null;
     }
 
+    /**
+     * @return A counter which is incremented every time supports are reloaded.
+     */
+    public static int getGeneration()
+    {
+        return generation;
+    }
+
     public static void updateMaximumSupportRange()
     {
+        generation++;
+
         // Re-calculate maximum support range
         int up = 0, down = 0, horizontal = 0;
         for (Support support : MANAGER.getValues())
@@ -199,5 +296,14 @@ public final class Support
 
     public record SupportRange(int up, int down, int horizontal) {}
 
+    @FunctionalInterface
+    private interface SupportVisitor
+    {
+        /**
+         * @return {@code true} to stop visiting further supports.
+         */
+        boolean visit(BlockPos supportPos, Support support);
+    }
+
     public static class Packet extends DataManagerSyncPacket<Support> {}
 }
\ No newline at end of file
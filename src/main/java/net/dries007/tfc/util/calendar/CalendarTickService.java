@@ -0,0 +1,67 @@
+/*
+ * Licensed under the EUPL, Version 1.2.
+ * You may obtain a copy of the Licence at:
+ * https://joinup.ec.europa.eu/collection/eupl/eupl-text-eupl-12
+ */
+
+package net.dries007.tfc.util.calendar;
+
+import it.unimi.dsi.fastutil.objects.ReferenceLinkedOpenHashSet;
+import net.minecraft.world.level.block.entity.BlockEntity;
+
+import net.dries007.tfc.config.TFCConfig;
+
+/**
+ * Schedules the catch-up of {@link ICalendarTickable}s, after the calendar has skipped ahead (i.e. sleeping, or commands), or after they have been loaded.
+ * <p>
+ * Rather than every tickable catching up within the same tick, which after a time skip is every tickable in every loaded chunk, they are queued here, and processed in order of arrival under a time budget per tick.
+ * A tickable does not advance its last update tick, or tick at all, while it is queued, so if it is saved before catching up, it will simply catch up again once loaded. The number of ticks to catch up is only computed once it is processed, so it includes the time spent queued.
+ */
+public final class CalendarTickService
+{
+    private final ReferenceLinkedOpenHashSet<ICalendarTickable> pending = new ReferenceLinkedOpenHashSet<>();
+
+    /**
+     * Queues a catch-up for a tickable, if it is not already queued.
+     */
+    public void schedule(ICalendarTickable tickable)
+    {
+        pending.add(tickable);
+    }
+
+    public boolean isScheduled(ICalendarTickable tickable)
+    {
+        return !pending.isEmpty() && pending.contains(tickable);
+    }
+
+    public int size()
+    {
+        return pending.size();
+    }
+
+    /**
+     * Processes queued catch-ups, in order, until the time budget for this tick is exhausted. At least one is always processed.
+     */
+    @SuppressWarnings("deprecation")
+    public void tick()
+    {
+        if (pending.isEmpty())
+        {
+            return;
+        }
+
+        final long deadline = System.nanoTime() + TFCConfig.SERVER.calendarCatchUpMaxMicrosPerTick.get() * 1000L;
+        final long thisTick = Calendars.SERVER.getTicks();
+        do
+        {
+            final ICalendarTickable tickable = pending.removeFirst();
+            if (!((BlockEntity) tickable).isRemoved())
+            {
+                // This runs before block entities tick, so leave their own tick this tick to be a regular one
+                tickable.onCalendarUpdate(thisTick - 1 - tickable.getLastCalendarUpdateTick());
+                tickable.setLastCalendarUpdateTick(thisTick - 1);
+                tickable.markDirty();
+            }
+        } while (!pending.isEmpty() && System.nanoTime() - deadline < 0);
+    }
+}
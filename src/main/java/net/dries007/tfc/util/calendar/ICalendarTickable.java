@@ -8,6 +8,8 @@ package net.dries007.tfc.util.calendar;
 
 import net.minecraft.world.level.block.entity.BlockEntity;
 
+import net.dries007.tfc.util.tracker.WorldTracker;
+
 /**
  * This is implemented on {@link BlockEntity}s that need to receive special updates when the calendar skips/jumps ahead.
  * In order to implement this, a field `lastUpdateTick` should be added and serialized. Nothing else should access this field, or the provided accessors. Doing so is almost certainly a bug, as this field just represents the last tick the block entity has been actively ticked.
@@ -19,11 +21,15 @@ import net.minecraft.world.level.block.entity.BlockEntity;
 public interface ICalendarTickable
 {
     /**
-     * Here we check every tick for a calendar discrepancy. This only checks for differences in player time, and calls {@link ICalendarTickable#onCalendarUpdate(long playerTickDelta)} as necessary.
+     * Here we check every tick for a calendar discrepancy. This only checks for differences in player time, and schedules a call to {@link ICalendarTickable#onCalendarUpdate(long playerTickDelta)} as necessary, via the {@link CalendarTickService}.
+     * <p>
+     * This does not mark the block entity as dirty when nothing changed. Any state that was not saved is recovered by catching up from the last saved tick, once loaded.
      * <p>
-     * Implementations MUST call {@code checkForCalendarUpdate()} in their {@code serverTick} method.
+     * Implementations MUST call {@code checkForCalendarUpdate()} in their {@code serverTick} method, and, if it returns {@code true}, skip the rest of their tick. Until the catch-up has been done, regular ticks would run out of order with it, and the last update tick is not advanced, so any state they changed would be counted twice.
+     *
+     * @return {@code true} if this is waiting for a catch-up via {@link ICalendarTickable#onCalendarUpdate(long)}.
      */
-    default void checkForCalendarUpdate()
+    default boolean checkForCalendarUpdate()
     {
         final BlockEntity entity = ((BlockEntity) this);
         if (entity.getLevel() != null && !entity.getLevel().isClientSide())
@@ -31,13 +37,23 @@ public interface ICalendarTickable
             final long thisTick = Calendars.SERVER.getTicks();
             final long lastTick = getLastCalendarUpdateTick();
             final long tickDelta = thisTick - lastTick;
-            if (lastTick != Integer.MIN_VALUE && tickDelta != 1)
+            if (lastTick == Integer.MIN_VALUE)
+            {
+                setLastCalendarUpdateTick(thisTick);
+                markDirty();
+            }
+            else if (tickDelta != 1)
+            {
+                // The last update tick is only advanced once the catch-up has actually been done
+                WorldTracker.get(entity.getLevel()).getCalendarTickService().schedule(this);
+                return true;
+            }
+            else
             {
-                onCalendarUpdate(tickDelta - 1);
+                setLastCalendarUpdateTick(thisTick);
             }
-            setLastCalendarUpdateTick(thisTick);
-            markDirty();
         }
+        return false;
     }
 
     /**
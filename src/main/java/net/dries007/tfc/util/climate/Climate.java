@@ -77,6 +77,14 @@ public final class Climate
         return model(level).getTemperature(level, pos, calendarTick, calendar.getCalendarDaysInMonth());
     }
 
+    /**
+     * @see ClimateModel#getTemperatures(LevelReader, BlockPos, long[], int, float[])
+     */
+    public static void getTemperatures(Level level, BlockPos pos, ICalendar calendar, long[] calendarTicks, float[] temperatures)
+    {
+        model(level).getTemperatures(level, pos, calendarTicks, calendar.getCalendarDaysInMonth(), temperatures);
+    }
+
     public static float getTemperature(Level level, BlockPos pos, ICalendar calendar)
     {
         return model(level).getTemperature(level, pos, calendar.getCalendarTicks(), calendar.getCalendarDaysInMonth());
@@ -12,6 +12,7 @@ import net.minecraft.core.BlockPos;
 import net.minecraft.network.FriendlyByteBuf;
 import net.minecraft.resources.ResourceLocation;
 import net.minecraft.server.level.ServerLevel;
+import net.minecraft.world.level.ChunkPos;
 import net.minecraft.world.level.Level;
 import net.minecraft.world.level.LevelReader;
 import net.minecraft.world.level.WorldGenLevel;
@@ -41,6 +42,32 @@ public interface ClimateModel
      */
     float getTemperature(LevelReader level, BlockPos pos, long calendarTicks, int daysInMonth);
 
+    /**
+     * Get the temperature at a given position, for each of a series of timestamps. This is used when catching up on a long period of time, and may be overridden to avoid recomputing values which only depend on the position.
+     *
+     * @param calendarTicks The timestamps to sample.
+     * @param temperatures  Filled with the temperature at each timestamp. Must be at least as long as {@code calendarTicks}.
+     */
+    default void getTemperatures(LevelReader level, BlockPos pos, long[] calendarTicks, int daysInMonth, float[] temperatures)
+    {
+        for (int i = 0; i < calendarTicks.length; i++)
+        {
+            temperatures[i] = getTemperature(level, pos, calendarTicks[i], daysInMonth);
+        }
+    }
+
+    /**
+     * Get a lower bound on the temperature of the surface of a chunk, over the month containing {@code calendarTicks}. This is used to skip checks for freezing in chunks which are known to be too warm.
+     * The bound may be loose, but must never be greater than any value {@link #getTemperature(LevelReader, BlockPos, long, int)} could return at or below {@code maxY}, during the month.
+     *
+     * @param maxY The highest y level in the chunk which will be queried.
+     * @return A temperature, in degrees Celsius, or {@link Float#NEGATIVE_INFINITY} if no bound is known.
+     */
+    default float getMinimumTemperature(LevelReader level, ChunkPos pos, int maxY, long calendarTicks, int daysInMonth)
+    {
+        return Float.NEGATIVE_INFINITY;
+    }
+
     /**
      * Get the average annual temperature for a given position.
      *
@@ -10,6 +10,7 @@ import java.util.Random;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.Direction;
 import net.minecraft.core.Holder;
+import net.minecraft.core.SectionPos;
 import net.minecraft.network.FriendlyByteBuf;
 import net.minecraft.server.level.ServerLevel;
 import net.minecraft.util.LinearCongruentialGenerator;
@@ -69,6 +70,8 @@ public class OverworldClimateModel implements WorldGenClimateModel
 
     public static final float LAVA_LEVEL_TEMPERATURE = 15f;
 
+    public static final float MIN_DAILY_TEMPERATURE = -3.9f; // See calculateDailyTemperature()
+
     public static final float SEA_LEVEL = TFCChunkGenerator.SEA_LEVEL_Y;
     public static final float DEPTH_LEVEL = -64;
 
@@ -124,6 +127,15 @@ public class OverworldClimateModel implements WorldGenClimateModel
     private long climateSeed = 0;
     private float temperatureScale = 20_000f;
 
+    // Temperature components that only depend on time, or only on the chunk, which are cached across calls within the same tick.
+    // Climate queries come in bursts at the same time, and often within the same chunk (random ticks), and may come from multiple threads (client color resolvers), so these are immutable, and replaced as a whole.
+    private volatile @Nullable TimeSnapshot timeSnapshot = null;
+    private volatile @Nullable ChunkSnapshot chunkSnapshot = null;
+
+    // Weather which only changes once per day, but is queried every frame, or per particle, so it is drawn once when the day changes
+    private volatile @Nullable DailyFog dailyFog = null;
+    private volatile @Nullable DailyWind dailyWind = null;
+
     // For world generation climate
     private Noise2D snowPatchNoise = (x, z) -> 0;
     private Noise2D icePatchNoise = (x, z) -> 0;
@@ -140,28 +152,67 @@ public class OverworldClimateModel implements WorldGenClimateModel
     @Override
     public float getTemperature(@Nullable LevelReader level, BlockPos pos, ChunkData data, long calendarTicks, int daysInMonth)
     {
-        // Month temperature
-        final Month currentMonth = ICalendar.getMonthOfYear(calendarTicks, daysInMonth);
-        final float delta = ICalendar.getFractionOfMonth(calendarTicks, daysInMonth);
-        final float monthFactor = Mth.lerp(delta, currentMonth.getTemperatureModifier(), currentMonth.next().getTemperatureModifier());
+        return getTemperature(pos, data.getAverageTemp(pos), calendarTicks, daysInMonth);
+    }
+
+    @Override
+    public float getTemperature(LevelReader level, BlockPos pos, long calendarTicks, int daysInMonth)
+    {
+        return getTemperature(pos, getChunkData(level, pos).getAverageTemp(pos), calendarTicks, daysInMonth);
+    }
+
+    @Override
+    public void getTemperatures(LevelReader level, BlockPos pos, long[] calendarTicks, int daysInMonth, float[] temperatures)
+    {
+        final float averageTemperature = getChunkData(level, pos).getAverageTemp(pos);
+        for (int i = 0; i < calendarTicks.length; i++)
+        {
+            temperatures[i] = getTemperature(pos, averageTemperature, calendarTicks[i], daysInMonth);
+        }
+    }
 
-        final float monthTemperature = calculateMonthlyTemperature(pos.getZ(), monthFactor);
-        final float dailyTemperature = calculateDailyTemperature(calendarTicks);
+    @Override
+    public float getMinimumTemperature(LevelReader level, ChunkPos pos, int maxY, long calendarTicks, int daysInMonth)
+    {
+        final ChunkData data = ChunkData.get(level, pos);
+        if (data == ChunkData.EMPTY)
+        {
+            return Float.NEGATIVE_INFINITY;
+        }
 
-        return adjustTemperatureByElevation(pos.getY(), data.getAverageTemp(pos), monthTemperature, dailyTemperature);
+        // Both the average temperature (bilinear), and the month temperature (linear over the month, and piecewise linear in z), take their extremes at the corners
+        // The month temperature is only piecewise linear in z, so allow a small margin for a chunk spanning a corner of the triangle wave
+        final int minX = pos.getMinBlockX(), maxX = pos.getMaxBlockX(), minZ = pos.getMinBlockZ(), maxZ = pos.getMaxBlockZ();
+        final float averageTemperature = Math.min(
+            Math.min(data.getAverageTemp(minX, minZ), data.getAverageTemp(minX, maxZ)),
+            Math.min(data.getAverageTemp(maxX, minZ), data.getAverageTemp(maxX, maxZ)));
+
+        final Month month = ICalendar.getMonthOfYear(calendarTicks, daysInMonth);
+        final float monthTemperature = Math.min(
+            Math.min(calculateMonthlyTemperature(minZ, month.getTemperatureModifier()), calculateMonthlyTemperature(maxZ, month.getTemperatureModifier())),
+            Math.min(calculateMonthlyTemperature(minZ, month.next().getTemperatureModifier()), calculateMonthlyTemperature(maxZ, month.next().getTemperatureModifier()))
+        ) - 0.5f;
+
+        // Lower bounds of each branch of adjustTemperatureByElevation(), for all y <= maxY
+        float minTemperature = Math.min(LAVA_LEVEL_TEMPERATURE, averageTemperature);
+        minTemperature = Math.min(minTemperature, averageTemperature + Math.min(0, monthTemperature) + MIN_DAILY_TEMPERATURE);
+        if (maxY > SEA_LEVEL)
+        {
+            minTemperature = Math.min(minTemperature, adjustTemperatureByElevation(maxY, averageTemperature, monthTemperature, MIN_DAILY_TEMPERATURE));
+        }
+        return minTemperature;
     }
 
     @Override
     public float getAverageTemperature(LevelReader level, BlockPos pos)
     {
-        return ChunkData.get(level, pos).getAverageTemp(pos);
+        return getChunkData(level, pos).getAverageTemp(pos);
     }
 
     @Override
     public float getRainfall(LevelReader level, BlockPos pos)
     {
-        final ChunkData data = ChunkData.get(level, pos);
-        return data.getRainfall(pos);
+        return getChunkData(level, pos).getRainfall(pos);
     }
 
     @Override
@@ -169,14 +220,12 @@ public class OverworldClimateModel implements WorldGenClimateModel
     {
         // seed as if we're 2 hours in the future, in order to start the cycle at 4am (2 hours before sunrise)
         final long day = ICalendar.getTotalDays(calendarTime + (2 * ICalendar.TICKS_IN_HOUR));
-        final Random random = seededRandom(day, 129341623413L);
-        if (random.nextInt(FOGGY_DAY_RARITY) != 0)
+        final float fogModifier = getDailyFog(day).fogModifier(); // untransformed value of the fog
+        if (fogModifier == 0)
         {
             return 0;
         }
 
-        final float fogModifier = random.nextFloat(); // untransformed value of the fog
-
         final long dayTime = Calendars.get(level).getCalendarDayTime();
         float scaledTime; // a value between 0 and 1
         if (dayTime > 22000) // 4am to 6am
@@ -219,7 +268,7 @@ public class OverworldClimateModel implements WorldGenClimateModel
         final int y = pos.getY();
         if (y < SEA_LEVEL - 6)
             return Vec2.ZERO;
-        final Random random = seededRandom(ICalendar.getTotalDays(calendarTime), 129341623413L);
+        final DailyWind wind = getDailyWind(ICalendar.getTotalDays(calendarTime));
 
         final Holder<Biome> biome = level.getBiome(pos);
         if (biome.is(TFCTags.Biomes.HAS_PREDICTABLE_WINDS))
@@ -229,7 +278,7 @@ public class OverworldClimateModel implements WorldGenClimateModel
             final boolean oddBand = pos.getZ() < 0 ?
                 pos.getZ() % (windScale * 2) < windScale :
                 pos.getZ() % (windScale * 2) > windScale;
-            final float intensity = random.nextFloat() * 0.3f + 0.3f + (0.4f * level.getRainLevel(0f));
+            final float intensity = wind.value(0) * 0.3f + 0.3f + (0.4f * level.getRainLevel(0f));
             float angle;
             if (isDay && oddBand)
                 angle = Mth.PI / 4;
@@ -239,15 +288,17 @@ public class OverworldClimateModel implements WorldGenClimateModel
                 angle = 5 * Mth.PI / 4;
             else
                 angle = 3 * Mth.PI / 4;
-            angle += random.nextFloat() * 0.2f - 0.1f;
+            angle += wind.value(1) * 0.2f - 0.1f;
             return new Vec2(Mth.cos(angle), Mth.sin(angle)).scale(intensity);
         }
 
-        final float preventFrequentWindyDays = random.nextFloat() < 0.1f ? 1f : random.nextFloat();
-        final float intensity = Math.min(0.5f * random.nextFloat() * preventFrequentWindyDays
+        // Identical to drawing from a random in order: if the first value is < 0.1, no value is drawn for preventFrequentWindyDays
+        final int skip = wind.value(0) < 0.1f ? 0 : 1;
+        final float preventFrequentWindyDays = skip == 0 ? 1f : wind.value(1);
+        final float intensity = Math.min(0.5f * wind.value(1 + skip) * preventFrequentWindyDays
             + 0.4f * Mth.clampedMap(y, SEA_LEVEL, SEA_LEVEL + 65, 0f, 1f)
             + 0.6f * level.getRainLevel(0f), 1f);
-        final float angle = random.nextFloat() * Mth.TWO_PI;
+        final float angle = wind.value(2 + skip) * Mth.TWO_PI;
         return new Vec2(Mth.cos(angle), Mth.sin(angle)).scale(intensity);
     }
 
@@ -371,6 +422,9 @@ public class OverworldClimateModel implements WorldGenClimateModel
 
         temperatureScale = extension.settings().temperatureScale();
         climateSeed = LinearCongruentialGenerator.next(level.getSeed(), 719283741234L);
+        timeSnapshot = null;
+        dailyFog = null;
+        dailyWind = null;
 
         updateNoise();
     }
@@ -387,6 +441,9 @@ public class OverworldClimateModel implements WorldGenClimateModel
     {
         temperatureScale = buffer.readFloat();
         climateSeed = buffer.readLong();
+        timeSnapshot = null;
+        dailyFog = null;
+        dailyWind = null;
     }
 
     protected void updateNoise()
@@ -395,6 +452,40 @@ public class OverworldClimateModel implements WorldGenClimateModel
         this.icePatchNoise = new OpenSimplex2D(climateSeed + 192639412341L).octaves(3).spread(0.6f);
     }
 
+    protected float getTemperature(BlockPos pos, float averageTemperature, long calendarTicks, int daysInMonth)
+    {
+        final TimeSnapshot time = getTimeSnapshot(calendarTicks, daysInMonth);
+        final float monthTemperature = calculateMonthlyTemperature(pos.getZ(), time.monthFactor());
+
+        return adjustTemperatureByElevation(pos.getY(), averageTemperature, monthTemperature, time.dailyTemperature());
+    }
+
+    /**
+     * Equivalent to {@link ChunkData#get(LevelReader, BlockPos)}, but caches the most recently queried chunk, for the remainder of the current tick.
+     */
+    protected ChunkData getChunkData(LevelReader level, BlockPos pos)
+    {
+        if (level instanceof Level actualLevel)
+        {
+            final long chunkPos = ChunkPos.asLong(SectionPos.blockToSectionCoord(pos.getX()), SectionPos.blockToSectionCoord(pos.getZ()));
+            final long gameTime = actualLevel.getGameTime();
+            final ChunkSnapshot snapshot = chunkSnapshot;
+            if (snapshot != null && snapshot.chunkPos() == chunkPos && snapshot.gameTime() == gameTime)
+            {
+                return snapshot.data();
+            }
+
+            final ChunkData data = ChunkData.get(level, pos);
+            if (data != ChunkData.EMPTY)
+            {
+                // Don't cache missing data, as it might be available later in the same tick
+                chunkSnapshot = new ChunkSnapshot(chunkPos, gameTime, data);
+            }
+            return data;
+        }
+        return ChunkData.get(level, pos);
+    }
+
     /**
      * Adjusts a series of temperature factors by elevation. Returns the sum temperature after adjustment.
      */
@@ -457,10 +548,80 @@ public class OverworldClimateModel implements WorldGenClimateModel
         return ((random.nextFloat() - random.nextFloat()) + 0.3f * hourModifier) * 3f;
     }
 
+    private TimeSnapshot getTimeSnapshot(long calendarTicks, int daysInMonth)
+    {
+        TimeSnapshot snapshot = timeSnapshot;
+        if (snapshot == null || snapshot.calendarTicks() != calendarTicks || snapshot.daysInMonth() != daysInMonth)
+        {
+            final Month currentMonth = ICalendar.getMonthOfYear(calendarTicks, daysInMonth);
+            final float delta = ICalendar.getFractionOfMonth(calendarTicks, daysInMonth);
+            final float monthFactor = Mth.lerp(delta, currentMonth.getTemperatureModifier(), currentMonth.next().getTemperatureModifier());
+
+            snapshot = new TimeSnapshot(calendarTicks, daysInMonth, monthFactor, calculateDailyTemperature(calendarTicks));
+            timeSnapshot = snapshot;
+        }
+        return snapshot;
+    }
+
+    private DailyFog getDailyFog(long day)
+    {
+        DailyFog fog = dailyFog;
+        if (fog == null || fog.day() != day)
+        {
+            final Random random = seededRandom(day, 129341623413L);
+            fog = new DailyFog(day, random.nextInt(FOGGY_DAY_RARITY) == 0 ? random.nextFloat() : 0);
+            dailyFog = fog;
+        }
+        return fog;
+    }
+
+    private DailyWind getDailyWind(long day)
+    {
+        DailyWind wind = dailyWind;
+        if (wind == null || wind.day() != day)
+        {
+            final Random random = seededRandom(day, 129341623413L);
+            final float[] values = new float[DailyWind.VALUES];
+            for (int i = 0; i < values.length; i++)
+            {
+                values[i] = random.nextFloat();
+            }
+            wind = new DailyWind(day, values);
+            dailyWind = wind;
+        }
+        return wind;
+    }
+
     protected Random seededRandom(long day, long salt)
     {
         long seed = LinearCongruentialGenerator.next(climateSeed, day);
         seed = LinearCongruentialGenerator.next(seed, salt);
         return new Random(seed);
     }
+
+    /**
+     * @param monthFactor The month temperature modifier, interpolated across the month
+     * @param dailyTemperature The daily temperature variation, see {@link #calculateDailyTemperature(long)}
+     */
+    private record TimeSnapshot(long calendarTicks, int daysInMonth, float monthFactor, float dailyTemperature) {}
+
+    private record ChunkSnapshot(long chunkPos, long gameTime, ChunkData data) {}
+
+    /**
+     * @param fogModifier The fog modifier for the day, or zero if this day is not foggy
+     */
+    private record DailyFog(long day, float fogModifier) {}
+
+    /**
+     * @param values The first {@link #VALUES} floats drawn from the seeded random for the day. Never modified after construction.
+     */
+    private record DailyWind(long day, float[] values)
+    {
+        static final int VALUES = 4;
+
+        float value(int index)
+        {
+            return values[index];
+        }
+    }
 }
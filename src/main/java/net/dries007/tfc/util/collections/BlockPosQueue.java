@@ -0,0 +1,136 @@
+/*
+ * Licensed under the EUPL, Version 1.2.
+ * You may obtain a copy of the Licence at:
+ * https://joinup.ec.europa.eu/collection/eupl/eupl-text-eupl-12
+ */
+
+package net.dries007.tfc.util.collections;
+
+import java.util.Arrays;
+import java.util.function.LongConsumer;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongArrayList;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.SectionPos;
+import net.minecraft.world.level.ChunkPos;
+
+/**
+ * A queue of block positions which need to be processed, once a given tick is reached.
+ * <ul>
+ *     <li>Positions are stored packed (see {@link BlockPos#asLong()}), in a queue ordered by the tick they are due, so processing stops at the first position which is not yet due.</li>
+ *     <li>Pending positions are also tracked in a set per chunk, and adding a position which is already in the queue does nothing, so many updates to the same position only cause it to be processed once.</li>
+ *     <li>Only a limited number of positions are processed at once, and the rest are left in the queue for the next call to {@link #process}.</li>
+ * </ul>
+ */
+public final class BlockPosQueue
+{
+    private final Long2ObjectOpenHashMap<LongOpenHashSet> buckets = new Long2ObjectOpenHashMap<>(); // Chunk -> Block pos
+    private final LongArrayList positions = new LongArrayList(); // In the range [head, size), with non-decreasing ticks
+    private final LongArrayList ticks = new LongArrayList(); // Parallel to positions
+    private int head;
+
+    /**
+     * @param pos The position to add.
+     * @param tick The tick at, or after which, the position should be processed. If this is before the tick of the last position in the queue, it is moved up to that tick, to keep the queue ordered.
+     * @return {@code true} if the position was added, or {@code false} if it was already present in the queue.
+     */
+    public boolean add(BlockPos pos, long tick)
+    {
+        return add(pos.asLong(), tick);
+    }
+
+    public boolean add(long pos, long tick)
+    {
+        final long chunk = chunk(pos);
+        LongOpenHashSet bucket = buckets.get(chunk);
+        if (bucket == null)
+        {
+            bucket = new LongOpenHashSet();
+            buckets.put(chunk, bucket);
+        }
+        if (!bucket.add(pos))
+        {
+            return false;
+        }
+        positions.add(pos);
+        ticks.add(head < ticks.size() ? Math.max(tick, ticks.getLong(ticks.size() - 1)) : tick);
+        return true;
+    }
+
+    /**
+     * Removes, and then processes, up to {@code limit} positions which are due at {@code tick}. Positions are removed before {@code action} is called on any of them, so it is safe for the action to add positions back to this queue.
+     *
+     * @return The number of positions processed.
+     */
+    public int process(long tick, int limit, LongConsumer action)
+    {
+        final int start = head;
+        while (head < positions.size() && head - start < limit && ticks.getLong(head) <= tick)
+        {
+            final long pos = positions.getLong(head);
+            final long chunk = chunk(pos);
+            final LongOpenHashSet bucket = buckets.get(chunk);
+            bucket.remove(pos);
+            if (bucket.isEmpty())
+            {
+                buckets.remove(chunk);
+            }
+            head++;
+        }
+
+        final int count = head - start;
+        final long[] due = Arrays.copyOfRange(positions.elements(), start, head);
+        compact();
+        for (long pos : due)
+        {
+            action.accept(pos);
+        }
+        return count;
+    }
+
+    /**
+     * @return All positions in the queue, packed, in the order they are due.
+     */
+    public long[] toArray()
+    {
+        return Arrays.copyOfRange(positions.elements(), head, positions.size());
+    }
+
+    public int size()
+    {
+        return positions.size() - head;
+    }
+
+    public void clear()
+    {
+        buckets.clear();
+        positions.clear();
+        ticks.clear();
+        head = 0;
+    }
+
+    /**
+     * Drops processed positions from the front of the queue, once they make up at least half of it.
+     */
+    private void compact()
+    {
+        if (head == positions.size())
+        {
+            positions.clear();
+            ticks.clear();
+            head = 0;
+        }
+        else if (head >= positions.size() - head)
+        {
+            positions.removeElements(0, head);
+            ticks.removeElements(0, head);
+            head = 0;
+        }
+    }
+
+    private static long chunk(long pos)
+    {
+        return ChunkPos.asLong(SectionPos.blockToSectionCoord(BlockPos.getX(pos)), SectionPos.blockToSectionCoord(BlockPos.getZ(pos)));
+    }
+}
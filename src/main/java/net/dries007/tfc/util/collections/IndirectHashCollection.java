@@ -10,9 +10,11 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.function.Function;
 import java.util.function.Supplier;
+import com.mojang.datafixers.util.Pair;
 import net.minecraft.world.Container;
 import net.minecraft.world.item.crafting.Recipe;
 import net.minecraft.world.item.crafting.RecipeManager;
@@ -35,18 +37,16 @@ import net.dries007.tfc.util.Helpers;
  *     <li>Using an LRU cache of size 1, delegating to the above took 273 us / recipe</li>
  *     <li>This took 11 us / recipe.</li>
  * </ul>
+ * Recipes which are matched on more than one value, for example an item and a fluid, can be indexed on all of them at once by using a {@link Pair} as the key, with {@link #keysOf(Iterable, Iterable)} as the key extractor.
  */
 public class IndirectHashCollection<K, R>
 {
     private static final Map<IndirectHashCollection<?, ?>, Supplier<Collection<?>>> DIRECT_CACHES = new HashMap<>();
     private static final Map<IndirectHashCollection<?, ?>, Supplier<RecipeType<?>>> RECIPE_CACHES = new HashMap<>();
 
-    @SuppressWarnings({"unchecked", "rawtypes"})
     public static <K, R> IndirectHashCollection<K, R> create(Function<R, Iterable<? extends K>> keyExtractor, Supplier<Collection<R>> reloadableCollection)
     {
-        final IndirectHashCollection<K, R> cache = new IndirectHashCollection<>(keyExtractor);
-        DIRECT_CACHES.put(cache, (Supplier) reloadableCollection);
-        return cache;
+        return register(new IndirectHashCollection<>(keyExtractor), reloadableCollection);
     }
 
     @SuppressWarnings({"unchecked", "rawtypes"})
@@ -57,6 +57,22 @@ public class IndirectHashCollection<K, R>
         return cache;
     }
 
+    /**
+     * @return Every combination of a key from {@code first} and {@code second}, for use as the keys of a collection indexed on two values. It must then be queried with {@code Pair.of(a, b)}.
+     */
+    public static <A, B> List<Pair<A, B>> keysOf(Iterable<? extends A> first, Iterable<? extends B> second)
+    {
+        final List<Pair<A, B>> keys = new ArrayList<>();
+        for (A a : first)
+        {
+            for (B b : second)
+            {
+                keys.add(Pair.of(a, b));
+            }
+        }
+        return keys;
+    }
+
     @SuppressWarnings({"unchecked", "rawtypes"})
     public static void reloadAllCaches(RecipeManager manager)
     {
@@ -70,6 +86,16 @@ public class IndirectHashCollection<K, R>
         RECIPE_CACHES.forEach((cache, type) -> cache.clear());
     }
 
+    /**
+     * Registers {@code cache} to be reloaded from {@code reloadableCollection}, along with all other caches.
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    protected static <C extends IndirectHashCollection<?, R>, R> C register(C cache, Supplier<Collection<R>> reloadableCollection)
+    {
+        DIRECT_CACHES.put(cache, (Supplier) reloadableCollection);
+        return cache;
+    }
+
     private static <K, R> void reloadDirectCache(IndirectHashCollection<K, R> cache, Supplier<Collection<R>> values)
     {
         cache.reload(values.get());
@@ -0,0 +1,88 @@
+/*
+ * Licensed under the EUPL, Version 1.2.
+ * You may obtain a copy of the Licence at:
+ * https://joinup.ec.europa.eu/collection/eupl/eupl-text-eupl-12
+ */
+
+package net.dries007.tfc.util.collections;
+
+import java.util.Collection;
+import java.util.function.Supplier;
+import net.minecraft.core.registries.BuiltInRegistries;
+import net.minecraft.world.item.Item;
+import net.minecraft.world.item.ItemStack;
+import org.jetbrains.annotations.Nullable;
+
+import net.dries007.tfc.util.ItemDefinition;
+
+/**
+ * An {@link IndirectHashCollection} of {@link ItemDefinition}s, which are queried for every item stack that has capabilities attached, so are extremely hot.
+ * <p>
+ * On reload, each item is resolved ahead of time if possible: if the first definition for that item only depends on the item, it will always match, and so is the result for every stack of that item. Those items are then resolved with an array lookup by their id, and only items where the first definition needs to inspect the stack (i.e. its tag) test each candidate definition.
+ */
+public class ItemDefinitionCollection<T extends ItemDefinition> extends IndirectHashCollection<Item, T>
+{
+    private static final Object NEEDS_TEST = new Object();
+
+    public static <T extends ItemDefinition> ItemDefinitionCollection<T> create(Supplier<Collection<T>> reloadableCollection)
+    {
+        return register(new ItemDefinitionCollection<T>(), reloadableCollection);
+    }
+
+    private volatile Object[] resolved; // Indexed by item id, either a definition, null (no definition), or NEEDS_TEST
+
+    public ItemDefinitionCollection()
+    {
+        super(ItemDefinition::getValidItems);
+        this.resolved = new Object[0];
+    }
+
+    /**
+     * @return The first definition which matches {@code stack}, or {@code null} if none do.
+     */
+    @Nullable
+    @SuppressWarnings("unchecked")
+    public T get(ItemStack stack)
+    {
+        final Item item = stack.getItem();
+        final Object[] resolved = this.resolved;
+        final int id = BuiltInRegistries.ITEM.getId(item);
+        if (id >= 0 && id < resolved.length && resolved[id] != NEEDS_TEST)
+        {
+            return (T) resolved[id];
+        }
+        for (T def : getAll(item))
+        {
+            if (def.matches(stack))
+            {
+                return def;
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public void reload(Collection<T> values)
+    {
+        super.reload(values);
+
+        final Object[] resolved = new Object[BuiltInRegistries.ITEM.size()];
+        for (Item item : BuiltInRegistries.ITEM)
+        {
+            final Collection<T> all = getAll(item);
+            if (!all.isEmpty())
+            {
+                final T first = all.iterator().next();
+                resolved[BuiltInRegistries.ITEM.getId(item)] = first.dependsOnlyOnItem() ? first : NEEDS_TEST;
+            }
+        }
+        this.resolved = resolved;
+    }
+
+    @Override
+    public void clear()
+    {
+        super.clear();
+        this.resolved = new Object[0];
+    }
+}
@@ -7,7 +7,10 @@
 package net.dries007.tfc.util.rotation;
 
 import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Comparator;
+import java.util.List;
 import java.util.Queue;
 import java.util.Set;
 import java.util.stream.Collectors;
@@ -194,6 +197,62 @@ final class RotationNetwork
         nodes.remove(toRemove.posKey());
     }
 
+    /**
+     * Removes a number of nodes from the network, and updates the network afterwards. This is equivalent to calling {@link #removeNode(Node)} for each, followed by {@link #updateNetwork()}, but only visits nodes which were downstream of a removed node, rather than the entire network.
+     */
+    void removeNodes(Collection<Node> toRemove, RotationAccess level)
+    {
+        final Queue<Node> queue = new ArrayDeque<>();
+        final List<Node> detached = new ArrayList<>();
+        final BlockPos.MutableBlockPos cursor = new BlockPos.MutableBlockPos();
+
+        for (Node node : toRemove)
+        {
+            removeNode(node);
+            queue.add(node);
+        }
+
+        // Only nodes which received their rotation through a removed node can have been disconnected, so detach all of them
+        while (!queue.isEmpty())
+        {
+            final Node current = queue.poll();
+
+            for (Direction direction : current.connections())
+            {
+                cursor.setWithOffset(current.pos(), direction);
+
+                final @Nullable Node next = getNode(cursor);
+                if (next != null && next.source() == direction.getOpposite())
+                {
+                    next.remove();
+                    nodes.remove(next.posKey());
+                    detached.add(next);
+                    queue.add(next);
+                }
+            }
+        }
+
+        // Then, any detached node which is still adjacent to the network can be reconnected, by searching outwards from that adjacent node
+        for (Node node : detached)
+        {
+            if (node.network() != Node.NO_NETWORK)
+            {
+                continue; // Already reconnected
+            }
+            for (Direction direction : node.connections())
+            {
+                cursor.setWithOffset(node.pos(), direction);
+
+                final @Nullable Node adjacent = getNode(cursor);
+                if (adjacent != null && adjacent.connections().contains(direction.getOpposite()))
+                {
+                    updateAfterAdd(adjacent, level);
+                    break;
+                }
+            }
+        }
+    }
+
     /**
      * Update a network, once a node within it has been updated or removed.
      */
@@ -290,7 +349,7 @@ final class RotationNetwork
     }
 
     @Nullable
-    private Node getNode(BlockPos pos)
+    Node getNode(BlockPos pos)
     {
         return pos.equals(source.pos()) ? source : nodes.get(pos.asLong());
     }
@@ -6,13 +6,18 @@
 
 package net.dries007.tfc.util.rotation;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Comparator;
+import java.util.List;
 import java.util.stream.Collectors;
 import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
 import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongArrayList;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.Direction;
 import net.minecraft.world.level.Level;
+import net.minecraft.world.level.chunk.ChunkAccess;
 import org.jetbrains.annotations.Nullable;
 
 import net.dries007.tfc.util.tracker.WorldTracker;
@@ -110,7 +115,7 @@ public final class RotationNetworkManager implements RotationAccess
     public boolean add(Node toAdd)
     {
         @Nullable RotationNetwork addedNetwork = null;
-        for (RotationNetwork network : networks.values())
+        for (RotationNetwork network : getAdjacentNetworks(toAdd))
         {
             switch (network.updateOnAdd(toAdd))
             {
@@ -167,7 +172,7 @@ public final class RotationNetworkManager implements RotationAccess
             // If so, this update needs to be reverted and the current block broken, which means removing it from its original network
             final RotationNetwork originNetwork = getNetwork(networkId);
 
-            for (RotationNetwork network : networks.values())
+            for (RotationNetwork network : getAdjacentNetworks(toUpdate))
             {
                 // Note that the node already belongs to a network, so if this returns true, it is already broken and will not add
                 switch (network.updateOnAdd(toUpdate))
@@ -228,12 +233,71 @@ public final class RotationNetworkManager implements RotationAccess
                 }
                 else
                 {
-                    // Otherwise, we need to update the network regularly, after removing the specific node
-                    network.removeNode(toRemove);
-                    network.updateNetwork();
+                    // Otherwise, we need to update the part of the network downstream of the specific node
+                    network.removeNodes(List.of(toRemove), this);
+                }
+            }
+        }
+    }
+
+    /**
+     * Removes all nodes within a chunk, when it is unloaded. Block entities in the chunk will also call {@link #remove(Node)} as they unload, which is then a no-op.
+     */
+    public void onChunkUnloaded(ChunkAccess chunk)
+    {
+        final List<Node> toRemove = new ArrayList<>();
+        for (BlockPos pos : chunk.getBlockEntitiesPos())
+        {
+            final @Nullable Node node = nodes.get(pos.asLong());
+            if (node != null)
+            {
+                toRemove.add(node);
+            }
+        }
+        removeAll(toRemove);
+    }
+
+    /**
+     * Removes a number of nodes at once. This is equivalent to calling {@link #remove(Node)} for each, but each affected network is only updated once.
+     * The removed nodes are left disconnected from any network.
+     */
+    public void removeAll(Collection<Node> toRemove)
+    {
+        final Long2ObjectMap<List<Node>> removedByNetwork = new Long2ObjectOpenHashMap<>();
+        for (Node node : toRemove)
+        {
+            nodes.remove(node.posKey());
+
+            final @Nullable RotationNetwork network = networks.get(node.network());
+            if (network != null && network.isSource(node))
+            {
+                // Removing a source removes the entire network, so we don't need to update it afterwards
+                network.removeNetwork();
+                networks.remove(network.networkId());
+            }
+        }
+        for (Node node : toRemove)
+        {
+            final @Nullable RotationNetwork network = networks.get(node.network());
+            if (network != null)
+            {
+                List<Node> removed = removedByNetwork.get(network.networkId());
+                if (removed == null)
+                {
+                    removed = new ArrayList<>();
+                    removedByNetwork.put(network.networkId(), removed);
                 }
+                removed.add(node);
             }
         }
+        for (Long2ObjectMap.Entry<List<Node>> entry : removedByNetwork.long2ObjectEntrySet())
+        {
+            networks.get(entry.getLongKey()).removeNodes(entry.getValue(), this);
+        }
+        for (Node node : toRemove)
+        {
+            node.remove();
+        }
     }
 
     public void clear()
@@ -260,6 +324,60 @@ public final class RotationNetworkManager implements RotationAccess
             .collect(Collectors.joining("\n"));
     }
 
+    /**
+     * A network can only connect to {@code node} through a node adjacent to it, so rather than trying every network in the world, we only need to check the networks of the (at most six) connected nodes.
+     * @return The distinct networks which contain a node adjacent to, and connecting back to, {@code node}.
+     */
+    private List<RotationNetwork> getAdjacentNetworks(Node node)
+    {
+        final BlockPos.MutableBlockPos cursor = new BlockPos.MutableBlockPos();
+        final LongArrayList networkIds = new LongArrayList(6);
+        final List<RotationNetwork> adjacentNetworks = new ArrayList<>(6);
+
+        for (Direction direction : node.connections())
+        {
+            cursor.setWithOffset(node.pos(), direction);
+
+            final @Nullable Node adjacent = getNode(cursor);
+            if (adjacent != null &&
+                adjacent.network() != Node.NO_NETWORK &&
+                adjacent.connections().contains(direction.getOpposite()) &&
+                !networkIds.contains(adjacent.network()))
+            {
+                final @Nullable RotationNetwork network = networks.get(adjacent.network());
+                if (network != null)
+                {
+                    networkIds.add(adjacent.network());
+                    adjacentNetworks.add(network);
+                }
+            }
+        }
+
+        // Only when assertions are enabled, verify against a full scan of every network
+        assert isAdjacentToOnly(node, networkIds) : "Adjacent networks " + networkIds + " did not match a full scan for " + node;
+        return adjacentNetworks;
+    }
+
+    private boolean isAdjacentToOnly(Node node, LongArrayList networkIds)
+    {
+        final BlockPos.MutableBlockPos cursor = new BlockPos.MutableBlockPos();
+        for (RotationNetwork network : networks.values())
+        {
+            if (!networkIds.contains(network.networkId()))
+            {
+                for (Direction direction : node.connections())
+                {
+                    final @Nullable Node adjacent = network.getNode(cursor.setWithOffset(node.pos(), direction));
+                    if (adjacent != null && adjacent.connections().contains(direction.getOpposite()))
+                    {
+                        return false;
+                    }
+                }
+            }
+        }
+        return true;
+    }
+
     private RotationNetwork getNetwork(long networkId)
     {
         final RotationNetwork network = networks.get(networkId);
@@ -6,30 +6,44 @@
 
 package net.dries007.tfc.util.tracker;
 
-import java.util.Arrays;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
-import java.util.stream.Collectors;
-
-import net.minecraft.nbt.CompoundTag;
+import it.unimi.dsi.fastutil.longs.LongIterator;
+import it.unimi.dsi.fastutil.longs.LongLinkedOpenHashSet;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
 import net.minecraft.core.BlockPos;
+import net.minecraft.nbt.CompoundTag;
 
+/**
+ * A collapse propagates in waves. Each wave checks every position in {@code frontier}, and any positions that collapse add the position above to {@code nextPositions}, which becomes the frontier of the next wave.
+ * A wave may be spread over multiple ticks, see {@link WorldTracker#tick()}.
+ */
 public class Collapse
 {
-    BlockPos centerPos;
-    List<BlockPos> nextPositions;
+    final BlockPos centerPos;
+    final LongLinkedOpenHashSet frontier; // Positions remaining to be checked in the current wave
+    final LongOpenHashSet nextPositions; // Positions to be checked in the next wave
     double radiusSquared;
 
-    public Collapse(BlockPos centerPos, List<BlockPos> nextPositions, double radiusSquared)
+    public Collapse(BlockPos centerPos, Collection<BlockPos> nextPositions, double radiusSquared)
     {
         this.centerPos = centerPos;
-        this.nextPositions = nextPositions;
+        this.frontier = new LongLinkedOpenHashSet();
+        this.nextPositions = new LongOpenHashSet(nextPositions.size());
         this.radiusSquared = radiusSquared;
+
+        for (BlockPos pos : nextPositions)
+        {
+            this.nextPositions.add(pos.asLong());
+        }
     }
 
     public Collapse(CompoundTag nbt)
     {
         centerPos = BlockPos.of(nbt.getLong("centerPos"));
-        nextPositions = Arrays.stream(nbt.getLongArray("nextPositions")).mapToObj(BlockPos::of).collect(Collectors.toList());
+        frontier = new LongLinkedOpenHashSet(nbt.getLongArray("frontier"));
+        nextPositions = new LongOpenHashSet(nbt.getLongArray("nextPositions"));
         radiusSquared = nbt.getDouble("radiusSquared");
     }
 
@@ -37,8 +51,47 @@ public class Collapse
     {
         CompoundTag nbt = new CompoundTag();
         nbt.putLong("centerPos", centerPos.asLong());
-        nbt.putLongArray("nextPositions", nextPositions.stream().mapToLong(BlockPos::asLong).toArray());
+        nbt.putLongArray("frontier", frontier.toLongArray());
+        nbt.putLongArray("nextPositions", nextPositions.toLongArray());
         nbt.putDouble("radiusSquared", radiusSquared);
         return nbt;
     }
-}
\ No newline at end of file
+
+    /**
+     * @return A copy of the positions to be checked in the next wave.
+     */
+    public List<BlockPos> getNextPositions()
+    {
+        final List<BlockPos> positions = new ArrayList<>(nextPositions.size());
+        for (LongIterator iterator = nextPositions.iterator(); iterator.hasNext(); )
+        {
+            positions.add(BlockPos.of(iterator.nextLong()));
+        }
+        return positions;
+    }
+
+    /**
+     * @return {@code true} if the current wave has not been fully checked yet.
+     */
+    boolean isPropagating()
+    {
+        return !frontier.isEmpty();
+    }
+
+    /**
+     * @return {@code true} if there is nothing left to check, in this or any following wave.
+     */
+    boolean isDone()
+    {
+        return frontier.isEmpty() && nextPositions.isEmpty();
+    }
+
+    /**
+     * Starts the next wave, moving all next positions into the frontier.
+     */
+    void startWave()
+    {
+        frontier.addAll(nextPositions);
+        nextPositions.clear();
+    }
+}
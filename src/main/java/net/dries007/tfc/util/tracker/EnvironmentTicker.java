@@ -0,0 +1,119 @@
+/*
+ * Licensed under the EUPL, Version 1.2.
+ * You may obtain a copy of the Licence at:
+ * https://joinup.ec.europa.eu/collection/eupl/eupl-text-eupl-12
+ */
+
+package net.dries007.tfc.util.tracker;
+
+import it.unimi.dsi.fastutil.longs.Long2LongOpenHashMap;
+import net.minecraft.world.level.ChunkPos;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.level.chunk.LevelChunk;
+import net.minecraft.world.level.levelgen.Heightmap;
+
+import net.dries007.tfc.config.TFCConfig;
+import net.dries007.tfc.util.EnvironmentHelpers;
+import net.dries007.tfc.util.calendar.Calendars;
+import net.dries007.tfc.util.calendar.ICalendar;
+import net.dries007.tfc.util.climate.Climate;
+import net.dries007.tfc.util.climate.OverworldClimateModel;
+
+/**
+ * Per-level state for {@link EnvironmentHelpers#tickChunk}, only present on logical server.
+ * <ul>
+ *     <li>A classification of each chunk by how cold it can get in the current month, so chunks that are too warm to ever freeze only check for melting.</li>
+ *     <li>A time budget for environment ticks, per tick, reset at the start of every tick by {@link WorldTracker#tick()}. Only time spent in environment ticks counts against the budget, so other work earlier in the tick can't starve them.</li>
+ * </ul>
+ */
+public final class EnvironmentTicker
+{
+    /**
+     * A margin, in blocks, above the highest block in a chunk at the time it was classified, so building up slightly doesn't reach temperatures outside the classification.
+     */
+    public static final int HEIGHT_MARGIN = 16;
+
+    private static final long UNKNOWN = -1;
+
+    private final Long2LongOpenHashMap chunks; // Packed (month << 2) | classification ordinal
+    private long spentNanos;
+
+    public EnvironmentTicker()
+    {
+        this.chunks = new Long2LongOpenHashMap();
+        this.chunks.defaultReturnValue(UNKNOWN);
+    }
+
+    public void tick()
+    {
+        spentNanos = 0;
+    }
+
+    /**
+     * @return {@code true} if there is time remaining this tick for environment ticks.
+     */
+    public boolean hasTimeRemaining()
+    {
+        return spentNanos < TFCConfig.SERVER.environmentMaxMicrosPerTick.get() * 1000L;
+    }
+
+    public void addTimeSpent(long nanos)
+    {
+        spentNanos += nanos;
+    }
+
+    /**
+     * @return The classification of {@code chunk} for the current month, computed once per month.
+     */
+    public Classification classify(Level level, LevelChunk chunk)
+    {
+        final ICalendar calendar = Calendars.get(level);
+        final long month = calendar.getTotalCalendarMonths();
+        final long key = chunk.getPos().toLong();
+        final long packed = chunks.get(key);
+        if (packed != UNKNOWN && (packed >> 2) == month)
+        {
+            return Classification.VALUES[(int) (packed & 3)];
+        }
+
+        final float minTemperature = Climate.model(level).getMinimumTemperature(level, chunk.getPos(), getMaxHeight(chunk) + HEIGHT_MARGIN, calendar.getCalendarTicks(), calendar.getCalendarDaysInMonth());
+        final Classification classification = minTemperature >= OverworldClimateModel.SNOW_FREEZE_TEMPERATURE ? Classification.NEVER_SNOWS
+            : minTemperature >= OverworldClimateModel.ICE_FREEZE_TEMPERATURE ? Classification.NEVER_FREEZES
+            : Classification.SEASONAL;
+
+        if (minTemperature != Float.NEGATIVE_INFINITY)
+        {
+            // Don't cache unknown bounds, as they may only be unknown because chunk data is not available yet
+            chunks.put(key, (month << 2) | classification.ordinal());
+        }
+        return classification;
+    }
+
+    public void onChunkUnloaded(ChunkPos pos)
+    {
+        chunks.remove(pos.toLong());
+    }
+
+    private static int getMaxHeight(LevelChunk chunk)
+    {
+        final Heightmap heightmap = chunk.getOrCreateHeightmapUnprimed(Heightmap.Types.MOTION_BLOCKING);
+        int maxHeight = chunk.getMinBuildHeight();
+        for (int x = 0; x < 16; x++)
+        {
+            for (int z = 0; z < 16; z++)
+            {
+                maxHeight = Math.max(maxHeight, heightmap.getFirstAvailable(x, z));
+            }
+        }
+        return maxHeight;
+    }
+
+    public enum Classification
+    {
+        NEVER_SNOWS, // Too warm for snow, ice, or icicles to form. Only melting can occur
+        NEVER_FREEZES, // Too warm for ice to form, so ice is only checked if present to melt, but snow and icicles can
+        SEASONAL; // Anything can happen
+
+        private static final Classification[] VALUES = values();
+    }
+}
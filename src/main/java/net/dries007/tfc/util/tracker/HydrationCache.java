@@ -0,0 +1,134 @@
+/*
+ * Licensed under the EUPL, Version 1.2.
+ * You may obtain a copy of the Licence at:
+ * https://joinup.ec.europa.eu/collection/eupl/eupl-text-eupl-12
+ */
+
+package net.dries007.tfc.util.tracker;
+
+import java.util.function.ToIntFunction;
+import it.unimi.dsi.fastutil.longs.Long2ByteOpenHashMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.SectionPos;
+import net.minecraft.world.level.ChunkPos;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.level.block.state.BlockState;
+
+import net.dries007.tfc.common.TFCTags;
+import net.dries007.tfc.util.Helpers;
+
+/**
+ * A cache, per chunk, of the cost to reach the nearest hydrating fluid from a farmland position, as computed by {@link net.dries007.tfc.common.blocks.soil.FarmlandBlock#getHydration}.
+ * <p>
+ * Cached values are invalidated whenever a block within range of a farmland position changes whether it contains a hydrating fluid, and whenever a chunk within range is loaded or unloaded.
+ * This exists on both logical sides, as hydration is also queried by client side overlays.
+ */
+public final class HydrationCache
+{
+    /**
+     * The horizontal range, in blocks, that hydrating fluids are searched for.
+     */
+    public static final int RANGE = 4;
+
+    private static volatile int globalGeneration = 0;
+
+    /**
+     * Called on every block change in a loaded chunk, see {@link net.dries007.tfc.mixin.LevelChunkMixin}.
+     */
+    public static void onBlockChanged(Level level, BlockPos pos, BlockState oldState, BlockState newState)
+    {
+        if (oldState.getFluidState().getType() != newState.getFluidState().getType() && isHydrating(oldState) != isHydrating(newState))
+        {
+            WorldTracker.get(level).getHydrationCache().invalidateAround(pos);
+        }
+    }
+
+    /**
+     * Invalidates every cache, in every level. Called when tags are reloaded.
+     */
+    public static void invalidateAll()
+    {
+        globalGeneration++;
+    }
+
+    private static boolean isHydrating(BlockState state)
+    {
+        return Helpers.isFluid(state.getFluidState().getType(), TFCTags.Fluids.HYDRATING);
+    }
+
+    private final Long2ObjectOpenHashMap<Long2ByteOpenHashMap> chunks = new Long2ObjectOpenHashMap<>();
+    private int generation = globalGeneration;
+
+    /**
+     * @return The cached water cost at {@code pos}, or computes and caches it with {@code compute}.
+     */
+    public int getWaterCost(BlockPos pos, ToIntFunction<BlockPos> compute)
+    {
+        checkGeneration();
+
+        final long chunkKey = ChunkPos.asLong(SectionPos.blockToSectionCoord(pos.getX()), SectionPos.blockToSectionCoord(pos.getZ()));
+        final long posKey = pos.asLong();
+
+        Long2ByteOpenHashMap costs = chunks.get(chunkKey);
+        if (costs == null)
+        {
+            costs = new Long2ByteOpenHashMap();
+            costs.defaultReturnValue((byte) -1);
+            chunks.put(chunkKey, costs);
+        }
+
+        int cost = costs.get(posKey);
+        if (cost == -1)
+        {
+            cost = compute.applyAsInt(pos);
+            costs.put(posKey, (byte) cost);
+        }
+        return cost;
+    }
+
+    /**
+     * Invalidates every cached position which could have a fluid at {@code pos} within range.
+     * Fluids are searched for at and one block below a farmland position, so this affects positions at, and one block above {@code pos}.
+     */
+    public void invalidateAround(BlockPos pos)
+    {
+        final BlockPos.MutableBlockPos cursor = new BlockPos.MutableBlockPos();
+        for (int dx = -RANGE; dx <= RANGE; dx++)
+        {
+            for (int dz = -RANGE; dz <= RANGE; dz++)
+            {
+                final Long2ByteOpenHashMap costs = chunks.get(ChunkPos.asLong(SectionPos.blockToSectionCoord(pos.getX() + dx), SectionPos.blockToSectionCoord(pos.getZ() + dz)));
+                if (costs != null)
+                {
+                    costs.remove(cursor.setWithOffset(pos, dx, 0, dz).asLong());
+                    costs.remove(cursor.move(0, 1, 0).asLong());
+                }
+            }
+        }
+    }
+
+    /**
+     * Drops all cached values for a chunk, and its neighbors, since their values may depend on blocks in this chunk.
+     */
+    public void onChunkChanged(ChunkPos pos)
+    {
+        for (int dx = -1; dx <= 1; dx++)
+        {
+            for (int dz = -1; dz <= 1; dz++)
+            {
+                chunks.remove(ChunkPos.asLong(pos.x + dx, pos.z + dz));
+            }
+        }
+    }
+
+    private void checkGeneration()
+    {
+        if (generation != globalGeneration)
+        {
+            // Tags have been reloaded, so which fluids are hydrating may have changed
+            generation = globalGeneration;
+            chunks.clear();
+        }
+    }
+}
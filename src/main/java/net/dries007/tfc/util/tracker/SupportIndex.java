@@ -0,0 +1,168 @@
+/*
+ * Licensed under the EUPL, Version 1.2.
+ * You may obtain a copy of the Licence at:
+ * https://joinup.ec.europa.eu/collection/eupl/eupl-text-eupl-12
+ */
+
+package net.dries007.tfc.util.tracker;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import it.unimi.dsi.fastutil.longs.LongSet;
+import it.unimi.dsi.fastutil.longs.LongSets;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.SectionPos;
+import net.minecraft.world.level.ChunkPos;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.level.block.state.BlockState;
+import net.minecraft.world.level.chunk.LevelChunk;
+import net.minecraft.world.level.chunk.LevelChunkSection;
+import org.jetbrains.annotations.Nullable;
+
+import net.dries007.tfc.util.Support;
+
+/**
+ * An index of the positions of all {@link Support} blocks, per chunk section. This lets support queries look at the handful of supports nearby, instead of scanning every block in the maximum support range.
+ * <p>
+ * Sections are indexed lazily, the first time they are queried, and are then kept up to date via {@link #onBlockChanged(Level, BlockPos, BlockState, BlockState)}, which is called for every block change in a loaded chunk. Sections are dropped when their chunk unloads, and the whole index is dropped when supports are reloaded.
+ * Positions in the index may be stale, so callers must always check the block state at each position.
+ */
+public final class SupportIndex
+{
+    /**
+     * Called on every block change in a loaded chunk, see {@link net.dries007.tfc.mixin.LevelChunkMixin}. {@link Support#get(BlockState)} is cached per block state, so filtering out changes which don't involve a support is just a field read on each state.
+     */
+    public static void onBlockChanged(Level level, BlockPos pos, BlockState oldState, BlockState newState)
+    {
+        if (!level.isClientSide())
+        {
+            final boolean wasSupport = Support.get(oldState) != null, isSupport = Support.get(newState) != null;
+            if (wasSupport != isSupport)
+            {
+                WorldTracker.get(level).getSupportIndex().onSupportChanged(pos, isSupport);
+            }
+        }
+    }
+
+    private final Level level;
+    private final Long2ObjectOpenHashMap<LongSet> sections;
+    private int generation;
+
+    public SupportIndex(Level level)
+    {
+        this.level = level;
+        this.sections = new Long2ObjectOpenHashMap<>();
+        this.generation = Support.getGeneration();
+    }
+
+    /**
+     * @return The positions of all support blocks in the given section, or {@code null} if the chunk containing the section is not loaded.
+     */
+    @Nullable
+    public LongSet getSupports(int sectionX, int sectionY, int sectionZ)
+    {
+        checkGeneration();
+
+        final long key = SectionPos.asLong(sectionX, sectionY, sectionZ);
+        LongSet supports = sections.get(key);
+        if (supports == null)
+        {
+            final LevelChunk chunk = level.getChunkSource().getChunkNow(sectionX, sectionZ);
+            if (chunk == null)
+            {
+                return null;
+            }
+            supports = createSupports(chunk, sectionY);
+            sections.put(key, supports);
+        }
+        return supports;
+    }
+
+    /**
+     * Records that the block at {@code pos} has become, or stopped being, a support. Only sections that have already been indexed are updated.
+     */
+    public void onSupportChanged(BlockPos pos, boolean isSupport)
+    {
+        checkGeneration();
+
+        final long key = SectionPos.asLong(pos);
+        final LongSet supports = sections.get(key);
+        if (supports != null)
+        {
+            if (isSupport)
+            {
+                if (supports == LongSets.EMPTY_SET)
+                {
+                    final LongSet newSupports = new LongOpenHashSet();
+                    newSupports.add(pos.asLong());
+                    sections.put(key, newSupports);
+                }
+                else
+                {
+                    supports.add(pos.asLong());
+                }
+            }
+            else if (supports != LongSets.EMPTY_SET)
+            {
+                supports.remove(pos.asLong());
+            }
+        }
+    }
+
+    public void onChunkUnloaded(ChunkPos pos)
+    {
+        for (int sectionY = level.getMinSection(); sectionY < level.getMaxSection(); sectionY++)
+        {
+            sections.remove(SectionPos.asLong(pos.x, sectionY, pos.z));
+        }
+    }
+
+    public int size()
+    {
+        return sections.size();
+    }
+
+    private LongSet createSupports(LevelChunk chunk, int sectionY)
+    {
+        final int sectionIndex = chunk.getSectionIndexFromSectionY(sectionY);
+        if (sectionIndex < 0 || sectionIndex >= chunk.getSectionsCount())
+        {
+            return LongSets.EMPTY_SET;
+        }
+
+        // Most sections contain no support blocks at all, which we can tell from the palette alone
+        final LevelChunkSection section = chunk.getSection(sectionIndex);
+        if (section.hasOnlyAir() || !section.maybeHas(state -> Support.get(state) != null))
+        {
+            return LongSets.EMPTY_SET;
+        }
+
+        final LongSet supports = new LongOpenHashSet();
+        final int minX = SectionPos.sectionToBlockCoord(chunk.getPos().x), minY = SectionPos.sectionToBlockCoord(sectionY), minZ = SectionPos.sectionToBlockCoord(chunk.getPos().z);
+        for (int y = 0; y < 16; y++)
+        {
+            for (int z = 0; z < 16; z++)
+            {
+                for (int x = 0; x < 16; x++)
+                {
+                    if (Support.get(section.getBlockState(x, y, z)) != null)
+                    {
+                        supports.add(BlockPos.asLong(minX + x, minY + y, minZ + z));
+                    }
+                }
+            }
+        }
+        return supports.isEmpty() ? LongSets.EMPTY_SET : supports;
+    }
+
+    private void checkGeneration()
+    {
+        final int current = Support.getGeneration();
+        if (generation != current)
+        {
+            // Supports have been reloaded, so any indexed section may be out of date
+            generation = current;
+            sections.clear();
+        }
+    }
+}
@@ -37,11 +37,12 @@ import net.dries007.tfc.network.PacketHandler;
 import net.dries007.tfc.network.RainfallUpdatePacket;
 import net.dries007.tfc.util.Helpers;
 import net.dries007.tfc.util.events.CollapseEvent;
+import net.dries007.tfc.util.calendar.CalendarTickService;
 import net.dries007.tfc.util.calendar.Calendars;
 import net.dries007.tfc.util.climate.BiomeBasedClimateModel;
 import net.dries007.tfc.util.climate.Climate;
 import net.dries007.tfc.util.climate.ClimateModel;
-import net.dries007.tfc.util.collections.BufferedList;
+import net.dries007.tfc.util.collections.BlockPosQueue;
 import net.dries007.tfc.util.loot.TFCLoot;
 import net.dries007.tfc.util.rotation.RotationNetworkManager;
 
@@ -50,6 +51,8 @@ import org.jetbrains.annotations.Nullable;
 
 public class WorldTracker implements ICapabilitySerializable<CompoundTag>
 {
+    private static final int LANDSLIDE_DELAY_TICKS = 2;
+
     /**
      * Returns the world tracker for a given world. Note that we always expect <strong>every world</strong> to have a tracker attached, and thus this will throw
      * if the tracker does not exist. The world tracker exists on both client and server worlds, although it may be in various states of valid in client worlds.
@@ -67,14 +70,18 @@ public class WorldTracker implements ICapabilitySerializable<CompoundTag>
     private final Random random;
     private final LazyOptional<WorldTracker> capability;
 
-    private final BufferedList<TickEntry> landslideTicks;
-    private final BufferedList<BlockPos> isolatedPositions;
+    private final BlockPosQueue landslidePositions;
+    private final BlockPosQueue isolatedPositions;
     private final List<Collapse> collapsesInProgress;
 
     private final ClimateModel defaultClimateModel = new BiomeBasedClimateModel();
     @Nullable private ClimateModel climateModel;
 
     private final RotationNetworkManager rotationManager;
+    private final SupportIndex supportIndex;
+    private final HydrationCache hydrationCache;
+    private final CalendarTickService calendarTickService;
+    private final EnvironmentTicker environmentTicker;
 
     private long rainStartTick, rainEndTick;
     private float rainIntensity;
@@ -85,26 +92,36 @@ public class WorldTracker implements ICapabilitySerializable<CompoundTag>
         this.random = new Random();
         this.capability = LazyOptional.of(() -> this);
         this.climateModel = null;
-        this.landslideTicks = new BufferedList<>();
-        this.isolatedPositions = new BufferedList<>();
+        this.landslidePositions = new BlockPosQueue();
+        this.isolatedPositions = new BlockPosQueue();
         this.collapsesInProgress = new ArrayList<>();
         this.rotationManager = new RotationNetworkManager();
+        this.supportIndex = new SupportIndex(level);
+        this.hydrationCache = new HydrationCache();
+        this.calendarTickService = new CalendarTickService();
+        this.environmentTicker = new EnvironmentTicker();
     }
 
+    /**
+     * Queues a position to be checked for a landslide, after a short delay. Duplicate positions are only checked once.
+     */
     public void addLandslidePos(BlockPos pos)
     {
-        landslideTicks.add(new TickEntry(pos, 2));
+        landslidePositions.add(pos, level.getGameTime() + LANDSLIDE_DELAY_TICKS);
     }
 
+    /**
+     * Queues a position to be checked if it is isolated, on the next tick. Duplicate positions are only checked once.
+     */
     public void addIsolatedPos(BlockPos pos)
     {
-        isolatedPositions.add(pos);
+        isolatedPositions.add(pos, level.getGameTime());
     }
 
     public void addCollapseData(Collapse collapse)
     {
         collapsesInProgress.add(collapse);
-        MinecraftForge.EVENT_BUS.post(new CollapseEvent(level, collapse.centerPos, collapse.nextPositions, collapse.radiusSquared, false));
+        MinecraftForge.EVENT_BUS.post(new CollapseEvent(level, collapse.centerPos, collapse.getNextPositions(), collapse.radiusSquared, false));
     }
 
     public void setClimateModel(ClimateModel climateModel)
@@ -168,65 +185,56 @@ public class WorldTracker implements ICapabilitySerializable<CompoundTag>
         return rotationManager;
     }
 
+    public SupportIndex getSupportIndex()
+    {
+        return supportIndex;
+    }
+
+    public HydrationCache getHydrationCache()
+    {
+        return hydrationCache;
+    }
+
+    public CalendarTickService getCalendarTickService()
+    {
+        return calendarTickService;
+    }
+
+    public EnvironmentTicker getEnvironmentTicker()
+    {
+        return environmentTicker;
+    }
+
     /**
      * Must only be called from logical server!
      */
     public void tick()
     {
-        if (!collapsesInProgress.isEmpty() && random.nextInt(10) == 0)
-        {
-            for (Collapse collapse : collapsesInProgress)
-            {
-                Set<BlockPos> updatedPositions = new HashSet<>();
-                for (BlockPos posAt : collapse.nextPositions)
-                {
-                    // Check the current position for collapsing
-                    BlockState stateAt = level.getBlockState(posAt);
-                    if (Helpers.isBlock(stateAt, TFCTags.Blocks.CAN_COLLAPSE) && TFCFallingBlockEntity.canFallInDirection(level, posAt, Direction.DOWN) && posAt.distSqr(collapse.centerPos) < collapse.radiusSquared && random.nextFloat() < TFCConfig.SERVER.collapsePropagateChance.get())
-                    {
-                        if (CollapseRecipe.collapseBlock(level, posAt, stateAt))
-                        {
-                            // This column has started to collapse. Mark the next block above as unstable for the "follow up"
-                            updatedPositions.add(posAt.above());
-                        }
-                    }
-                }
-                collapse.nextPositions.clear();
-                if (!updatedPositions.isEmpty())
-                {
-                    level.playSound(null, collapse.centerPos, TFCSounds.ROCK_SLIDE_SHORT.get(), SoundSource.BLOCKS, 0.6f, 1.0f);
-                    collapse.nextPositions.addAll(updatedPositions);
-                    collapse.radiusSquared *= 0.8; // lower radius each successive time
-                }
-            }
-            collapsesInProgress.removeIf(collapse -> collapse.nextPositions.isEmpty());
-        }
+        calendarTickService.tick();
+        environmentTicker.tick();
 
-        landslideTicks.flush();
-        Iterator<TickEntry> tickIterator = landslideTicks.listIterator();
-        while (tickIterator.hasNext())
+        if (!collapsesInProgress.isEmpty())
         {
-            TickEntry entry = tickIterator.next();
-            if (entry.tick())
-            {
-                final BlockState currentState = level.getBlockState(entry.getPos());
-                LandslideRecipe.tryLandslide(level, entry.getPos(), currentState);
-                tickIterator.remove();
-            }
+            tickCollapses();
         }
 
-        isolatedPositions.flush();
-        Iterator<BlockPos> isolatedIterator = isolatedPositions.listIterator();
-        while (isolatedIterator.hasNext())
-        {
-            final BlockPos pos = isolatedIterator.next();
+        final long tick = level.getGameTime();
+        final int maxChecks = TFCConfig.SERVER.maxBlockUpdateChecksPerTick.get();
+
+        landslidePositions.process(tick, maxChecks, packedPos -> {
+            final BlockPos pos = BlockPos.of(packedPos);
+            final BlockState currentState = level.getBlockState(pos);
+            LandslideRecipe.tryLandslide(level, pos, currentState);
+        });
+
+        isolatedPositions.process(tick, maxChecks, packedPos -> {
+            final BlockPos pos = BlockPos.of(packedPos);
             final BlockState currentState = level.getBlockState(pos);
             if (Helpers.isBlock(currentState.getBlock(), TFCTags.Blocks.BREAKS_WHEN_ISOLATED) && isIsolated(level, pos))
             {
                 Helpers.destroyBlockAndDropBlocksManually((ServerLevel) level, pos, ctx -> ctx.withParameter(TFCLoot.ISOLATED, true));
             }
-            isolatedIterator.remove();
-        }
+        });
     }
 
     public void addDebugTooltip(List<String> tooltips)
@@ -250,19 +258,9 @@ public class WorldTracker implements ICapabilitySerializable<CompoundTag>
     @Override
     public CompoundTag serializeNBT()
     {
-        landslideTicks.flush();
-        isolatedPositions.flush();
-
         CompoundTag nbt = new CompoundTag();
-        ListTag landslideNbt = new ListTag();
-        for (TickEntry entry : landslideTicks)
-        {
-            landslideNbt.add(entry.serializeNBT());
-        }
-        nbt.put("landslideTicks", landslideNbt);
-
-        LongArrayTag isolatedNbt = new LongArrayTag(isolatedPositions.stream().mapToLong(BlockPos::asLong).toArray());
-        nbt.put("isolatedPositions", isolatedNbt);
+        nbt.put("landslidePositions", new LongArrayTag(landslidePositions.toArray()));
+        nbt.put("isolatedPositions", new LongArrayTag(isolatedPositions.toArray()));
 
         ListTag collapseNbt = new ListTag();
         for (Collapse collapse : collapsesInProgress)
@@ -283,18 +281,27 @@ public class WorldTracker implements ICapabilitySerializable<CompoundTag>
     {
         if (nbt != null)
         {
-            landslideTicks.clear();
+            landslidePositions.clear();
             collapsesInProgress.clear();
             isolatedPositions.clear();
 
+            // Pending positions are re-checked as soon as the world is loaded
+            for (long pos : nbt.getLongArray("landslidePositions"))
+            {
+                landslidePositions.add(pos, 0);
+            }
+
+            // Before landslide positions were stored packed
             ListTag landslideNbt = nbt.getList("landslideTicks", Tag.TAG_COMPOUND);
             for (int i = 0; i < landslideNbt.size(); i++)
             {
-                landslideTicks.add(new TickEntry(landslideNbt.getCompound(i)));
+                landslidePositions.add(new TickEntry(landslideNbt.getCompound(i)).getPos(), 0);
             }
 
-            long[] isolatedNbt = nbt.getLongArray("isolatedPositions");
-            Arrays.stream(isolatedNbt).mapToObj(BlockPos::of).forEach(isolatedPositions::add);
+            for (long pos : nbt.getLongArray("isolatedPositions"))
+            {
+                isolatedPositions.add(pos, 0);
+            }
 
             ListTag collapseNbt = nbt.getList("collapsesInProgress", Tag.TAG_COMPOUND);
             for (int i = 0; i < collapseNbt.size(); i++)
@@ -316,6 +323,56 @@ public class WorldTracker implements ICapabilitySerializable<CompoundTag>
         return WorldTrackerCapability.CAPABILITY.orEmpty(cap, capability);
     }
 
+    /**
+     * Collapses propagate in waves, and each new wave is started on a random tick. Checking the positions in a wave is limited to a time budget per tick, so large collapses play out over multiple ticks, rather than checking every position at once.
+     */
+    private void tickCollapses()
+    {
+        final long deadline = System.nanoTime() + TFCConfig.SERVER.collapseMaxMicrosPerTick.get() * 1000L;
+        final boolean startWave = random.nextInt(10) == 0;
+        final double propagateChance = TFCConfig.SERVER.collapsePropagateChance.get();
+        final BlockPos.MutableBlockPos cursor = new BlockPos.MutableBlockPos();
+
+        boolean first = true;
+        for (Collapse collapse : collapsesInProgress)
+        {
+            if (!collapse.isPropagating())
+            {
+                if (!startWave)
+                {
+                    continue;
+                }
+                collapse.startWave();
+            }
+
+            // Always check at least one position per tick, so collapses still progress with a tiny budget
+            while (collapse.isPropagating() && (first || System.nanoTime() - deadline < 0))
+            {
+                first = false;
+
+                // Check the current position for collapsing
+                final BlockPos posAt = cursor.set(collapse.frontier.removeFirstLong());
+                final BlockState stateAt = level.getBlockState(posAt);
+                if (Helpers.isBlock(stateAt, TFCTags.Blocks.CAN_COLLAPSE) && TFCFallingBlockEntity.canFallInDirection(level, posAt, Direction.DOWN) && posAt.distSqr(collapse.centerPos) < collapse.radiusSquared && random.nextFloat() < propagateChance)
+                {
+                    if (CollapseRecipe.collapseBlock(level, posAt.immutable(), stateAt))
+                    {
+                        // This column has started to collapse. Mark the next block above as unstable for the "follow up"
+                        collapse.nextPositions.add(BlockPos.asLong(posAt.getX(), posAt.getY() + 1, posAt.getZ()));
+                    }
+                }
+
+                if (!collapse.isPropagating() && !collapse.nextPositions.isEmpty())
+                {
+                    // Finished this wave
+                    level.playSound(null, collapse.centerPos, TFCSounds.ROCK_SLIDE_SHORT.get(), SoundSource.BLOCKS, 0.6f, 1.0f);
+                    collapse.radiusSquared *= 0.8; // lower radius each successive time
+                }
+            }
+        }
+        collapsesInProgress.removeIf(Collapse::isDone);
+    }
+
     private float exactRainfallIntensity(long tick)
     {
         final float progress = Mth.clamp(Helpers.inverseLerp(tick, rainStartTick, rainEndTick), 0, 1);
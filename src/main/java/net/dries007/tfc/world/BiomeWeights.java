@@ -0,0 +1,135 @@
+/*
+ * Licensed under the EUPL, Version 1.2.
+ * You may obtain a copy of the Licence at:
+ * https://joinup.ec.europa.eu/collection/eupl/eupl-text-eupl-12
+ */
+
+package net.dries007.tfc.world;
+
+import net.dries007.tfc.world.biome.BiomeExtension;
+import net.dries007.tfc.world.biome.TFCBiomes;
+
+/**
+ * A sparse vector of weights per {@link BiomeExtension}, indexed by {@link BiomeExtension#id()}. This is used in the innermost loops of terrain generation, so it avoids any hashing or boxing.
+ * <p>
+ * Weights are stored densely by id, and the active ids are tracked in a parallel array, so both iteration and lookup are just array accesses, and {@link #clear()} only touches active entries.
+ * Iterate with {@code for (int i = 0; i < weights.size(); i++)}, using {@link #biome(int)} and {@link #weight(int)}.
+ * <p>
+ * Entries are iterated in insertion order, like a linked hash map, which keeps floating point sums and tie-breaking in world generation independent of hash codes. This is verified against a map based implementation in {@code ChunkBiomeSamplerTests}.
+ */
+public final class BiomeWeights
+{
+    private final int[] ids; // Active ids, in the range [0, size)
+    private final double[] weights; // Indexed by id
+    private final boolean[] active; // Indexed by id
+    private int size;
+
+    public BiomeWeights()
+    {
+        final int capacity = TFCBiomes.getExtensionCount();
+
+        this.ids = new int[capacity];
+        this.weights = new double[capacity];
+        this.active = new boolean[capacity];
+    }
+
+    /**
+     * @return The number of active entries.
+     */
+    public int size()
+    {
+        return size;
+    }
+
+    /**
+     * @param index An index in the range {@code [0, size())}
+     * @return The biome of the entry at {@code index}.
+     */
+    public BiomeExtension biome(int index)
+    {
+        return TFCBiomes.getExtension(ids[index]);
+    }
+
+    /**
+     * @param index An index in the range {@code [0, size())}
+     * @return The weight of the entry at {@code index}.
+     */
+    public double weight(int index)
+    {
+        return weights[ids[index]];
+    }
+
+    public double get(BiomeExtension biome, double defaultValue)
+    {
+        final int id = biome.id();
+        return active[id] ? weights[id] : defaultValue;
+    }
+
+    /**
+     * Adds {@code weight} to the existing weight of {@code biome}, or zero if it is not present.
+     */
+    public void add(BiomeExtension biome, double weight)
+    {
+        add(biome.id(), weight);
+    }
+
+    /**
+     * Sets the weight of {@code biome}, replacing any existing weight.
+     */
+    public void set(BiomeExtension biome, double weight)
+    {
+        final int id = biome.id();
+        activate(id);
+        weights[id] = weight;
+    }
+
+    /**
+     * Adds every entry of {@code other}, scaled by {@code scale}, to this.
+     */
+    public void addScaled(BiomeWeights other, double scale)
+    {
+        for (int i = 0; i < other.size; i++)
+        {
+            final int id = other.ids[i];
+            add(id, other.weights[id] * scale);
+        }
+    }
+
+    /**
+     * Removes the entry at {@code index}, preserving the order of the remaining entries. So when removing during iteration, don't advance the index past a removed entry.
+     */
+    public void remove(int index)
+    {
+        final int id = ids[index];
+        active[id] = false;
+        weights[id] = 0;
+        size--;
+        System.arraycopy(ids, index + 1, ids, index, size - index);
+    }
+
+    public void clear()
+    {
+        for (int i = 0; i < size; i++)
+        {
+            final int id = ids[i];
+            active[id] = false;
+            weights[id] = 0;
+        }
+        size = 0;
+    }
+
+    private void add(int id, double weight)
+    {
+        activate(id);
+        weights[id] += weight;
+    }
+
+    private void activate(int id)
+    {
+        if (!active[id])
+        {
+            active[id] = true;
+            ids[size++] = id;
+        }
+    }
+}
@@ -8,13 +8,11 @@ package net.dries007.tfc.world;
 
 import java.util.function.Function;
 import java.util.function.ToIntFunction;
-import it.unimi.dsi.fastutil.objects.Object2DoubleMap;
-import it.unimi.dsi.fastutil.objects.Object2DoubleOpenHashMap;
-import it.unimi.dsi.fastutil.objects.ObjectIterator;
 import net.minecraft.world.level.ChunkPos;
 import net.minecraft.world.level.biome.Biome;
 
 import net.dries007.tfc.world.biome.BiomeBlendType;
+import net.dries007.tfc.world.biome.BiomeExtension;
 import net.dries007.tfc.world.noise.Kernel;
 
 /**
@@ -30,33 +28,33 @@ public final class ChunkBiomeSampler
      * @param groupFunction A function to access a {@link BiomeBlendType} from a {@link Biome}.
      * @return A 7x7 array of sampled biome weights, at quart pos resolution, where the (0, 0) index aligns to the (-1, -1) quart position relative to the target chunk.
      */
-    public static <T> Object2DoubleMap<T>[] sampleBiomes(ChunkPos pos, Sampler<T> biomeSampler, Function<T, BiomeBlendType> groupFunction)
+    public static BiomeWeights[] sampleBiomes(ChunkPos pos, Sampler<BiomeExtension> biomeSampler, Function<BiomeExtension, BiomeBlendType> groupFunction)
     {
         // First, sample biomes at chunk distance, in a 4x4 grid centered on the target chunk.
         // These are used to build the large-scale biome blending radius
-        final Object2DoubleMap<T>[] chunkBiomeWeightArray = newWeightArray(4 * 4);
+        final BiomeWeights[] chunkBiomeWeightArray = new BiomeWeights[4 * 4];
         final int chunkX = pos.getMinBlockX(), chunkZ = pos.getMinBlockZ(); // Block coordinates
         for (int x = 0; x < 4; x++)
         {
             for (int z = 0; z < 4; z++)
             {
                 // x, z = 0, 0 is the -1, -1 chunk relative to chunkX, chunkZ
-                final Object2DoubleMap<T> chunkBiomeWeight = new Object2DoubleOpenHashMap<>();
+                final BiomeWeights chunkBiomeWeight = new BiomeWeights();
                 chunkBiomeWeightArray[x | (z << 2)] = chunkBiomeWeight;
                 sampleBiomesAtPositionWithKernel(chunkBiomeWeight, biomeSampler, KERNEL_9x9, 4, chunkX, chunkZ, x - 1, z - 1);
             }
         }
 
         // A 7x7 grid, in quart positions relative to the target chunk, where (1, 1) is the target chunk origin.
-        final Object2DoubleMap<T>[] quartBiomeWeightArray = newWeightArray(7 * 7);
-        final Object2DoubleMap<T> chunkBiomeWeight = new Object2DoubleOpenHashMap<>();
+        final BiomeWeights[] quartBiomeWeightArray = new BiomeWeights[7 * 7];
+        final BiomeWeights chunkBiomeWeight = new BiomeWeights();
 
         for (int x = 0; x < 7; x++)
         {
             for (int z = 0; z < 7; z++)
             {
                 // Reset
-                final Object2DoubleMap<T> quartBiomeWeight = new Object2DoubleOpenHashMap<>();
+                final BiomeWeights quartBiomeWeight = new BiomeWeights();
                 chunkBiomeWeight.clear();
 
                 sampleBiomesAtPositionWithKernel(quartBiomeWeight, biomeSampler, KERNEL_9x9, 2, chunkX, chunkZ, x - 1, z - 1);
@@ -91,7 +89,7 @@ public final class ChunkBiomeSampler
         return quartBiomeWeightArray;
     }
 
-    public static <T> void sampleBiomesColumn(Object2DoubleMap<T> accumulator, Object2DoubleMap<T>[] corners, int localX, int localZ)
+    public static void sampleBiomesColumn(BiomeWeights accumulator, BiomeWeights[] corners, int localX, int localZ)
     {
         final int index4X = (localX >> 2) + 1;
         final int index4Z = (localZ >> 2) + 1;
@@ -106,18 +104,15 @@ public final class ChunkBiomeSampler
         sampleBiomesCornerContribution(accumulator, corners[(index4X + 1) + (index4Z + 1) * 7], lerpX * lerpZ);
     }
 
-    private static <T> void sampleBiomesCornerContribution(Object2DoubleMap<T> accumulator, Object2DoubleMap<T> corner, double t)
+    private static void sampleBiomesCornerContribution(BiomeWeights accumulator, BiomeWeights corner, double t)
     {
         if (t > 0)
         {
-            for (Object2DoubleMap.Entry<T> entry : corner.object2DoubleEntrySet())
-            {
-                accumulator.mergeDouble(entry.getKey(), entry.getDoubleValue() * t, Double::sum);
-            }
+            accumulator.addScaled(corner, t);
         }
     }
 
-    private static <T> void sampleBiomesAtPositionWithKernel(Object2DoubleMap<T> weights, Sampler<T> biomeSampler, Kernel kernel, int kernelBits, int chunkX, int chunkZ, int xOffsetInKernelBits, int zOffsetInKernelBits)
+    private static void sampleBiomesAtPositionWithKernel(BiomeWeights weights, Sampler<BiomeExtension> biomeSampler, Kernel kernel, int kernelBits, int chunkX, int chunkZ, int xOffsetInKernelBits, int zOffsetInKernelBits)
     {
         final int kernelRadius = kernel.radius();
         final int kernelWidth = kernel.width();
@@ -128,8 +123,8 @@ public final class ChunkBiomeSampler
                 final double weight = kernel.values()[(dx + kernelRadius) + (dz + kernelRadius) * kernelWidth];
                 final int blockX = chunkX + ((xOffsetInKernelBits + dx) << kernelBits); // Block positions
                 final int blockZ = chunkZ + ((zOffsetInKernelBits + dz) << kernelBits);
-                final T biome = biomeSampler.get(blockX, blockZ);
-                weights.mergeDouble(biome, weight, Double::sum);
+                final BiomeExtension biome = biomeSampler.get(blockX, blockZ);
+                weights.add(biome, weight);
             }
         }
     }
@@ -148,47 +143,44 @@ public final class ChunkBiomeSampler
      * - 50% River: Group "River", which is replaced with 40% * (10% River) / 10%
      * - Result: 18% Plains, 24% Mountains, 18% Hills, 40% River
      */
-    private static <T> void composeSampleWeights(Object2DoubleMap<T> weightMap, Object2DoubleMap<T> groupWeightMap, ToIntFunction<T> groupFunction, int groups)
+    private static void composeSampleWeights(BiomeWeights weights, BiomeWeights groupWeights, ToIntFunction<BiomeExtension> groupFunction, int groups)
     {
         // First, we need to calculate the maximum weight per group
-        double[] maxWeights = new double[groups];
-        for (Object2DoubleMap.Entry<T> entry : groupWeightMap.object2DoubleEntrySet())
+        final double[] maxWeights = new double[groups];
+        for (int i = 0; i < groupWeights.size(); i++)
         {
-            int group = groupFunction.applyAsInt(entry.getKey());
+            final int group = groupFunction.applyAsInt(groupWeights.biome(i));
             if (group != -1)
             {
-                maxWeights[group] += entry.getDoubleValue();
+                maxWeights[group] += groupWeights.weight(i);
             }
         }
 
         // Then, we iterate through the smaller weight map and identify the actual weight that needs to be replaced with each group
-        double[] actualWeights = new double[groups];
-        ObjectIterator<Object2DoubleMap.Entry<T>> iterator = weightMap.object2DoubleEntrySet().iterator();
-        while (iterator.hasNext())
+        final double[] actualWeights = new double[groups];
+        for (int i = 0; i < weights.size(); )
         {
-            Object2DoubleMap.Entry<T> entry = iterator.next();
-            int group = groupFunction.applyAsInt(entry.getKey());
+            final int group = groupFunction.applyAsInt(weights.biome(i));
             if (group != -1)
             {
-                actualWeights[group] += entry.getDoubleValue();
-                iterator.remove();
+                actualWeights[group] += weights.weight(i);
+                weights.remove(i); // Shifts the next entry into i
+            }
+            else
+            {
+                i++;
             }
         }
 
         // Finally, insert the weights for each group as a portion of the actual weight
-        for (Object2DoubleMap.Entry<T> entry : groupWeightMap.object2DoubleEntrySet())
+        for (int i = 0; i < groupWeights.size(); i++)
         {
-            int group = groupFunction.applyAsInt(entry.getKey());
+            final BiomeExtension biome = groupWeights.biome(i);
+            final int group = groupFunction.applyAsInt(biome);
             if (group != -1 && actualWeights[group] > 0 && maxWeights[group] > 0)
             {
-                weightMap.put(entry.getKey(), entry.getDoubleValue() * actualWeights[group] / maxWeights[group]);
+                weights.set(biome, groupWeights.weight(i) * actualWeights[group] / maxWeights[group]);
             }
         }
     }
-
-    @SuppressWarnings("unchecked")
-    private static <T> Object2DoubleMap<T>[] newWeightArray(int size)
-    {
-        return (Object2DoubleMap<T>[]) new Object2DoubleMap[size]; // Avoid generic array warnings / errors
-    }
 }
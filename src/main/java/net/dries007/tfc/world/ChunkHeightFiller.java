@@ -7,15 +7,12 @@
 package net.dries007.tfc.world;
 
 import java.util.Arrays;
-import java.util.Map;
-import it.unimi.dsi.fastutil.objects.Object2DoubleMap;
-import it.unimi.dsi.fastutil.objects.Object2DoubleOpenHashMap;
 import net.minecraft.util.Mth;
 import org.jetbrains.annotations.Nullable;
 
 import net.dries007.tfc.world.biome.BiomeExtension;
 import net.dries007.tfc.world.biome.BiomeSourceExtension;
-import net.dries007.tfc.world.noise.Noise2D;
+import net.dries007.tfc.world.biome.TFCBiomes;
 import net.dries007.tfc.world.region.RegionPartition;
 import net.dries007.tfc.world.region.RiverEdge;
 import net.dries007.tfc.world.region.Units;
@@ -30,36 +27,36 @@ public class ChunkHeightFiller
     protected static final int RIVER_TYPE_NONE = RiverBlendType.NONE.ordinal();
     protected static final int RIVER_TYPE_CAVE = RiverBlendType.CAVE.ordinal();
 
-    protected final Map<BiomeExtension, BiomeNoiseSampler> biomeNoiseSamplers; // Biome -> Noise Samplers
-    protected final Object2DoubleMap<BiomeNoiseSampler> columnBiomeNoiseSamplers; // Per column weighted map of biome noises samplers
+    protected final ChunkNoiseSamplers noiseSamplers;
+    protected final BiomeNoiseSampler[] columnSamplers; // Per column biome noise samplers, in the range [0, columnSamplerCount)
+    protected final double[] columnSamplerWeights; // Per column weights of each of columnSamplers
+    protected int columnSamplerCount;
 
-    protected final Object2DoubleMap<BiomeExtension>[] sampledBiomeWeights; // 7x7 array of biome weights, at quart pos resolution
-    protected final Object2DoubleMap<BiomeExtension> biomeWeights1; // Local biome weights, for individual column adjustment
+    protected final BiomeWeights[] sampledBiomeWeights; // 7x7 array of biome weights, at quart pos resolution
+    protected final BiomeWeights biomeWeights1; // Local biome weights, for individual column adjustment
 
     // Rivers
     protected final BiomeSourceExtension biomeSource;
-    protected final Map<RiverBlendType, RiverNoiseSampler> riverNoiseSamplers;
     protected final double[] riverBlendWeights; // Indexed by RiverBlendType.ordinal
 
-    // Shores
-    private final Noise2D shoreSampler;
     protected final int seaLevel;
 
     protected int blockX, blockZ; // Absolute x/z positions
     protected int localX, localZ; // Chunk-local x/z
 
-    public ChunkHeightFiller(Object2DoubleMap<BiomeExtension>[] sampledBiomeWeights, BiomeSourceExtension biomeSource, Map<BiomeExtension, BiomeNoiseSampler> biomeNoiseSamplers, Map<RiverBlendType, RiverNoiseSampler> riverNoiseSamplers, Noise2D shoreSampler, int seaLevel)
+    private double @Nullable [] sampledHeights; // Lazily initialized cache of sampleHeight(), indexed by localX | (localZ << 4)
+
+    public ChunkHeightFiller(BiomeWeights[] sampledBiomeWeights, BiomeSourceExtension biomeSource, ChunkNoiseSamplers noiseSamplers, int seaLevel)
     {
-        this.biomeNoiseSamplers = biomeNoiseSamplers;
-        this.columnBiomeNoiseSamplers = new Object2DoubleOpenHashMap<>();
+        this.noiseSamplers = noiseSamplers;
+        this.columnSamplers = new BiomeNoiseSampler[TFCBiomes.getExtensionCount()];
+        this.columnSamplerWeights = new double[TFCBiomes.getExtensionCount()];
         this.sampledBiomeWeights = sampledBiomeWeights;
-        this.biomeWeights1 = new Object2DoubleOpenHashMap<>();
+        this.biomeWeights1 = new BiomeWeights();
 
         this.biomeSource = biomeSource;
-        this.riverNoiseSamplers = riverNoiseSamplers;
         this.riverBlendWeights = new double[RiverBlendType.SIZE];
 
-        this.shoreSampler = shoreSampler;
         this.seaLevel = seaLevel;
     }
 
@@ -73,9 +70,42 @@ public class ChunkHeightFiller
      */
     public double sampleHeight(int blockX, int blockZ)
     {
-        setupColumn(blockX, blockZ);
-        prepareColumnBiomeWeights();
-        return sampleColumnHeightAndBiome(biomeWeights1, false);
+        if (sampledHeights == null)
+        {
+            sampledHeights = new double[16 * 16];
+            Arrays.fill(sampledHeights, Double.NaN);
+        }
+
+        final int index = (blockX & 15) | ((blockZ & 15) << 4);
+        double height = sampledHeights[index];
+        if (Double.isNaN(height))
+        {
+            setupColumn(blockX, blockZ);
+            prepareColumnBiomeWeights();
+            height = sampleColumnHeightAndBiome(biomeWeights1, false);
+            sampledHeights[index] = height;
+        }
+        return height;
+    }
+
+    /**
+     * Samples the height of every column in the chunk.
+     *
+     * @param minBlockX The minimum block X of the chunk.
+     * @param minBlockZ The minimum block Z of the chunk.
+     * @return A 16x16 array of heights, indexed by {@code localX | (localZ << 4)}.
+     */
+    public double[] sampleHeights(int minBlockX, int minBlockZ)
+    {
+        final double[] heights = new double[16 * 16];
+        for (int x = 0; x < 16; x++)
+        {
+            for (int z = 0; z < 16; z++)
+            {
+                heights[x | (z << 4)] = sampleHeight(minBlockX + x, minBlockZ + z);
+            }
+        }
+        return heights;
     }
 
     /**
@@ -92,9 +122,9 @@ public class ChunkHeightFiller
      * @param useCache If, in the stateful implementation, arrays corresponding to position within the chunk should be updated.
      * @return The maximum height at this location
      */
-    protected final double sampleColumnHeightAndBiome(Object2DoubleMap<BiomeExtension> biomeWeights, boolean useCache)
+    protected final double sampleColumnHeightAndBiome(BiomeWeights biomeWeights, boolean useCache)
     {
-        columnBiomeNoiseSamplers.clear();
+        columnSamplerCount = 0;
 
         double height = 0, normalHeight = 0, shoreHeight = 0;
         double shoreWeight = 0;
@@ -102,23 +132,19 @@ public class ChunkHeightFiller
         BiomeExtension biomeAt = null, normalBiomeAt = null, shoreBiomeAt = null;
         double maxNormalWeight = 0, maxShoreWeight = 0; // Partition on biome type
 
-        for (Object2DoubleMap.Entry<BiomeExtension> entry : biomeWeights.object2DoubleEntrySet())
+        for (int i = 0; i < biomeWeights.size(); i++)
         {
-            final double biomeWeight = entry.getDoubleValue();
-            final BiomeExtension biome = entry.getKey();
-            final BiomeNoiseSampler sampler = biomeNoiseSamplers.get(biome);
+            final double biomeWeight = biomeWeights.weight(i);
+            final BiomeExtension biome = biomeWeights.biome(i);
+            final BiomeNoiseSampler sampler = noiseSamplers.biome(biome);
 
             assert sampler != null : "Non-existent sampler for biome: " + biome.key();
 
-            if (columnBiomeNoiseSamplers.containsKey(sampler))
-            {
-                columnBiomeNoiseSamplers.mergeDouble(sampler, biomeWeight, Double::sum);
-            }
-            else
-            {
-                sampler.setColumn(blockX, blockZ);
-                columnBiomeNoiseSamplers.put(sampler, biomeWeight);
-            }
+            // Each biome has a unique sampler, and appears at most once in the weights, so no merging is needed
+            sampler.setColumn(blockX, blockZ);
+            columnSamplers[columnSamplerCount] = sampler;
+            columnSamplerWeights[columnSamplerCount] = biomeWeight;
+            columnSamplerCount++;
 
             final double biomeHeight = biomeWeight * sampler.height();
             height += biomeHeight;
@@ -157,7 +183,7 @@ public class ChunkHeightFiller
             // First, calculate cliff "influence" factor (between 0 = no cliffs, 1.0 = full cliffs)
             // This is computed from a global influence noise, plus a factor from the initial height - higher areas have larger cliff influence
             final double cliffInfluence = Mth.clamp(
-                shoreSampler.noise(blockX, blockZ) + Mth.map(height, seaLevel, seaLevel + 20, 0, 0.6),
+                noiseSamplers.shore().noise(blockX, blockZ) + Mth.map(height, seaLevel, seaLevel + 20, 0, 0.6),
                 0.0, 1.0
             );
             final double adjustedCliffInfluence = 1.0 - (1.0 - cliffInfluence) * (1.0 - cliffInfluence);
@@ -217,13 +243,13 @@ public class ChunkHeightFiller
     /**
      * Initializes {@link #riverBlendWeights} from the biome weights, using the river type of each biome.
      */
-    private void computeInitialRiverWeights(Object2DoubleMap<BiomeExtension> biomeWeights)
+    private void computeInitialRiverWeights(BiomeWeights biomeWeights)
     {
         // Sum weights by biome extension -> river blend type first
         Arrays.fill(riverBlendWeights, 0d);
-        for (Object2DoubleMap.Entry<BiomeExtension> entry : biomeWeights.object2DoubleEntrySet())
+        for (int i = 0; i < biomeWeights.size(); i++)
         {
-            riverBlendWeights[entry.getKey().riverBlendType().ordinal()] += entry.getDoubleValue();
+            riverBlendWeights[biomeWeights.biome(i).riverBlendType().ordinal()] += biomeWeights.weight(i);
         }
     }
 
@@ -268,7 +294,7 @@ public class ChunkHeightFiller
             for (RiverBlendType type : RiverBlendType.ALL)
             {
                 final double weight = riverBlendWeights[type.ordinal()];
-                final RiverNoiseSampler sampler = riverNoiseSamplers.get(type);
+                final RiverNoiseSampler sampler = noiseSamplers.river(type);
                 if (type == RiverBlendType.NONE)
                 {
                     riverBlendHeight += weight * height;
@@ -291,7 +317,7 @@ public class ChunkHeightFiller
         }
     }
 
-    protected void updateLocalCaches(Object2DoubleMap<BiomeExtension> biomeWeights, BiomeExtension biomeAt, @Nullable RiverInfo info, double height) {}
+    protected void updateLocalCaches(BiomeWeights biomeWeights, BiomeExtension biomeAt, @Nullable RiverInfo info, double height) {}
 
     @Nullable
     protected RiverInfo sampleRiverInfo(boolean useCache)
@@ -6,8 +6,6 @@
 
 package net.dries007.tfc.world;
 
-import java.util.Map;
-import it.unimi.dsi.fastutil.objects.Object2DoubleMap;
 import net.minecraft.Util;
 import net.minecraft.core.BlockPos;
 import net.minecraft.util.Mth;
@@ -30,7 +28,6 @@ import net.dries007.tfc.world.biome.BiomeExtension;
 import net.dries007.tfc.world.biome.BiomeSourceExtension;
 import net.dries007.tfc.world.biome.TFCBiomes;
 import net.dries007.tfc.world.noise.ChunkNoiseSamplingSettings;
-import net.dries007.tfc.world.noise.Noise2D;
 import net.dries007.tfc.world.noise.NoiseSampler;
 import net.dries007.tfc.world.noise.TrilinearInterpolator;
 import net.dries007.tfc.world.noise.TrilinearInterpolatorList;
@@ -109,11 +106,9 @@ public class ChunkNoiseFiller extends ChunkHeightFiller
 
     public ChunkNoiseFiller(
         ProtoChunk chunk,
-        Object2DoubleMap<BiomeExtension>[] sampledBiomeWeights,
+        BiomeWeights[] sampledBiomeWeights,
         BiomeSourceExtension biomeSource,
-        Map<BiomeExtension, BiomeNoiseSampler> biomeNoiseSamplers,
-        Map<RiverBlendType, RiverNoiseSampler> riverNoiseSamplers,
-        Noise2D shoreSampler,
+        ChunkNoiseSamplers noiseSamplers,
         NoiseSampler sampler,
         ChunkBaseBlockSource baseBlockSource,
         ChunkNoiseSamplingSettings settings,
@@ -121,7 +116,7 @@ public class ChunkNoiseFiller extends ChunkHeightFiller
         Beardifier beardifier
     )
     {
-        super(sampledBiomeWeights, biomeSource, biomeNoiseSamplers, riverNoiseSamplers, shoreSampler, seaLevel);
+        super(sampledBiomeWeights, biomeSource, noiseSamplers, seaLevel);
 
         this.chunk = chunk;
         this.chunkMinX = chunk.getPos().getMinBlockX();
@@ -209,7 +204,7 @@ public class ChunkNoiseFiller extends ChunkHeightFiller
                 final int actualX = chunkMinX - 32 + (x << 3);
                 final int actualZ = chunkMinZ - 32 + (z << 3);
                 final BiomeExtension biome = biomeSampler.get(actualX, actualZ);
-                final BiomeNoiseSampler sampler = biomeNoiseSamplers.get(biome);
+                final BiomeNoiseSampler sampler = noiseSamplers.biome(biome);
 
                 double aquiferSurfaceHeight = biome.getAquiferSurfaceHeight(sampler, actualX, actualZ);
 
@@ -532,11 +527,10 @@ public class ChunkNoiseFiller extends ChunkHeightFiller
     private double calculateNoiseAtHeight(int y, double heightNoiseValue)
     {
         double noise = 0;
-        for (Object2DoubleMap.Entry<BiomeNoiseSampler> entry : columnBiomeNoiseSamplers.object2DoubleEntrySet())
+        for (int i = 0; i < columnSamplerCount; i++)
         {
             // Positive values = air
-            final BiomeNoiseSampler sampler = entry.getKey();
-            noise += sampler.noise(y) * entry.getDoubleValue();
+            noise += columnSamplers[i].noise(y) * columnSamplerWeights[i];
         }
 
         // Apply transformations from rivers
@@ -552,7 +546,7 @@ public class ChunkNoiseFiller extends ChunkHeightFiller
             }
             else if (weight > 0)
             {
-                final RiverNoiseSampler sampler = riverNoiseSamplers.get(type);
+                final RiverNoiseSampler sampler = noiseSamplers.river(type);
                 noise += weight * sampler.noise(y, initialNoise);
             }
         }
@@ -606,7 +600,7 @@ public class ChunkNoiseFiller extends ChunkHeightFiller
     }
 
     @Override
-    protected void updateLocalCaches(Object2DoubleMap<BiomeExtension> biomeWeights, BiomeExtension biomeAt, @Nullable RiverInfo info, double height)
+    protected void updateLocalCaches(BiomeWeights biomeWeights, BiomeExtension biomeAt, @Nullable RiverInfo info, double height)
     {
         final int localIndex = localX + 16 * localZ;
 
@@ -617,7 +611,7 @@ public class ChunkNoiseFiller extends ChunkHeightFiller
         }
 
         localBiomes[localIndex] = biomeAt;
-        localBiomeWeights[localIndex] = biomeWeights.getOrDefault(biomeAt, 0.5);
+        localBiomeWeights[localIndex] = biomeWeights.get(biomeAt, 0.5);
         surfaceHeight[localIndex] = (int) height;
 
         baseBlockSource.useAccurateBiome(localX, localZ, biomeAt);
@@ -0,0 +1,84 @@
+/*
+ * Licensed under the EUPL, Version 1.2.
+ * You may obtain a copy of the Licence at:
+ * https://joinup.ec.europa.eu/collection/eupl/eupl-text-eupl-12
+ */
+
+package net.dries007.tfc.world;
+
+import java.util.EnumMap;
+import java.util.Map;
+import net.minecraft.world.level.chunk.ChunkAccess;
+import org.jetbrains.annotations.Nullable;
+
+import net.dries007.tfc.world.biome.BiomeExtension;
+import net.dries007.tfc.world.biome.TFCBiomes;
+import net.dries007.tfc.world.noise.Noise2D;
+import net.dries007.tfc.world.noise.OpenSimplex2D;
+import net.dries007.tfc.world.river.RiverBlendType;
+import net.dries007.tfc.world.river.RiverNoiseSampler;
+
+/**
+ * The complete set of noise samplers used by a {@link ChunkHeightFiller}. Samplers are a pure function of the seed, but hold per-column state, so a single set may only be used by one thread at a time.
+ * <p>
+ * A set is expensive to construct, so {@link TFCChunkGenerator} keeps one per worker thread, and re-{@link #prepare}s it for each chunk.
+ */
+public final class ChunkNoiseSamplers
+{
+    private final @Nullable BiomeNoiseSampler[] biomeSamplers; // Indexed by BiomeExtension.id()
+    private final Map<RiverBlendType, RiverNoiseSampler> riverSamplers;
+    private final Noise2D shoreSampler;
+
+    public ChunkNoiseSamplers(long seed)
+    {
+        this.biomeSamplers = new BiomeNoiseSampler[TFCBiomes.getExtensionCount()];
+        for (BiomeExtension extension : TFCBiomes.getExtensions())
+        {
+            biomeSamplers[extension.id()] = extension.createNoiseSampler(seed);
+        }
+
+        this.riverSamplers = new EnumMap<>(RiverBlendType.class);
+        for (RiverBlendType blendType : RiverBlendType.ALL)
+        {
+            riverSamplers.put(blendType, blendType.createNoiseSampler(seed));
+        }
+
+        this.shoreSampler = new OpenSimplex2D(seed)
+            .octaves(2)
+            .spread(0.003f)
+            .scaled(-0.1, 1.1);
+    }
+
+    /**
+     * Prepares all biome samplers for a new chunk.
+     *
+     * @see BiomeNoiseSampler#prepare(ChunkGeneratorExtension, ChunkAccess)
+     */
+    public ChunkNoiseSamplers prepare(ChunkGeneratorExtension generator, @Nullable ChunkAccess chunk)
+    {
+        for (BiomeNoiseSampler sampler : biomeSamplers)
+        {
+            if (sampler != null)
+            {
+                sampler.prepare(generator, chunk);
+            }
+        }
+        return this;
+    }
+
+    @Nullable
+    public BiomeNoiseSampler biome(BiomeExtension biome)
+    {
+        return biomeSamplers[biome.id()];
+    }
+
+    public RiverNoiseSampler river(RiverBlendType type)
+    {
+        return riverSamplers.get(type);
+    }
+
+    public Noise2D shore()
+    {
+        return shoreSampler;
+    }
+}
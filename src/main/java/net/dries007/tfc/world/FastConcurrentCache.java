@@ -7,6 +7,7 @@
 package net.dries007.tfc.world;
 
 import java.util.Arrays;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.concurrent.locks.StampedLock;
 import it.unimi.dsi.fastutil.HashCommon;
 import net.minecraft.util.Mth;
@@ -15,53 +16,176 @@ import org.jetbrains.annotations.Nullable;
 
 /**
  * A concurrent (safe to read and write between multiple threads) positional based, lossy, cache.
+ * <p>
+ * The cache is <strong>set-associative</strong>: each key hashes to a set of {@link #WAYS} slots, and will only evict the least recently used entry in that set, which greatly reduces evictions of hot entries due to collisions vs. a direct-mapped cache.
+ * Sets are guarded by a fixed number of striped {@link StampedLock}s, and reads are first attempted optimistically, so concurrent readers never block each other.
  */
 public class FastConcurrentCache<T>
 {
-    private final StampedLock lock = new StampedLock();
+    public static final int WAYS = 4;
+
+    private static final int STRIPES = 16;
+
+    private final String name;
+    private final StampedLock[] locks;
 
     private final long[] keys;
     private final T[] values;
-    private final int mask;
+    private final long[] lastUsed; // Written racily on read, this is only a heuristic for eviction
+    private final int setMask;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
 
-    @SuppressWarnings("unchecked")
     public FastConcurrentCache(int size)
     {
-        size = Mth.smallestEncompassingPowerOfTwo(size);
+        this("unnamed", size);
+    }
+
+    /**
+     * @param name A name for this cache, used for debug output.
+     * @param size The total number of entries in this cache. Will be rounded up to a power of two, with at least {@link #WAYS} entries.
+     */
+    @SuppressWarnings("unchecked")
+    public FastConcurrentCache(String name, int size)
+    {
+        size = Mth.smallestEncompassingPowerOfTwo(Math.max(size, WAYS));
 
-        this.mask = size - 1;
+        this.name = name;
+        this.setMask = (size / WAYS) - 1;
         this.keys = new long[size];
         this.values = (T[]) new Object[size];
+        this.lastUsed = new long[size];
+        this.locks = new StampedLock[STRIPES];
 
         Arrays.fill(this.keys, Long.MIN_VALUE);
+        Arrays.setAll(this.locks, i -> new StampedLock());
     }
 
     @Nullable
     public T getIfPresent(int x, int z)
     {
         final long key = ChunkPos.asLong(x, z);
-        final int index = (int) HashCommon.mix(key) & mask;
-        final long stamp = lock.readLock();
+        final int set = (int) HashCommon.mix(key) & setMask;
+        final StampedLock lock = locks[set & (STRIPES - 1)];
 
-        T t = null;
-        if (keys[index] == key)
+        long stamp = lock.tryOptimisticRead();
+        int slot = find(set, key);
+        T t = slot == -1 ? null : values[slot];
+        if (!lock.validate(stamp))
         {
-            t = values[index];
+            // A write happened concurrently, so fall back to a full read lock
+            stamp = lock.readLock();
+            try
+            {
+                slot = find(set, key);
+                t = slot == -1 ? null : values[slot];
+            }
+            finally
+            {
+                lock.unlockRead(stamp);
+            }
         }
 
-        lock.unlockRead(stamp);
+        if (t != null)
+        {
+            lastUsed[slot] = System.nanoTime();
+            hits.increment();
+        }
+        else
+        {
+            misses.increment();
+        }
         return t;
     }
 
     public void set(int x, int z, T value)
     {
         final long key = ChunkPos.asLong(x, z);
-        final int index = (int) HashCommon.mix(key) & mask;
+        final int set = (int) HashCommon.mix(key) & setMask;
+        final StampedLock lock = locks[set & (STRIPES - 1)];
         final long stamp = lock.writeLock();
 
-        keys[index] = key;
-        values[index] = value;
+        try
+        {
+            int slot = find(set, key);
+            if (slot == -1)
+            {
+                // Pick the least recently used slot in this set, preferring an empty one
+                final int start = set * WAYS;
+
+                slot = start;
+                for (int i = start; i < start + WAYS; i++)
+                {
+                    if (keys[i] == Long.MIN_VALUE)
+                    {
+                        slot = i;
+                        break;
+                    }
+                    if (lastUsed[i] - lastUsed[slot] < 0)
+                    {
+                        slot = i;
+                    }
+                }
+                if (keys[slot] != Long.MIN_VALUE)
+                {
+                    evictions.increment();
+                }
+            }
+
+            keys[slot] = key;
+            values[slot] = value;
+            lastUsed[slot] = System.nanoTime();
+        }
+        finally
+        {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    public String name()
+    {
+        return name;
+    }
+
+    public int size()
+    {
+        return keys.length;
+    }
+
+    public long hits()
+    {
+        return hits.sum();
+    }
+
+    public long misses()
+    {
+        return misses.sum();
+    }
+
+    public long evictions()
+    {
+        return evictions.sum();
+    }
+
+    @Override
+    public String toString()
+    {
+        final long hits = hits(), misses = misses();
+        return "%s[size=%d, hits=%d, misses=%d, evictions=%d, hitRate=%.1f%%]".formatted(name, size(), hits, misses, evictions(), hits + misses == 0 ? 0f : 100f * hits / (hits + misses));
+    }
 
-        lock.unlockWrite(stamp);
+    private int find(int set, long key)
+    {
+        final int start = set * WAYS;
+        for (int i = start; i < start + WAYS; i++)
+        {
+            if (keys[i] == key)
+            {
+                return i;
+            }
+        }
+        return -1;
     }
 }
@@ -6,9 +6,10 @@
 
 package net.dries007.tfc.world;
 
+import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
-import java.util.EnumMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
@@ -17,13 +18,11 @@ import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Executor;
 import java.util.function.UnaryOperator;
 import java.util.stream.Collectors;
-import com.google.common.collect.ImmutableMap;
 import com.mojang.serialization.Codec;
 import com.mojang.serialization.DataResult;
 import com.mojang.serialization.codecs.RecordCodecBuilder;
 import it.unimi.dsi.fastutil.ints.IntArraySet;
 import it.unimi.dsi.fastutil.ints.IntSet;
-import it.unimi.dsi.fastutil.objects.Object2DoubleMap;
 import it.unimi.dsi.fastutil.objects.ObjectArraySet;
 import net.minecraft.Util;
 import net.minecraft.core.BlockPos;
@@ -57,6 +56,7 @@ import net.minecraft.world.level.chunk.ChunkGenerator;
 import net.minecraft.world.level.chunk.ChunkGeneratorStructureState;
 import net.minecraft.world.level.chunk.LevelChunkSection;
 import net.minecraft.world.level.chunk.ProtoChunk;
+import net.minecraft.world.level.dimension.DimensionType;
 import net.minecraft.world.level.levelgen.Aquifer;
 import net.minecraft.world.level.levelgen.Beardifier;
 import net.minecraft.world.level.levelgen.GenerationStep;
@@ -76,9 +76,10 @@ import net.minecraft.world.level.levelgen.placement.PlacedFeature;
 import net.minecraft.world.level.levelgen.structure.BoundingBox;
 import net.minecraft.world.level.levelgen.structure.Structure;
 import net.minecraft.world.level.levelgen.structure.templatesystem.StructureTemplateManager;
+import net.minecraft.world.level.storage.LevelResource;
 import net.minecraftforge.registries.DeferredRegister;
-import org.jetbrains.annotations.Nullable;
 
+import net.dries007.tfc.config.TFCConfig;
 import net.dries007.tfc.mixin.accessor.ChunkAccessAccessor;
 import net.dries007.tfc.mixin.accessor.ChunkGeneratorAccessor;
 import net.dries007.tfc.mixin.accessor.ChunkMapAccessor;
@@ -95,12 +96,8 @@ import net.dries007.tfc.world.layer.TFCLayers;
 import net.dries007.tfc.world.layer.framework.AreaFactory;
 import net.dries007.tfc.world.layer.framework.ConcurrentArea;
 import net.dries007.tfc.world.noise.ChunkNoiseSamplingSettings;
-import net.dries007.tfc.world.noise.Noise2D;
 import net.dries007.tfc.world.noise.NoiseSampler;
-import net.dries007.tfc.world.noise.OpenSimplex2D;
 import net.dries007.tfc.world.region.RegionGenerator;
-import net.dries007.tfc.world.river.RiverBlendType;
-import net.dries007.tfc.world.river.RiverNoiseSampler;
 import net.dries007.tfc.world.settings.Settings;
 import net.dries007.tfc.world.surface.SurfaceManager;
 
@@ -135,10 +132,13 @@ public class TFCChunkGenerator extends ChunkGenerator implements ChunkGeneratorE
     private Settings settings;
 
     private final NoiseBasedChunkGenerator stupidMojangChunkGenerator; // Mojang fix your god awful deprecated carver nonsense
-    private final FastConcurrentCache<TFCAquifer> aquiferCache;
 
     private ChunkDataProvider chunkDataProvider;
+    private RegionGenerator regionGenerator;
+    private FastConcurrentCache<TFCAquifer> aquiferCache;
+    private FastConcurrentCache<ChunkHeightFiller> heightFillerCache;
     private long noiseSamplerSeed;
+    private ThreadLocal<ChunkNoiseSamplers> noiseSamplers;
     private SurfaceManager surfaceManager;
     private NoiseSampler noiseSampler;
 
@@ -151,7 +151,6 @@ public class TFCChunkGenerator extends ChunkGenerator implements ChunkGeneratorE
         this.settings = settings;
 
         this.stupidMojangChunkGenerator = new NoiseBasedChunkGenerator(biomeSource.self(), noiseSettings);
-        this.aquiferCache = new FastConcurrentCache<>(256);
     }
 
     @Override
@@ -211,12 +210,17 @@ public class TFCChunkGenerator extends ChunkGenerator implements ChunkGeneratorE
         final long seed = level.getSeed();
         final RandomSource random = new XoroshiroRandomSource(seed);
 
-        final RegionGenerator regionGenerator = new RegionGenerator(settings, random);
+        final Path regionDirectory = DimensionType.getStorageFolder(level.dimension(), level.getServer().getWorldPath(LevelResource.ROOT)).resolve("data/tfc/regions");
+        final RegionGenerator regionGenerator = new RegionGenerator(settings, random, regionDirectory, TFCConfig.COMMON.regionCacheSize.get());
         final ChunkDataGenerator chunkDataGenerator = RegionChunkDataGenerator.create(random.nextLong(), settings.rockLayerSettings(), regionGenerator);
         final AreaFactory factory = TFCLayers.createRegionBiomeLayer(regionGenerator, random.nextLong());
         final ConcurrentArea<BiomeExtension> biomeLayer = new ConcurrentArea<>(factory, TFCLayers::getFromLayerId);
 
+        this.regionGenerator = regionGenerator;
+        this.aquiferCache = new FastConcurrentCache<>("aquifer", TFCConfig.COMMON.aquiferCacheSize.get());
+        this.heightFillerCache = new FastConcurrentCache<>("height_filler", TFCConfig.COMMON.heightFillerCacheSize.get());
         this.noiseSamplerSeed = seed;
+        this.noiseSamplers = ThreadLocal.withInitial(() -> new ChunkNoiseSamplers(seed));
         this.noiseSampler = new NoiseSampler(random.nextLong(), level.registryAccess().lookupOrThrow(Registries.NOISE), level.registryAccess().lookupOrThrow(Registries.DENSITY_FUNCTION));
         this.chunkDataProvider = new ChunkDataProvider(chunkDataGenerator);
         this.surfaceManager = new SurfaceManager(seed);
@@ -229,10 +233,27 @@ public class TFCChunkGenerator extends ChunkGenerator implements ChunkGeneratorE
         ((RandomStateExtension) (Object) ((ChunkMapAccessor) chunkMap).accessor$getRandomState()).tfc$setChunkGeneratorExtension(this);
     }
 
+    public RegionGenerator regionGenerator()
+    {
+        return regionGenerator;
+    }
+
+    /**
+     * @return All concurrent caches used by this chunk generator, for debug purposes.
+     */
+    public List<FastConcurrentCache<?>> caches()
+    {
+        final List<FastConcurrentCache<?>> caches = new ArrayList<>(regionGenerator.caches());
+        caches.add(aquiferCache);
+        caches.add(heightFillerCache);
+        return caches;
+    }
+
     public ChunkHeightFiller createHeightFillerForChunk(ChunkPos pos)
     {
-        final Object2DoubleMap<BiomeExtension>[] biomeWeights = ChunkBiomeSampler.sampleBiomes(pos, this::sampleBiomeNoRiver, BiomeExtension::biomeBlendType);
-        return new ChunkHeightFiller(biomeWeights, customBiomeSource, createBiomeSamplersForChunk(null), createRiverSamplersForChunk(), createShoreSamplerForChunk(), getSeaLevel());
+        final BiomeWeights[] biomeWeights = ChunkBiomeSampler.sampleBiomes(pos, this::sampleBiomeNoRiver, BiomeExtension::biomeBlendType);
+        // Height fillers are cached, and may outlive this call, so they cannot borrow this thread's samplers
+        return new ChunkHeightFiller(biomeWeights, customBiomeSource, new ChunkNoiseSamplers(noiseSamplerSeed).prepare(this, null), getSeaLevel());
     }
 
     @Override
@@ -437,11 +458,14 @@ public class TFCChunkGenerator extends ChunkGenerator implements ChunkGeneratorE
             sections.add(section);
         }
 
-        final Object2DoubleMap<BiomeExtension>[] biomeWeights = ChunkBiomeSampler.sampleBiomes(chunkPos, this::sampleBiomeNoRiver, BiomeExtension::biomeBlendType);
+        final BiomeWeights[] biomeWeights = ChunkBiomeSampler.sampleBiomes(chunkPos, this::sampleBiomeNoRiver, BiomeExtension::biomeBlendType);
         final ChunkBaseBlockSource baseBlockSource = createBaseBlockSourceForChunk(chunk);
-        final ChunkNoiseFiller filler = new ChunkNoiseFiller((ProtoChunk) chunk, biomeWeights, customBiomeSource, createBiomeSamplersForChunk(chunk), createRiverSamplersForChunk(), createShoreSamplerForChunk(), noiseSampler, baseBlockSource, settings, getSeaLevel(), Beardifier.forStructuresInChunk(structureFeatureManager, chunkPos));
+        final Beardifier beardifier = Beardifier.forStructuresInChunk(structureFeatureManager, chunkPos);
 
         return CompletableFuture.supplyAsync(() -> {
+            // Noise samplers are borrowed from the current thread, so all sampling, including the slope map, must happen here
+            final ChunkNoiseFiller filler = new ChunkNoiseFiller((ProtoChunk) chunk, biomeWeights, customBiomeSource, noiseSamplers.get().prepare(this, chunk), noiseSampler, baseBlockSource, settings, getSeaLevel(), beardifier);
+
             filler.sampleAquiferSurfaceHeight(this::sampleBiomeNoRiver);
             chunkData.generateFull(filler.surfaceHeight(), filler.aquifer().surfaceHeights());
             chunkData.getRockData().useCache(chunkPos);
@@ -449,13 +473,17 @@ public class TFCChunkGenerator extends ChunkGenerator implements ChunkGeneratorE
 
             aquiferCache.set(chunkPos.x, chunkPos.z, filler.aquifer());
 
-            return chunk;
+            return new FilledChunk(filler, filler.createSlopeMap());
         }, Util.backgroundExecutor()).whenCompleteAsync((ret, error) -> {
             // Unlock before surfaces are built, as they use locks directly
             sections.forEach(LevelChunkSection::release);
 
-            surfaceManager.buildSurface(actualLevel, chunk, rockLayerSettings(), chunkData, filler.localBiomes(), filler.localBiomesNoRivers(), filler.localBiomeWeights(), filler.createSlopeMap(), random, getSeaLevel(), settings.minY());
-        }, mainExecutor);
+            if (ret != null)
+            {
+                final ChunkNoiseFiller filler = ret.filler;
+                surfaceManager.buildSurface(actualLevel, chunk, rockLayerSettings(), chunkData, filler.localBiomes(), filler.localBiomesNoRivers(), filler.localBiomeWeights(), ret.slopeMap, random, getSeaLevel(), settings.minY());
+            }
+        }, mainExecutor).thenApply(ret -> chunk);
     }
 
     @Override
@@ -473,8 +501,25 @@ public class TFCChunkGenerator extends ChunkGenerator implements ChunkGeneratorE
     @Override
     public int getBaseHeight(int x, int z, Heightmap.Types type, LevelHeightAccessor level, RandomState state)
     {
-        final ChunkPos pos = new ChunkPos(SectionPos.blockToSectionCoord(x), SectionPos.blockToSectionCoord(z));
-        return (int) createHeightFillerForChunk(pos).sampleHeight(x, z);
+        final ChunkHeightFiller filler = getOrCreateHeightFiller(SectionPos.blockToSectionCoord(x), SectionPos.blockToSectionCoord(z));
+        synchronized (filler)
+        {
+            return (int) filler.sampleHeight(x, z);
+        }
+    }
+
+    /**
+     * Samples the base height of every column in a chunk at once, equivalent to calling {@link #getBaseHeight(int, int, Heightmap.Types, LevelHeightAccessor, RandomState)} for each position.
+     *
+     * @return A 16x16 array of heights, indexed by {@code localX | (localZ << 4)}.
+     */
+    public double[] getBaseHeights(ChunkPos pos)
+    {
+        final ChunkHeightFiller filler = getOrCreateHeightFiller(pos.x, pos.z);
+        synchronized (filler)
+        {
+            return filler.sampleHeights(pos.getMinBlockX(), pos.getMinBlockZ());
+        }
     }
 
     @Override
@@ -486,7 +531,7 @@ public class TFCChunkGenerator extends ChunkGenerator implements ChunkGeneratorE
     @Override
     public void addDebugScreenInfo(List<String> list, RandomState state, BlockPos pos)
     {
-        list.add("Shore: " + createShoreSamplerForChunk().noise(pos.getX(), pos.getZ()));
+        list.add("Shore: " + noiseSamplers.get().shore().noise(pos.getX(), pos.getZ()));
     }
 
     /**
@@ -582,41 +627,25 @@ public class TFCChunkGenerator extends ChunkGenerator implements ChunkGeneratorE
         return aquifer;
     }
 
-    private Map<BiomeExtension, BiomeNoiseSampler> createBiomeSamplersForChunk(@Nullable ChunkAccess chunk)
-    {
-        final ImmutableMap.Builder<BiomeExtension, BiomeNoiseSampler> builder = ImmutableMap.builder();
-        for (BiomeExtension extension : TFCBiomes.getExtensions())
-        {
-            final BiomeNoiseSampler sampler = extension.createNoiseSampler(noiseSamplerSeed);
-            if (sampler != null)
-            {
-                sampler.prepare(this, chunk);
-                builder.put(extension, sampler);
-            }
-        }
-        return builder.build();
-    }
-
-    private Map<RiverBlendType, RiverNoiseSampler> createRiverSamplersForChunk()
+    /**
+     * Height fillers are cached, as building one requires sampling biome weights and constructing noise samplers for the whole chunk, and structure placement will query the height of the same chunk many times.
+     * They are stateful, so all access to the returned filler must be synchronized on it.
+     */
+    private ChunkHeightFiller getOrCreateHeightFiller(int chunkX, int chunkZ)
     {
-        final EnumMap<RiverBlendType, RiverNoiseSampler> builder = new EnumMap<>(RiverBlendType.class);
-        for (RiverBlendType blendType : RiverBlendType.ALL)
+        ChunkHeightFiller filler = heightFillerCache.getIfPresent(chunkX, chunkZ);
+        if (filler == null)
         {
-            builder.put(blendType, blendType.createNoiseSampler(noiseSamplerSeed));
+            filler = createHeightFillerForChunk(new ChunkPos(chunkX, chunkZ));
+            heightFillerCache.set(chunkX, chunkZ, filler);
         }
-        return builder;
-    }
-
-    private Noise2D createShoreSamplerForChunk()
-    {
-        return new OpenSimplex2D(noiseSamplerSeed)
-            .octaves(2)
-            .spread(0.003f)
-            .scaled(-0.1, 1.1);
+        return filler;
     }
 
     private TFCChunkGenerator copy()
     {
         return new TFCChunkGenerator(customBiomeSource.copy(), noiseSettings, settings);
     }
+
+    private record FilledChunk(ChunkNoiseFiller filler, double[] slopeMap) {}
 }
\ No newline at end of file
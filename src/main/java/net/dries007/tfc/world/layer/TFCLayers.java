@@ -17,9 +17,7 @@ import net.dries007.tfc.world.biome.BiomeExtension;
 import net.dries007.tfc.world.biome.TFCBiomes;
 import net.dries007.tfc.world.chunkdata.ForestType;
 import net.dries007.tfc.world.layer.framework.AreaFactory;
-import net.dries007.tfc.world.layer.framework.TypedAreaFactory;
 import net.dries007.tfc.world.noise.OpenSimplex2D;
-import net.dries007.tfc.world.region.Region;
 import net.dries007.tfc.world.region.RegionGenerator;
 import net.dries007.tfc.world.region.Units;
 
@@ -151,11 +149,9 @@ public class TFCLayers
     public static AreaFactory createOverworldRockLayer(RegionGenerator generator, long seed)
     {
         final Random random = new Random(seed);
-        final TypedAreaFactory<Region.Point> regionLayer = new RegionLayer(generator).apply(random.nextLong());
-
         AreaFactory layer;
 
-        layer = RegionRockLayer.INSTANCE.apply(regionLayer); // Grid scale (128x)
+        layer = new RegionRockLayer(generator).apply(random.nextLong()); // Grid scale (128x)
         for (int i = 0; i < Units.GRID_BITS - 1; i++)
         {
             layer = ZoomLayer.NORMAL.apply(seed, layer);
@@ -170,11 +166,9 @@ public class TFCLayers
     public static AreaFactory createRegionBiomeLayer(RegionGenerator generator, long seed)
     {
         final Random random = new Random(seed);
-        final TypedAreaFactory<Region.Point> regionLayer = new RegionLayer(generator).apply(random.nextLong());
-
         AreaFactory mainLayer;
 
-        mainLayer = RegionBiomeLayer.INSTANCE.apply(regionLayer);
+        mainLayer = new RegionBiomeLayer(generator).apply(random.nextLong());
 
         // Grid scale
 
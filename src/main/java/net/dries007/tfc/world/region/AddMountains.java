@@ -27,26 +27,24 @@ public enum AddMountains implements RegionTask
             final int originX = region.minX() + random.nextInt(region.sizeX());
             final int originZ = region.minZ() + random.nextInt(region.sizeZ());
 
-            final Region.Point origin = region.maybeAt(originX, originZ);
+            final int originIndex = region.maybeIndex(originX, originZ);
 
-            if (origin != null && origin.land())
+            if (originIndex != -1 && region.land(originIndex))
             {
                 // Attempt to construct a mountain range
                 // We do this with a bit of a DFS / BFS hybrid - intentionally imprecise and random - across a contour of the base land height
                 // Ranges at low altitudes (near ocean) get marked as oceanic ranges, where mid-high altitude ranges get marked as high altitude mountains.
-                final int originIndex = region.index(originX, originZ);
-                if (origin.baseLandHeight <= 1 || (origin.baseLandHeight >= 4 && origin.baseLandHeight <= 11))
+                final int originBaseLandHeight = region.baseLandHeight(originIndex);
+                if (originBaseLandHeight <= 1 || (originBaseLandHeight >= 4 && originBaseLandHeight <= 11))
                 {
                     final IntSet range = placeRange(region, random, originIndex);
                     if (range.size() > 45)
                     {
                         range.forEach(index -> {
-                            final Region.Point point = region.data()[index];
-
-                            point.setMountain();
-                            if (origin.baseLandHeight <= 2)
+                            region.setMountain(index);
+                            if (originBaseLandHeight <= 2)
                             {
-                                point.setCoastalMountain();
+                                region.setCoastalMountain(index);
                             }
                         });
                         placed++;
@@ -67,13 +65,12 @@ public enum AddMountains implements RegionTask
         range.add(originIndex);
 
         // So that low altitude ranges don't start at 0 altitude, now they can follow the [0, 1] contour
-        final int originBaseLandHeight = Math.max(1, region.data()[originIndex].baseLandHeight);
+        final int originBaseLandHeight = Math.max(1, region.baseLandHeight(originIndex));
         final int maxSize = 70 + random.nextInt(40);
 
         while (!queue.isEmpty())
         {
             final int last = queue.dequeueInt();
-            final Region.Point lastPoint = region.data()[last];
             if (range.size() > maxSize)
             {
                 break;
@@ -88,14 +85,12 @@ public enum AddMountains implements RegionTask
                     {
                         continue;
                     }
-                    final Region.Point point = region.data()[next];
-
                     // Only explore the contour within [-1, 0] of the origin
                     // The baseLandHeight > 2 || distanceToOcean < 3 is to avoid what should be coastal mountains diverting inland due to
                     // the presence of a cell edge causing an artificial low point.
-                    if (point != null && point.land() && point.baseLandHeight >= originBaseLandHeight - 1 && point.baseLandHeight <= originBaseLandHeight + 1 && (point.baseLandHeight > 2 || point.distanceToOcean < 3) && !explored.get(next))
+                    if (region.exists(next) && region.land(next) && region.baseLandHeight(next) >= originBaseLandHeight - 1 && region.baseLandHeight(next) <= originBaseLandHeight + 1 && (region.baseLandHeight(next) > 2 || region.distanceToOcean(next) < 3) && !explored.get(next))
                     {
-                        if (lastPoint.baseLandHeight != point.baseLandHeight)
+                        if (region.baseLandHeight(last) != region.baseLandHeight(next))
                         {
                             queue.enqueue(next);
                         }
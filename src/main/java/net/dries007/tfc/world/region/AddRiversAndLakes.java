@@ -11,7 +11,6 @@ import java.util.List;
 import java.util.Map;
 import net.minecraft.util.RandomSource;
 import net.minecraft.world.level.levelgen.XoroshiroRandomSource;
-import org.jetbrains.annotations.Nullable;
 
 import net.dries007.tfc.world.layer.TFCLayers;
 import net.dries007.tfc.world.river.River;
@@ -50,8 +49,7 @@ public enum AddRiversAndLakes implements RegionTask
             for (int dz = 0; dz < region.sizeZ(); dz++)
             {
                 final int index = dx + region.sizeX() * dz;
-                final Region.Point point = region.data()[index];
-                if (point != null && point.shore())
+                if (region.exists(index) && region.shore(index))
                 {
                     // Mark as a possible river source
                     float bestAngle = findBestStartingAngle(region, context.random, index);
@@ -59,7 +57,7 @@ public enum AddRiversAndLakes implements RegionTask
                     {
                         final XoroshiroRandomSource rng = new XoroshiroRandomSource(context.random.nextLong());
                         riverGenerator.add(new River.Builder(rng, region.minX() + dx + 0.5f, region.minZ() + dz + 0.5f, bestAngle, RIVER_LENGTH, RIVER_DEPTH, RIVER_FEATHER));
-                        point.setRiver();
+                        region.setRiver(index);
                     }
                 }
             }
@@ -84,10 +82,9 @@ public enum AddRiversAndLakes implements RegionTask
                 final int dirIndex = region.offset(index, 4 * dirX, 4 * dirZ);
                 if (dirIndex != -1)
                 {
-                    final Region.Point dirPoint = region.data()[dirIndex];
-                    if (dirPoint != null && dirPoint.land())
+                    if (region.exists(dirIndex) && region.land(dirIndex))
                     {
-                        final float dirDistanceMetric = dirPoint.distanceToOcean - Math.abs(dirX) - Math.abs(dirZ);
+                        final float dirDistanceMetric = region.distanceToOcean(dirIndex) - Math.abs(dirX) - Math.abs(dirZ);
                         if (dirDistanceMetric > bestDistanceMetric || (dirDistanceMetric == bestDistanceMetric && random.nextInt(1 + bestDistanceCount) == 0))
                         {
                             if (dirDistanceMetric > bestDistanceMetric)
@@ -160,11 +157,13 @@ public enum AddRiversAndLakes implements RegionTask
         final int gridX = (int) (edge.source().x() + 0.3f * offsetX);
         final int gridZ = (int) (edge.source().y() + 0.3f * offsetZ);
 
-        final Region.Point point = region.maybeAt(gridX, gridZ);
-        if (point != null && point.land() && point.distanceToOcean >= 2 && point.distanceToEdge >= 2 && TFCLayers.hasLake(point.biome))
+        final int index = region.maybeIndex(gridX, gridZ);
+        if (index != -1 && region.land(index) && region.distanceToOcean(index) >= 2 && region.distanceToEdge(index) >= 2 && TFCLayers.hasLake(region.biome(index)))
         {
-            point.biome = TFCLayers.lakeFor(point.biome);
-            point.rainfall += 0.09f * (500f - point.rainfall); // Small, localized rainfall increase around lakes of ~45mm max
+            final float rainfall = region.rainfall(index);
+
+            region.setBiome(index, TFCLayers.lakeFor(region.biome(index)));
+            region.setRainfall(index, rainfall + 0.09f * (500f - rainfall)); // Small, localized rainfall increase around lakes of ~45mm max
         }
     }
 
@@ -180,19 +179,18 @@ public enum AddRiversAndLakes implements RegionTask
         @Override
         protected boolean isLegal(River.Vertex prev, River.Vertex vertex)
         {
-            final Region.Point prevPoint = vertex2Point(prev), newPoint = vertex2Point(vertex);
-            return newPoint != null && prevPoint != null
-                && newPoint.land() // River must be on land
-                && newPoint.distanceToOcean >= prevPoint.distanceToOcean // Further from the ocean or equal than the previous point
-                && newPoint.distanceToOcean >= Math.min(3, prev.distance() / 2); // And it should gradually work it's way inland
+            final int prevIndex = vertex2Index(prev), newIndex = vertex2Index(vertex);
+            return newIndex != -1 && prevIndex != -1
+                && region.land(newIndex) // River must be on land
+                && region.distanceToOcean(newIndex) >= region.distanceToOcean(prevIndex) // Further from the ocean or equal than the previous point
+                && region.distanceToOcean(newIndex) >= Math.min(3, prev.distance() / 2); // And it should gradually work it's way inland
         }
 
-        @Nullable
-        private Region.Point vertex2Point(River.Vertex vertex)
+        private int vertex2Index(River.Vertex vertex)
         {
             final int gridX = (int) Math.round(vertex.x());
             final int gridZ = (int) Math.round(vertex.y());
-            return region.maybeAt(gridX, gridZ);
+            return region.maybeIndex(gridX, gridZ);
         }
     }
 }
@@ -21,24 +21,24 @@ public enum AnnotateClimate implements RegionTask
         {
             for (int z = region.minZ(); z <= region.maxZ(); z++)
             {
-                final Region.Point point = region.maybeAt(x, z);
-                if (point != null)
+                final int index = region.maybeIndex(x, z);
+                if (index != -1)
                 {
                     // Climate is seeded with a base value based on noise
                     // This keeps the large-scale climate which we want
-                    point.temperature = (float) context.generator().temperatureNoise.noise(x, z);
-                    point.rainfall = (float) context.generator().rainfallNoise.noise(x, z);
+                    final float temperature = (float) context.generator().temperatureNoise.noise(x, z);
+                    final float rainfall = (float) context.generator().rainfallNoise.noise(x, z);
 
                     // [0, 1], where higher = more inland
                     final float bias;
-                    if (point.land())
+                    if (region.land(index))
                     {
-                        assert point.distanceToOcean >= 0;
+                        assert region.distanceToOcean(index) >= 0;
 
                         // Bias temperature by distance to ocean, using a basic rule:
                         // Proximity to an ocean *increases* rainfall, and *normalizes* temperature, with the same bias in reverse.
-                        final float potentialBias = Mth.clampedMap(point.distanceToEdge, 2f, 6f, 0f, 1f);
-                        final float oceanProximityBias = Mth.clampedMap(point.distanceToOcean, 2f, 6f, 0f, 1f);
+                        final float potentialBias = Mth.clampedMap(region.distanceToEdge(index), 2f, 6f, 0f, 1f);
+                        final float oceanProximityBias = Mth.clampedMap(region.distanceToOcean(index), 2f, 6f, 0f, 1f);
 
                         bias = Math.min(potentialBias, oceanProximityBias);
                     }
@@ -48,12 +48,12 @@ public enum AnnotateClimate implements RegionTask
                     }
 
                     // Calculate targets to bias towards
-                    final float biasTargetTemperature = Mth.lerp(bias, 5f, point.temperature);
-                    final float biasTargetRainfall = Mth.lerp(bias, Math.min(point.rainfall + 350f, 500f), point.rainfall);
+                    final float biasTargetTemperature = Mth.lerp(bias, 5f, temperature);
+                    final float biasTargetRainfall = Mth.lerp(bias, Math.min(rainfall + 350f, 500f), rainfall);
 
                     // And apply some influence towards those targets
-                    point.temperature = Mth.lerp(0.23f, point.temperature, biasTargetTemperature);
-                    point.rainfall = Mth.lerp(0.23f, point.rainfall, biasTargetRainfall);
+                    region.setTemperature(index, Mth.lerp(0.23f, temperature, biasTargetTemperature));
+                    region.setRainfall(index, Mth.lerp(0.23f, rainfall, biasTargetRainfall));
                 }
             }
         }
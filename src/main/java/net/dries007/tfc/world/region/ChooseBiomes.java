@@ -36,57 +36,61 @@ public enum ChooseBiomes implements RegionTask
         {
             for (int z = region.minZ(); z <= region.maxZ(); z++)
             {
-                final Region.Point point = region.maybeAt(x, z);
-                if (point != null)
+                final int index = region.maybeIndex(x, z);
+                if (index != -1)
                 {
                     final int areaSeed = blobArea.get(x, z);
-                    if (point.island())
+                    int biome;
+                    if (region.island(index))
                     {
-                        point.biome = randomSeededFrom(rngSeed, areaSeed, ISLAND_BIOMES);
+                        biome = randomSeededFrom(rngSeed, areaSeed, ISLAND_BIOMES);
                     }
-                    else if (point.mountain())
+                    else if (region.mountain(index))
                     {
-                        point.biome = randomSeededFrom(rngSeed, areaSeed, point.coastalMountain()
+                        biome = randomSeededFrom(rngSeed, areaSeed, region.coastalMountain(index)
                             ? OCEANIC_MOUNTAIN_ALTITUDE_BIOMES
                             : MOUNTAIN_ALTITUDE_BIOMES);
                     }
-                    else if (point.land())
+                    else if (region.land(index))
                     {
-                        point.biome = randomSeededFrom(rngSeed, areaSeed, ALTITUDE_BIOMES[point.discreteBiomeAltitude()]);
+                        biome = randomSeededFrom(rngSeed, areaSeed, ALTITUDE_BIOMES[region.discreteBiomeAltitude(index)]);
                     }
-                    else if (point.baseOceanDepth < 3)
+                    else if (region.baseOceanDepth(index) < 3)
                     {
-                        point.biome = OCEAN;
+                        biome = OCEAN;
                     }
-                    else if (point.baseOceanDepth > 9)
+                    else if (region.baseOceanDepth(index) > 9)
                     {
-                        point.biome = DEEP_OCEAN_TRENCH;
+                        biome = DEEP_OCEAN_TRENCH;
                     }
-                    else if (point.baseOceanDepth >= 5 || point.distanceToEdge < 2)
+                    else if (region.baseOceanDepth(index) >= 5 || region.distanceToEdge(index) < 2)
                     {
-                        point.biome = DEEP_OCEAN;
+                        biome = DEEP_OCEAN;
                     }
                     else
                     {
-                        point.biome = randomSeededFrom(rngSeed, areaSeed, MID_DEPTH_OCEAN_BIOMES);
+                        biome = randomSeededFrom(rngSeed, areaSeed, MID_DEPTH_OCEAN_BIOMES);
                     }
 
                     // Adjust certain biome placements by climate. Low, freshwater biomes don't make much sense appearing in
                     // very low rainfall areas, so replace them with slightly higher biomes
+                    final float rainfall = region.rainfall(index);
                     final float minRainForLowFreshWaterBiomes = 90f + Math.floorMod(areaSeed ^ climateSeed, 40);
-                    if (point.rainfall < minRainForLowFreshWaterBiomes)
+                    if (rainfall < minRainForLowFreshWaterBiomes)
                     {
-                        if (point.biome == LOWLANDS) point.biome = PLAINS;
-                        else if (point.biome == LOW_CANYONS) point.biome = CANYONS;
+                        if (biome == LOWLANDS) biome = PLAINS;
+                        else if (biome == LOW_CANYONS) biome = CANYONS;
                     }
 
                     // Prevent badlands from appearing in very high rainfall environments
                     final float maxRainfallForBadlands = 420f + Math.floorMod(areaSeed ^ climateSeed, 40);
-                    if (point.rainfall > maxRainfallForBadlands)
+                    if (rainfall > maxRainfallForBadlands)
                     {
-                        if (point.biome == BADLANDS) point.biome = HIGHLANDS;
-                        else if (point.biome == INVERTED_BADLANDS) point.biome = ROLLING_HILLS;
+                        if (biome == BADLANDS) biome = HIGHLANDS;
+                        else if (biome == INVERTED_BADLANDS) biome = ROLLING_HILLS;
                     }
+
+                    region.setBiome(index, biome);
                 }
             }
         }
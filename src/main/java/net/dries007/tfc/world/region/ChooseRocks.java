@@ -31,20 +31,19 @@ public enum ChooseRocks implements RegionTask
             for (int dz = 0; dz < region.sizeZ(); dz++)
             {
                 final int index = dx + region.sizeX() * dz;
-                final Region.Point point = region.data()[index];
-                if (point != null)
+                if (region.exists(index))
                 {
                     // Lower two bits are the supertype, upper bits are seed
-                    point.rock = (rockArea.get(region.minX() + dx, region.minZ() + dz) << TYPE_BITS)
-                        | findClosestType(region, point, index);
+                    region.setRock(index, (rockArea.get(region.minX() + dx, region.minZ() + dz) << TYPE_BITS)
+                        | findClosestType(region, index));
                 }
             }
         }
     }
 
-    private int findClosestType(Region region, Region.Point center, int index)
+    private int findClosestType(Region region, int index)
     {
-        int type = center.land() ? LAND : OCEAN, minDist = Integer.MAX_VALUE;
+        int type = region.land(index) ? LAND : OCEAN, minDist = Integer.MAX_VALUE;
         for (int dx = -2; dx <= 2; dx++)
         {
             for (int dz = 0; dz <= 2; dz++)
@@ -53,15 +52,14 @@ public enum ChooseRocks implements RegionTask
                 final int dist = Math.abs(dx) + Math.abs(dz);
                 if (offset != -1 && dist < minDist)
                 {
-                    final Region.Point point = region.data()[offset];
-                    if (point != null)
+                    if (region.exists(offset))
                     {
-                        if (point.island() && dist < 4)
+                        if (region.island(offset) && dist < 4)
                         {
                             type = VOLCANIC;
                             minDist = dist;
                         }
-                        else if ((point.mountain() || point.coastalMountain()) && dist < 3)
+                        else if ((region.mountain(offset) || region.coastalMountain(offset)) && dist < 3)
                         {
                             type = UPLIFT;
                             minDist = dist;
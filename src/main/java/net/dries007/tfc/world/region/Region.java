@@ -6,6 +6,7 @@
 
 package net.dries007.tfc.world.region;
 
+import java.util.Arrays;
 import java.util.List;
 import org.jetbrains.annotations.Nullable;
 
@@ -13,8 +14,22 @@ import net.dries007.tfc.world.layer.TFCLayers;
 import net.dries007.tfc.world.noise.Cellular2D;
 import net.dries007.tfc.world.noise.FastNoiseLite;
 
+/**
+ * A region is a grid of points, stored in a <strong>structure-of-arrays</strong> layout: each property of a point is stored in its own primitive array, all indexed by the same {@link #index(int, int)}. This avoids a heap object per grid point, and keeps the flood fill style {@link RegionTask}s iterating over primitive arrays.
+ * <p>
+ * Both region tasks and consumers of generated regions should use the index-based accessors, i.e. {@link #land(int)} and {@link #setDistanceToOcean(int, int)}. Points which are within the bounding box, but not part of this region, are not {@link #exists(int)}, and have all properties default.
+ * {@link Point} is a view of a single index, for debugging and visualization.
+ */
 public final class Region
 {
+    static final short FLAG_LAND = 0b1;
+    static final short FLAG_ISLAND = 0b10;
+    static final short FLAG_RIVER = 0b100;
+    static final short FLAG_LAKE = 0b1000;
+    static final short FLAG_MOUNTAIN = 0b10000;
+    static final short FLAG_COASTAL_MOUNTAIN = 0b100000;
+    static final short FLAG_EXISTS = 0b1000000;
+
     private final double cellX;
     private final double cellY;
     private final double noise;
@@ -24,62 +39,93 @@ public final class Region
     private int maxZ;
     private int sizeX;
     private int sizeZ;
-    private Point[] data;
+
+    /** Distance to the nearest ocean. Note the actual distance may be lower if {@code distanceToEdge} is smaller than this. Negative values indicate an ocean, where {@code -2} indicates an ocean adjacent to land. */
+    private byte[] distanceToOcean;
+    /** Distance to the nearest edge of the region. This is important because certain tasks need to not go too near to the edge to avoid continuity issues */
+    private byte[] distanceToEdge;
+    private byte[] baseOceanDepth;
+    private byte[] baseLandHeight;
+    private byte[] biomeAltitude;
+    private float[] rainfall;
+    private float[] temperature;
+    private int[] biome;
+    private int[] rock;
+    private short[] flags;
+
     private @Nullable List<RiverEdge> rivers;
 
     Region(Cellular2D.Cell cell)
     {
-        this.cellX = cell.x();
-        this.cellY = cell.y();
-        this.noise = cell.noise();
+        this(cell.x(), cell.y(), cell.noise());
+    }
+
+    Region(double cellX, double cellY, double noise)
+    {
+        this.cellX = cellX;
+        this.cellY = cellY;
+        this.noise = noise;
 
-        final int cellX = FastNoiseLite.FastRound(cell.x());
-        final int cellZ = FastNoiseLite.FastRound(cell.y());
+        final int centerX = FastNoiseLite.FastRound(cellX);
+        final int centerZ = FastNoiseLite.FastRound(cellY);
 
-        this.minX = cellX - Units.REGION_RADIUS_IN_GRID;
-        this.minZ = cellZ - Units.REGION_RADIUS_IN_GRID;
-        this.maxX = cellX + Units.REGION_RADIUS_IN_GRID;
-        this.maxZ = cellZ + Units.REGION_RADIUS_IN_GRID;
+        this.minX = centerX - Units.REGION_RADIUS_IN_GRID;
+        this.minZ = centerZ - Units.REGION_RADIUS_IN_GRID;
+        this.maxX = centerX + Units.REGION_RADIUS_IN_GRID;
+        this.maxZ = centerZ + Units.REGION_RADIUS_IN_GRID;
 
         this.sizeX = 1 + maxX - minX;
         this.sizeZ = 1 + maxZ - minZ;
 
-        this.data = new Point[Units.REGION_WIDTH_IN_GRID * Units.REGION_WIDTH_IN_GRID];
+        allocate(Units.REGION_WIDTH_IN_GRID * Units.REGION_WIDTH_IN_GRID);
     }
 
-    public Point atInit(int gridX, int gridZ)
+    /**
+     * Marks the point at the specified grid coordinates as part of this region.
+     * @return The index of the point.
+     */
+    public int atInit(int gridX, int gridZ)
     {
         final int index = index(gridX, gridZ);
-        final Point point = new Point();
 
-        assert data[index] == null;
-        data[index] = point;
-        return point;
+        assert !exists(index);
+        flags[index] = FLAG_EXISTS;
+        return index;
     }
 
-    public Point requireAt(int gridX, int gridZ)
+    /**
+     * @return The index of the point at the specified grid coordinates, which must be part of this {@link Region}.
+     */
+    public int requireIndex(int gridX, int gridZ)
     {
-        final Point point = at(gridX, gridZ);
-        assert point != null : "Region %s does not contain point at (%d, %d)".formatted(this, gridX, gridZ);
-        return point;
+        final int index = index(gridX, gridZ);
+        assert exists(index) : "Region %s does not contain point at (%d, %d)".formatted(this, gridX, gridZ);
+        return index;
     }
 
     /**
+     * Allocates a new {@link Point} view, so this should not be used from world generation, which should use {@link #requireIndex(int, int)} or {@link #maybeIndex(int, int)}, and the index-based accessors.
+     *
      * @return The {@link Point} at the specified grid coordinates. Errors if the coordinates are out of range of this {@link Region}'s bounding box and returns {@code null} if they are outside this {@link Region}.
      */
     @Nullable
     public Point at(int gridX, int gridZ)
     {
-        return data[index(gridX, gridZ)];
+        final int index = index(gridX, gridZ);
+        return exists(index) ? new Point(this, index) : null;
     }
 
     /**
-     * @return The {@link Point} at the specified grid coordinates. Returns {@code null} if the coordinates are out of range of this {@link Region}'s bounding box or outside this {@link Region}.
+     * @return The index of the point at the specified grid coordinates. Returns {@code -1} if the coordinates are out of range of this {@link Region}'s bounding box or outside this {@link Region}.
      */
-    @Nullable
-    public Point maybeAt(int gridX, int gridZ)
+    public int maybeIndex(int gridX, int gridZ)
     {
-        return isIn(gridX, gridZ) ? data[index(gridX, gridZ)] : null;
+        if (isIn(gridX, gridZ))
+        {
+            final int index = index(gridX, gridZ);
+            return exists(index) ? index : -1;
+        }
+        return -1;
     }
 
     /**
@@ -91,7 +137,7 @@ public final class Region
     }
 
     /**
-     * @return An index into {@link #data()}, based on the target index, plus a coordinate offset of {@code (offsetX, offsetZ)}. Returns {@code -1} if this is out of this {@link Region}'s bounding box.
+     * @return An index into this {@link Region}'s data, based on the target index, plus a coordinate offset of {@code (offsetX, offsetZ)}. Returns {@code -1} if this is out of this {@link Region}'s bounding box.
      */
     public int offset(int index, int offsetX, int offsetZ)
     {
@@ -101,7 +147,7 @@ public final class Region
     }
 
     /**
-     * @return An index into {@link #data()}, based on the global grid coordinates.
+     * @return An index into this {@link Region}'s data, based on the global grid coordinates.
      */
     public int index(int gridX, int gridZ)
     {
@@ -113,6 +159,16 @@ public final class Region
         return localX + sizeX * localZ;
     }
 
+    /**
+     * @return The total number of indexes in this {@link Region}'s bounding box, equal to {@code sizeX() * sizeZ()}.
+     */
+    public int size()
+    {
+        return flags.length;
+    }
+
+    public double cellX() { return cellX; }
+    public double cellY() { return cellY; }
     public double noise() { return noise; }
 
     public int minX() { return minX; }
@@ -122,9 +178,22 @@ public final class Region
     public int sizeX() { return sizeX; }
     public int sizeZ() { return sizeZ; }
 
-    public void setRegionArea(Point[] data, int minX, int minZ, int maxX, int maxZ)
+    /**
+     * Shrinks the bounding box of this region, to {@code [minX, maxX] x [minZ, maxZ]}, which must be contained within the current bounding box. All data within the new bounding box is preserved.
+     */
+    public void setRegionArea(int minX, int minZ, int maxX, int maxZ)
     {
-        this.data = data;
+        assert isIn(minX, minZ) && isIn(maxX, maxZ) : "setRegionArea() [%d, %d] x [%d, %d] is not contained within %s".formatted(minX, maxX, minZ, maxZ, this);
+
+        final byte[] prevDistanceToOcean = distanceToOcean, prevDistanceToEdge = distanceToEdge, prevBaseOceanDepth = baseOceanDepth, prevBaseLandHeight = baseLandHeight, prevBiomeAltitude = biomeAltitude;
+        final float[] prevRainfall = rainfall, prevTemperature = temperature;
+        final int[] prevBiome = biome, prevRock = rock;
+        final short[] prevFlags = flags;
+
+        final int offsetX = minX - this.minX;
+        final int offsetZ = minZ - this.minZ;
+        final int prevSizeX = sizeX;
+
         this.minX = minX;
         this.minZ = minZ;
         this.maxX = maxX;
@@ -132,7 +201,25 @@ public final class Region
         this.sizeX = 1 + maxX - minX;
         this.sizeZ = 1 + maxZ - minZ;
 
-        assert data.length == sizeX * sizeZ : "setRegionArea() data.length = %d != sizeX (%d) * sizeZ (%d)".formatted(data.length, sizeX, sizeZ);
+        allocate(sizeX * sizeZ);
+
+        // Copy by rows, as each row is contiguous in both the previous and new arrays
+        for (int dz = 0; dz < sizeZ; dz++)
+        {
+            final int from = offsetX + prevSizeX * (offsetZ + dz);
+            final int to = sizeX * dz;
+
+            System.arraycopy(prevDistanceToOcean, from, distanceToOcean, to, sizeX);
+            System.arraycopy(prevDistanceToEdge, from, distanceToEdge, to, sizeX);
+            System.arraycopy(prevBaseOceanDepth, from, baseOceanDepth, to, sizeX);
+            System.arraycopy(prevBaseLandHeight, from, baseLandHeight, to, sizeX);
+            System.arraycopy(prevBiomeAltitude, from, biomeAltitude, to, sizeX);
+            System.arraycopy(prevRainfall, from, rainfall, to, sizeX);
+            System.arraycopy(prevTemperature, from, temperature, to, sizeX);
+            System.arraycopy(prevBiome, from, biome, to, sizeX);
+            System.arraycopy(prevRock, from, rock, to, sizeX);
+            System.arraycopy(prevFlags, from, flags, to, sizeX);
+        }
     }
 
     public void setRivers(List<RiverEdge> rivers)
@@ -141,57 +228,95 @@ public final class Region
         this.rivers = rivers;
     }
 
-
-    public Point[] data() { return data; }
     public List<RiverEdge> rivers() { assert rivers != null; return rivers; }
 
+    // Index-based accessors, for use in region tasks
+
+    public boolean exists(int index) { return (flags[index] & FLAG_EXISTS) != 0; }
+    public boolean land(int index) { return (flags[index] & FLAG_LAND) != 0; }
+    public boolean island(int index) { return (flags[index] & FLAG_ISLAND) != 0; }
+    public boolean shore(int index) { return distanceToOcean[index] == -2; }
+    public boolean river(int index) { return (flags[index] & FLAG_RIVER) != 0; }
+    public boolean lake(int index) { return (flags[index] & FLAG_LAKE) != 0; }
+    public boolean mountain(int index) { return (flags[index] & FLAG_MOUNTAIN) != 0; }
+    public boolean coastalMountain(int index) { return (flags[index] & FLAG_COASTAL_MOUNTAIN) != 0; }
+
+    public int distanceToOcean(int index) { return distanceToOcean[index]; }
+    public int distanceToEdge(int index) { return distanceToEdge[index]; }
+    public int baseOceanDepth(int index) { return baseOceanDepth[index]; }
+    public int baseLandHeight(int index) { return baseLandHeight[index]; }
+    public int biomeAltitude(int index) { return biomeAltitude[index]; }
+    public int discreteBiomeAltitude(int index) { return Math.floorDiv(biomeAltitude[index], AnnotateBiomeAltitude.WIDTH); }
+    public float rainfall(int index) { return rainfall[index]; }
+    public float temperature(int index) { return temperature[index]; }
+    public int biome(int index) { return biome[index]; }
+    public int rock(int index) { return rock[index]; }
+
+    public void setLand(int index) { flags[index] |= FLAG_LAND; }
+    public void setIsland(int index) { flags[index] |= FLAG_ISLAND; }
+    public void setShore(int index) { distanceToOcean[index] = -2; }
+    public void setRiver(int index) { flags[index] |= FLAG_RIVER; }
+    public void setLake(int index) { flags[index] |= FLAG_LAKE; }
+    public void setMountain(int index) { flags[index] |= FLAG_MOUNTAIN; }
+    public void setCoastalMountain(int index) { flags[index] |= FLAG_COASTAL_MOUNTAIN; }
+
+    public void setDistanceToOcean(int index, int value) { distanceToOcean[index] = (byte) value; }
+    public void setDistanceToEdge(int index, int value) { distanceToEdge[index] = (byte) value; }
+    public void setBaseOceanDepth(int index, int value) { baseOceanDepth[index] = (byte) value; }
+    public void setBaseLandHeight(int index, int value) { baseLandHeight[index] = (byte) value; }
+    public void setBiomeAltitude(int index, int value) { biomeAltitude[index] = (byte) value; }
+    public void setRainfall(int index, float value) { rainfall[index] = value; }
+    public void setTemperature(int index, float value) { temperature[index] = value; }
+    public void setBiome(int index, int value) { biome[index] = value; }
+    public void setRock(int index, int value) { rock[index] = value; }
+
+    short flags(int index) { return flags[index]; }
+    void setFlags(int index, short value) { flags[index] = value; }
+
     @Override
     public String toString()
     {
         return "Region [%d, %d] x [%d, %d] at cell (%f, %f)".formatted(minX, maxX, minZ, maxZ, cellX, cellY);
     }
 
-    public static class Point
+    private void allocate(int size)
+    {
+        this.distanceToOcean = new byte[size];
+        this.distanceToEdge = new byte[size];
+        this.baseOceanDepth = new byte[size];
+        this.baseLandHeight = new byte[size];
+        this.biomeAltitude = new byte[size];
+        this.rainfall = new float[size];
+        this.temperature = new float[size];
+        this.biome = new int[size];
+        this.rock = new int[size];
+        this.flags = new short[size];
+
+        Arrays.fill(this.biome, TFCLayers.OCEAN);
+    }
+
+    /**
+     * A view of a single point in a {@link Region}. This does not hold any data itself, and reads through to the region.
+     */
+    public record Point(Region region, int index)
     {
-        static final short FLAG_LAND = 0b1;
-        static final short FLAG_ISLAND = 0b10;
-        static final short FLAG_RIVER = 0b100;
-        static final short FLAG_LAKE = 0b1000;
-        static final short FLAG_MOUNTAIN = 0b10000;
-        static final short FLAG_COASTAL_MOUNTAIN = 0b100000;
-
-        /** Distance to the nearest ocean. Note the actual distance may be lower if {@code distanceToEdge} is smaller than this. Negative values indicate an ocean, where {@code -2} indicates an ocean adjacent to land. */
-        public byte distanceToOcean = 0;
-        /** Distance to the nearest edge of the region. This is important because certain tasks need to not go too near to the edge to avoid continuity issues */
-        public byte distanceToEdge = 0;
-        public byte baseOceanDepth = 0;
-        public byte baseLandHeight = 0;
-        public byte biomeAltitude = 0;
-
-        public float rainfall;
-        public float temperature;
-
-        public int biome = TFCLayers.OCEAN;
-        public int rock = 0;
-
-        private short flags;
-
-        public boolean land() { return (flags & FLAG_LAND) != 0; }
-        public boolean island() { return (flags & FLAG_ISLAND) != 0; }
-        public boolean shore() { return distanceToOcean == -2; }
-        public boolean river() { return (flags & FLAG_RIVER) != 0; }
-        public boolean lake() { return (flags & FLAG_LAKE) != 0; }
-        public boolean mountain() { return (flags & FLAG_MOUNTAIN) != 0; }
-        public boolean coastalMountain() { return (flags & FLAG_COASTAL_MOUNTAIN) != 0; }
-
-        public int discreteBiomeAltitude() { return Math.floorDiv(biomeAltitude, AnnotateBiomeAltitude.WIDTH); }
-
-        public void setLand() { flags |= FLAG_LAND; }
-        public void setIsland() { flags |= FLAG_ISLAND; }
-        public void setShore() { distanceToOcean = -2; }
-        public void setRiver() { flags |= FLAG_RIVER; }
-        public void setLake() { flags |= FLAG_LAKE; }
-        public void setMountain() { flags |= FLAG_MOUNTAIN; }
-        public void setCoastalMountain() { flags |= FLAG_COASTAL_MOUNTAIN; }
+        public boolean land() { return region.land(index); }
+        public boolean island() { return region.island(index); }
+        public boolean shore() { return region.shore(index); }
+        public boolean river() { return region.river(index); }
+        public boolean lake() { return region.lake(index); }
+        public boolean mountain() { return region.mountain(index); }
+        public boolean coastalMountain() { return region.coastalMountain(index); }
+
+        public int distanceToOcean() { return region.distanceToOcean(index); }
+        public int distanceToEdge() { return region.distanceToEdge(index); }
+        public int baseOceanDepth() { return region.baseOceanDepth(index); }
+        public int baseLandHeight() { return region.baseLandHeight(index); }
+        public int biomeAltitude() { return region.biomeAltitude(index); }
+        public int discreteBiomeAltitude() { return region.discreteBiomeAltitude(index); }
+        public float rainfall() { return region.rainfall(index); }
+        public float temperature() { return region.temperature(index); }
+        public int biome() { return region.biome(index); }
+        public int rock() { return region.rock(index); }
     }
 }
@@ -6,12 +6,19 @@
 
 package net.dries007.tfc.world.region;
 
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.function.BiConsumer;
+import java.util.function.Supplier;
 import net.minecraft.util.Mth;
 import net.minecraft.util.RandomSource;
+import net.minecraft.world.level.ChunkPos;
 import net.minecraft.world.level.levelgen.XoroshiroRandomSource;
+import org.jetbrains.annotations.Nullable;
 import org.jetbrains.annotations.TestOnly;
 import org.jetbrains.annotations.VisibleForTesting;
 
@@ -52,19 +59,46 @@ public class RegionGenerator
     public final ThreadLocal<Area> rockArea;
 
     private final long seed;
+    private final @Nullable RegionStorage storage;
     private final FastConcurrentCache<Region> cellCache;
     private final FastConcurrentCache<RegionPartition> partitionCache;
 
+    // In-flight builds, keyed on the same cell coordinates as the caches. These ensure only a single thread builds any given region or partition.
+    private final ConcurrentHashMap<Long, CompletableFuture<Region>> pendingRegions;
+    private final ConcurrentHashMap<Long, CompletableFuture<RegionPartition>> pendingPartitions;
+    private final LongAdder deduplicatedRegions;
+    private final LongAdder deduplicatedPartitions;
+
     public RegionGenerator(Settings settings, RandomSource random)
+    {
+        this(settings, random, null);
+    }
+
+    public RegionGenerator(Settings settings, RandomSource random, @Nullable Path storageDirectory)
+    {
+        this(settings, random, storageDirectory, 256);
+    }
+
+    /**
+     * @param storageDirectory If present, a directory in which generated regions will be persisted, and re-used across world loads. See {@link RegionStorage}.
+     * @param cacheSize The size of each of the region and partition caches.
+     */
+    public RegionGenerator(Settings settings, RandomSource random, @Nullable Path storageDirectory, int cacheSize)
     {
         this.seed = random.nextLong();
+        this.storage = storageDirectory == null ? null : new RegionStorage(storageDirectory, seed, RegionStorage.hashGenerator(settings));
 
         this.cellNoise = new Cellular2D(random.nextLong()).spread(1f / Units.CELL_WIDTH_IN_GRID);
 
         // Both of these caches are queried, and cached, on a cell-coordinate basis
         // Since cells are large (~12km), a small concurrent cache should be enough
-        this.cellCache = new FastConcurrentCache<>(256);
-        this.partitionCache = new FastConcurrentCache<>(256);
+        this.cellCache = new FastConcurrentCache<>("region", cacheSize);
+        this.partitionCache = new FastConcurrentCache<>("partition", cacheSize);
+
+        this.pendingRegions = new ConcurrentHashMap<>();
+        this.pendingPartitions = new ConcurrentHashMap<>();
+        this.deduplicatedRegions = new LongAdder();
+        this.deduplicatedPartitions = new LongAdder();
 
         float min = settings.continentalness() * 10f - 2.5f; // range [0, 1], default 0.5 -> 2.5 continentalness
         this.continentNoise = cellNoise.then(c -> 1 - c.f1() / (0.37f + c.f2()))
@@ -99,6 +133,27 @@ public class RegionGenerator
         return seed;
     }
 
+    public List<FastConcurrentCache<?>> caches()
+    {
+        return List.of(cellCache, partitionCache);
+    }
+
+    /**
+     * @return The number of times a thread requested a {@link Region} which was already being built by another thread, and waited on that result instead of building it again.
+     */
+    public long deduplicatedRegionBuilds()
+    {
+        return deduplicatedRegions.sum();
+    }
+
+    /**
+     * @return The number of times a thread requested a {@link RegionPartition} which was already being built by another thread, and waited on that result instead of building it again.
+     */
+    public long deduplicatedPartitionBuilds()
+    {
+        return deduplicatedPartitions.sum();
+    }
+
     public RegionPartition.Point getOrCreatePartitionPoint(int gridX, int gridZ)
     {
         return getOrCreatePartition(gridX, gridZ).get(gridX, gridZ);
@@ -109,13 +164,7 @@ public class RegionGenerator
         final int cellX = Units.gridToCell(gridX);
         final int cellZ = Units.gridToCell(gridZ);
 
-        RegionPartition entry = partitionCache.getIfPresent(cellX, cellZ);
-        if (entry == null)
-        {
-            entry = createPartition(cellX, cellZ);
-            partitionCache.set(cellX, cellZ, entry);
-        }
-        return entry;
+        return getOrCreate(partitionCache, pendingPartitions, deduplicatedPartitions, cellX, cellZ, () -> createPartition(cellX, cellZ));
     }
 
     private RegionPartition createPartition(int cellX, int cellZ)
@@ -156,12 +205,9 @@ public class RegionGenerator
         return regions;
     }
 
-    public Region.Point getOrCreateRegionPoint(int gridX, int gridZ)
-    {
-        return getOrCreateRegion(gridX, gridZ).requireAt(gridX, gridZ);
-    }
-
-    @VisibleForTesting
+    /**
+     * @return The region which contains the point at the specified grid coordinates. Query the point with {@link Region#requireIndex(int, int)}.
+     */
     public Region getOrCreateRegion(int gridX, int gridZ)
     {
         return getOrCreateRegion(sampleCell(gridX, gridZ));
@@ -172,13 +218,69 @@ public class RegionGenerator
         final int cellX = Float.floatToIntBits((float) cell.x());
         final int cellZ = Float.floatToIntBits((float) cell.y());
 
-        Region entry = cellCache.getIfPresent(cellX, cellZ);
-        if (entry == null)
+        return getOrCreate(cellCache, pendingRegions, deduplicatedRegions, cellX, cellZ, () -> loadOrCreateRegion(cell, cellX, cellZ));
+    }
+
+    private Region loadOrCreateRegion(Cellular2D.Cell cell, int cellX, int cellZ)
+    {
+        if (storage == null)
+        {
+            return createRegion(cell, (id, r) -> {});
+        }
+
+        Region region = storage.load(cellX, cellZ);
+        if (region == null)
+        {
+            region = createRegion(cell, (id, r) -> {});
+            storage.save(cellX, cellZ, region);
+        }
+        return region;
+    }
+
+    /**
+     * Queries {@code cache}, and if not present, builds the value with {@code factory}. This is <strong>single-flight</strong>: if multiple threads miss the cache for the same key at once, only one will invoke {@code factory}, and the others will block until that result is available.
+     * <p>
+     * Note that the value is added to {@code cache} before it is removed from {@code pending}, so any thread which misses both must be the first to request this key (or the value has since been evicted from the cache).
+     */
+    private static <T> T getOrCreate(FastConcurrentCache<T> cache, ConcurrentHashMap<Long, CompletableFuture<T>> pending, LongAdder deduplicated, int x, int z, Supplier<T> factory)
+    {
+        T entry = cache.getIfPresent(x, z);
+        if (entry != null)
+        {
+            return entry;
+        }
+
+        final Long key = ChunkPos.asLong(x, z);
+        final CompletableFuture<T> future = new CompletableFuture<>();
+        final CompletableFuture<T> existing = pending.putIfAbsent(key, future);
+        if (existing != null)
+        {
+            // Another thread is already building this value, so wait on it
+            deduplicated.increment();
+            return existing.join();
+        }
+
+        try
+        {
+            // Re-check the cache, as another thread may have finished building this value in between our cache miss, and claiming the key
+            entry = cache.getIfPresent(x, z);
+            if (entry == null)
+            {
+                entry = factory.get();
+                cache.set(x, z, entry);
+            }
+            future.complete(entry);
+            return entry;
+        }
+        catch (Throwable e)
+        {
+            future.completeExceptionally(e);
+            throw e;
+        }
+        finally
         {
-            entry = createRegion(cell, (id, r) -> {});
-            cellCache.set(cellX, cellZ, entry);
+            pending.remove(key, future);
         }
-        return entry;
     }
 
     private Region createRegion(Cellular2D.Cell regionCell, BiConsumer<Task, Region> viewer)
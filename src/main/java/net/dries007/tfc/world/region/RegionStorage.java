@@ -0,0 +1,277 @@
+/*
+ * Licensed under the EUPL, Version 1.2.
+ * You may obtain a copy of the Licence at:
+ * https://joinup.ec.europa.eu/collection/eupl/eupl-text-eupl-12
+ */
+
+package net.dries007.tfc.world.region;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+import com.mojang.logging.LogUtils;
+import net.minecraftforge.fml.ModList;
+import org.jetbrains.annotations.Nullable;
+import org.slf4j.Logger;
+
+import net.dries007.tfc.TerraFirmaCraft;
+import net.dries007.tfc.util.Helpers;
+import net.dries007.tfc.world.river.MidpointFractal;
+import net.dries007.tfc.world.river.River;
+import net.dries007.tfc.world.settings.Settings;
+
+/**
+ * A persistent, on-disk store of fully generated {@link Region}s, so that they do not need to be re-generated after a world is reloaded.
+ * Regions are a pure function of the world seed, the region-affecting parts of {@link Settings}, and the version of TFC, so each file records all of these, along with a format version. Any mismatch will cause the stored region to be ignored, and later overwritten.
+ * <p>
+ * {@link RegionPartition}s are not stored, as they are cheap to re-derive from the (stored) regions in a 3x3 cell area.
+ * <p>
+ * All failures to read or write are non-fatal, and will only cause the region to be generated as normal.
+ */
+public final class RegionStorage
+{
+    private static final Logger LOGGER = LogUtils.getLogger();
+
+    private static final int MAGIC = 0x54464352; // 'TFCR'
+    private static final int VERSION = 2; // Increment when the binary format, or the output of any RegionGenerator.Task changes
+
+    /**
+     * Every release of TFC invalidates all stored regions, as any release may change region generation. In a development environment, or tests, this is constant, so {@link #VERSION} must still be incremented.
+     */
+    private static final String MOD_VERSION = Helpers.BOOTSTRAP_ENVIRONMENT ? "" : ModList.get().getModFileById(TerraFirmaCraft.MOD_ID).versionString();
+
+    /**
+     * @return A hash of the version of TFC, and the parts of {@link Settings} which affect region generation.
+     */
+    public static int hashGenerator(Settings settings)
+    {
+        int hash = MOD_VERSION.hashCode();
+        hash = 31 * hash + Float.floatToIntBits(settings.continentalness());
+        hash = 31 * hash + settings.temperatureScale();
+        hash = 31 * hash + Float.floatToIntBits(settings.temperatureConstant());
+        hash = 31 * hash + settings.rainfallScale();
+        hash = 31 * hash + Float.floatToIntBits(settings.rainfallConstant());
+        return hash;
+    }
+
+    private final Path directory;
+    private final long seed;
+    private final int generatorHash;
+
+    public RegionStorage(Path directory, long seed, int generatorHash)
+    {
+        this.directory = directory;
+        this.seed = seed;
+        this.generatorHash = generatorHash;
+    }
+
+    /**
+     * @param cellX The cell key, as used by {@link RegionGenerator}'s cache.
+     * @param cellZ The cell key, as used by {@link RegionGenerator}'s cache.
+     * @return The stored region, or {@code null} if it does not exist, or could not be read.
+     */
+    @Nullable
+    public Region load(int cellX, int cellZ)
+    {
+        final Path path = pathOf(cellX, cellZ);
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(new GZIPInputStream(Files.newInputStream(path)))))
+        {
+            if (in.readInt() != MAGIC || in.readInt() != VERSION || in.readLong() != seed || in.readInt() != generatorHash)
+            {
+                return null; // Stale, will be overwritten once re-generated
+            }
+            return readRegion(in);
+        }
+        catch (NoSuchFileException e)
+        {
+            return null;
+        }
+        catch (IOException | RuntimeException e)
+        {
+            LOGGER.warn("Unable to read stored region at {}, it will be regenerated: {}", path, e.toString());
+            return null;
+        }
+    }
+
+    /**
+     * Saves the region, keyed by the provided cell coordinates. The write is atomic, so a concurrent or interrupted write will never leave a partially written region behind.
+     */
+    public void save(int cellX, int cellZ, Region region)
+    {
+        final Path path = pathOf(cellX, cellZ);
+        Path temp = null;
+        try
+        {
+            Files.createDirectories(directory);
+            temp = Files.createTempFile(directory, path.getFileName().toString(), ".tmp");
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new GZIPOutputStream(Files.newOutputStream(temp)))))
+            {
+                out.writeInt(MAGIC);
+                out.writeInt(VERSION);
+                out.writeLong(seed);
+                out.writeInt(generatorHash);
+                writeRegion(out, region);
+            }
+            try
+            {
+                Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            }
+            catch (AtomicMoveNotSupportedException e)
+            {
+                Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING);
+            }
+        }
+        catch (IOException e)
+        {
+            LOGGER.warn("Unable to save region to {}: {}", path, e.toString());
+            if (temp != null)
+            {
+                try
+                {
+                    Files.deleteIfExists(temp);
+                }
+                catch (IOException ignored) {}
+            }
+        }
+    }
+
+    private Path pathOf(int cellX, int cellZ)
+    {
+        return directory.resolve("r.%08x.%08x.bin".formatted(cellX, cellZ));
+    }
+
+    private static void writeRegion(DataOutputStream out, Region region) throws IOException
+    {
+        out.writeDouble(region.cellX());
+        out.writeDouble(region.cellY());
+        out.writeDouble(region.noise());
+        out.writeInt(region.minX());
+        out.writeInt(region.minZ());
+        out.writeInt(region.maxX());
+        out.writeInt(region.maxZ());
+
+        for (int index = 0; index < region.size(); index++)
+        {
+            out.writeShort(region.flags(index));
+            if (region.exists(index))
+            {
+                out.writeByte(region.distanceToOcean(index));
+                out.writeByte(region.distanceToEdge(index));
+                out.writeByte(region.baseOceanDepth(index));
+                out.writeByte(region.baseLandHeight(index));
+                out.writeByte(region.biomeAltitude(index));
+                out.writeFloat(region.rainfall(index));
+                out.writeFloat(region.temperature(index));
+                out.writeInt(region.biome(index));
+                out.writeInt(region.rock(index));
+            }
+        }
+
+        final List<RiverEdge> rivers = region.rivers();
+        final Map<RiverEdge, Integer> riverIndex = new IdentityHashMap<>(rivers.size());
+        for (int i = 0; i < rivers.size(); i++)
+        {
+            riverIndex.put(rivers.get(i), i);
+        }
+
+        out.writeInt(rivers.size());
+        for (RiverEdge edge : rivers)
+        {
+            writeVertex(out, edge.source());
+            writeVertex(out, edge.drain());
+            out.writeInt(edge.width);
+            out.writeDouble(edge.fractal().norm());
+
+            final double[] segments = edge.fractal().segments;
+            out.writeInt(segments.length);
+            for (double segment : segments)
+            {
+                out.writeDouble(segment);
+            }
+        }
+        for (RiverEdge edge : rivers)
+        {
+            final RiverEdge drain = edge.drainEdge();
+            out.writeInt(drain == null ? -1 : riverIndex.getOrDefault(drain, -1));
+        }
+    }
+
+    private static Region readRegion(DataInputStream in) throws IOException
+    {
+        final Region region = new Region(in.readDouble(), in.readDouble(), in.readDouble());
+        region.setRegionArea(in.readInt(), in.readInt(), in.readInt(), in.readInt());
+
+        for (int index = 0; index < region.size(); index++)
+        {
+            region.setFlags(index, in.readShort());
+            if (region.exists(index))
+            {
+                region.setDistanceToOcean(index, in.readByte());
+                region.setDistanceToEdge(index, in.readByte());
+                region.setBaseOceanDepth(index, in.readByte());
+                region.setBaseLandHeight(index, in.readByte());
+                region.setBiomeAltitude(index, in.readByte());
+                region.setRainfall(index, in.readFloat());
+                region.setTemperature(index, in.readFloat());
+                region.setBiome(index, in.readInt());
+                region.setRock(index, in.readInt());
+            }
+        }
+
+        final int riverCount = in.readInt();
+        final List<RiverEdge> rivers = new ArrayList<>(riverCount);
+        for (int i = 0; i < riverCount; i++)
+        {
+            final River.Vertex source = readVertex(in);
+            final River.Vertex drain = readVertex(in);
+            final int width = in.readInt();
+            final double norm = in.readDouble();
+            final double[] segments = new double[in.readInt()];
+            for (int j = 0; j < segments.length; j++)
+            {
+                segments[j] = in.readDouble();
+            }
+
+            final RiverEdge edge = new RiverEdge(source, drain, new MidpointFractal(segments, norm));
+            edge.width = width;
+            rivers.add(edge);
+        }
+        for (RiverEdge edge : rivers)
+        {
+            final int drainIndex = in.readInt();
+            if (drainIndex != -1)
+            {
+                edge.linkToDrain(rivers.get(drainIndex));
+            }
+        }
+        region.setRivers(rivers);
+        return region;
+    }
+
+    private static void writeVertex(DataOutputStream out, River.Vertex vertex) throws IOException
+    {
+        out.writeDouble(vertex.x());
+        out.writeDouble(vertex.y());
+        out.writeDouble(vertex.angle());
+        out.writeDouble(vertex.length());
+        out.writeInt(vertex.distance());
+    }
+
+    private static River.Vertex readVertex(DataInputStream in) throws IOException
+    {
+        return new River.Vertex(in.readDouble(), in.readDouble(), in.readDouble(), in.readDouble(), in.readInt());
+    }
+}
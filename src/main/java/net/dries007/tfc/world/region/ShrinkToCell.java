@@ -13,25 +13,6 @@ public enum ShrinkToCell implements RegionTask
     @Override
     public void apply(RegionGenerator.Context context)
     {
-        final Region region = context.region;
-
-        final int modifiedSizeX = 1 + context.maxX - context.minX;
-        final int modifiedSizeZ = 1 + context.maxZ - context.minZ;
-
-        final Region.Point[] modifiedPoints = new Region.Point[modifiedSizeX * modifiedSizeZ];
-        final int offsetX = context.minX - region.minX();
-        final int offsetZ = context.minZ - region.minZ();
-
-        final int prevSizeX = region.sizeX();
-
-        for (int dx = 0; dx < modifiedSizeX; dx++)
-        {
-            for (int dz = 0; dz < modifiedSizeZ; dz++)
-            {
-                modifiedPoints[dx + modifiedSizeX * dz] = region.data()[(offsetX + dx) + prevSizeX * (offsetZ + dz)];
-            }
-        }
-
-        context.region.setRegionArea(modifiedPoints, context.minX, context.minZ, context.maxX, context.maxZ);
+        context.region.setRegionArea(context.minX, context.minZ, context.maxX, context.maxZ);
     }
 }
@@ -17,7 +17,7 @@ package net.dries007.tfc.world.region;
  *     <li><strong>Cell</strong> coordinates are the coordinates used for an entire region. (1 Cell = 96 Grid = 12,288 Blocks)</li>
  * </ul>
  * Despite the fact <strong>Grid</strong>, <strong>Partition</strong>, and <strong>Cell</strong> coordinates appear to be strict multiples of each other, and thus easy to convert between, when referring to the ownership of a single point, the coordinates may not align intuitively.
- * This comes from the fact {@link Region}s are not square - so the region that contains a particular grid coordinate, by ownership (generates the {@link Region.Point} associated with it) may not be the same as converting the grid coordinate directly to it's containing cell coordinate.
+ * This comes from the fact {@link Region}s are not square - so the region that contains a particular grid coordinate, by ownership (generates the point associated with it) may not be the same as converting the grid coordinate directly to it's containing cell coordinate.
  * <p>
  * When querying by grid coordinates then, the first thing that must be done is query a {@link RegionGenerator} to obtain the cell which the grid coordinate lies - <em>then</em> it is possible to use that cell's coordinates as keys into a cell-based cache, for example.
  * <p>
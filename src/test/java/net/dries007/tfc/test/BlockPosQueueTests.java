@@ -0,0 +1,92 @@
+/*
+ * Licensed under the EUPL, Version 1.2.
+ * You may obtain a copy of the Licence at:
+ * https://joinup.ec.europa.eu/collection/eupl/eupl-text-eupl-12
+ */
+
+package net.dries007.tfc.test;
+
+import it.unimi.dsi.fastutil.longs.LongArrayList;
+import net.minecraft.core.BlockPos;
+import org.junit.jupiter.api.Test;
+
+import net.dries007.tfc.util.collections.BlockPosQueue;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class BlockPosQueueTests
+{
+    @Test
+    public void testDuplicatesAreIgnored()
+    {
+        final BlockPosQueue queue = new BlockPosQueue();
+
+        assertTrue(queue.add(new BlockPos(1, 2, 3), 0));
+        assertFalse(queue.add(new BlockPos(1, 2, 3), 5));
+        assertEquals(1, queue.size());
+    }
+
+    @Test
+    public void testProcessStopsAtFirstPositionNotDue()
+    {
+        final BlockPosQueue queue = new BlockPosQueue();
+        final BlockPos a = new BlockPos(0, 0, 0), b = new BlockPos(100, 0, 0), c = new BlockPos(1, 0, 0);
+
+        queue.add(a, 10);
+        queue.add(b, 12);
+        queue.add(c, 12);
+
+        assertEquals(0, process(queue, 9, 100).size());
+        assertEquals(LongArrayList.of(a.asLong()), process(queue, 11, 100));
+        assertEquals(LongArrayList.of(b.asLong(), c.asLong()), process(queue, 12, 100));
+        assertEquals(0, queue.size());
+    }
+
+    @Test
+    public void testProcessIsLimited()
+    {
+        final BlockPosQueue queue = new BlockPosQueue();
+        for (int i = 0; i < 10; i++)
+        {
+            queue.add(new BlockPos(i * 16, 0, 0), i);
+        }
+
+        assertEquals(3, process(queue, 100, 3).size());
+        assertEquals(7, queue.size());
+        assertEquals(new BlockPos(48, 0, 0).asLong(), queue.toArray()[0]);
+    }
+
+    @Test
+    public void testPositionsCanBeAddedBackWhileProcessing()
+    {
+        final BlockPosQueue queue = new BlockPosQueue();
+        final BlockPos pos = new BlockPos(5, 5, 5);
+
+        queue.add(pos, 0);
+        queue.process(0, 100, packedPos -> assertTrue(queue.add(packedPos, 1)));
+
+        assertEquals(1, queue.size());
+        assertEquals(0, process(queue, 0, 100).size());
+        assertEquals(LongArrayList.of(pos.asLong()), process(queue, 1, 100));
+    }
+
+    @Test
+    public void testEarlierTicksAreKeptInOrder()
+    {
+        final BlockPosQueue queue = new BlockPosQueue();
+        final BlockPos a = new BlockPos(0, 0, 0), b = new BlockPos(0, 1, 0);
+
+        queue.add(a, 10);
+        queue.add(b, 5); // Not processed before a
+
+        assertEquals(0, process(queue, 5, 100).size());
+        assertEquals(LongArrayList.of(a.asLong(), b.asLong()), process(queue, 10, 100));
+    }
+
+    private LongArrayList process(BlockPosQueue queue, long tick, int limit)
+    {
+        final LongArrayList processed = new LongArrayList();
+        assertEquals(queue.process(tick, limit, processed::add), processed.size());
+        return processed;
+    }
+}
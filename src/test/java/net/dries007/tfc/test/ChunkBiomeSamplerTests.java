@@ -0,0 +1,232 @@
+/*
+ * Licensed under the EUPL, Version 1.2.
+ * You may obtain a copy of the Licence at:
+ * https://joinup.ec.europa.eu/collection/eupl/eupl-text-eupl-12
+ */
+
+package net.dries007.tfc.test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.ToIntFunction;
+import it.unimi.dsi.fastutil.objects.Object2DoubleLinkedOpenHashMap;
+import it.unimi.dsi.fastutil.objects.Object2DoubleMap;
+import it.unimi.dsi.fastutil.objects.ObjectIterator;
+import net.minecraft.core.QuartPos;
+import net.minecraft.world.level.ChunkPos;
+import net.minecraft.world.level.levelgen.XoroshiroRandomSource;
+import org.junit.jupiter.api.Test;
+
+import net.dries007.tfc.TestHelper;
+import net.dries007.tfc.world.BiomeWeights;
+import net.dries007.tfc.world.ChunkBiomeSampler;
+import net.dries007.tfc.world.Sampler;
+import net.dries007.tfc.world.biome.BiomeBlendType;
+import net.dries007.tfc.world.biome.BiomeExtension;
+import net.dries007.tfc.world.layer.TFCLayers;
+import net.dries007.tfc.world.layer.framework.ConcurrentArea;
+import net.dries007.tfc.world.noise.Kernel;
+import net.dries007.tfc.world.region.RegionGenerator;
+import net.dries007.tfc.world.settings.Settings;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Compares {@link ChunkBiomeSampler} against the map based implementation it replaced. The original used hash maps keyed on {@link BiomeExtension}s, which iterated in identity hash code order, so its floating point sums and tie-breaking varied between runs. Here, the reference uses a linked map, so both should iterate in insertion order, and produce bit-identical weights.
+ */
+public class ChunkBiomeSamplerTests extends TestHelper
+{
+    private static final Settings SETTINGS = new Settings(false, 0, 0, 0, 20_000, 0, 20_000, 0, null, 0.5f, 0.5f);
+
+    @Test
+    public void testSampleBiomesMatchesMapBasedSampler()
+    {
+        for (long seed : new long[] {1798237841231L, 0L, -4_123_456_789L})
+        {
+            final Sampler<BiomeExtension> biomeSampler = biomeSampler(seed);
+            for (ChunkPos pos : new ChunkPos[] {new ChunkPos(0, 0), new ChunkPos(37, -12), new ChunkPos(-250, 400), new ChunkPos(1000, 1000)})
+            {
+                final BiomeWeights[] actual = ChunkBiomeSampler.sampleBiomes(pos, biomeSampler, BiomeExtension::biomeBlendType);
+                final List<Object2DoubleMap<BiomeExtension>> expected = Reference.sampleBiomes(pos, biomeSampler);
+
+                for (int i = 0; i < 7 * 7; i++)
+                {
+                    assertSameWeights(expected.get(i), actual[i], "Seed " + seed + " at " + pos + " quart " + i);
+                }
+
+                final BiomeWeights actualColumn = new BiomeWeights();
+                final Object2DoubleMap<BiomeExtension> expectedColumn = new Object2DoubleLinkedOpenHashMap<>();
+                for (int x = 0; x < 16; x++)
+                {
+                    for (int z = 0; z < 16; z++)
+                    {
+                        ChunkBiomeSampler.sampleBiomesColumn(actualColumn, actual, x, z);
+                        Reference.sampleBiomesColumn(expectedColumn, expected, x, z);
+                        assertSameWeights(expectedColumn, actualColumn, "Seed " + seed + " at " + pos + " column " + x + ", " + z);
+                    }
+                }
+            }
+        }
+    }
+
+    private void assertSameWeights(Object2DoubleMap<BiomeExtension> expected, BiomeWeights actual, String message)
+    {
+        assertEquals(expected.size(), actual.size(), message);
+
+        int i = 0;
+        for (Object2DoubleMap.Entry<BiomeExtension> entry : expected.object2DoubleEntrySet())
+        {
+            assertSame(entry.getKey(), actual.biome(i), message);
+            assertEquals(Double.doubleToRawLongBits(entry.getDoubleValue()), Double.doubleToRawLongBits(actual.weight(i)), message + " for " + entry.getKey().key());
+            i++;
+        }
+    }
+
+    private Sampler<BiomeExtension> biomeSampler(long seed)
+    {
+        final RegionGenerator regionGenerator = new RegionGenerator(SETTINGS, new XoroshiroRandomSource(seed), null);
+        final ConcurrentArea<BiomeExtension> biomeLayer = new ConcurrentArea<>(TFCLayers.createRegionBiomeLayer(regionGenerator, seed), TFCLayers::getFromLayerId);
+        return (blockX, blockZ) -> biomeLayer.get(QuartPos.fromBlock(blockX), QuartPos.fromBlock(blockZ));
+    }
+
+    /**
+     * The map based implementation of {@link ChunkBiomeSampler}, unchanged except for using linked maps.
+     */
+    static class Reference
+    {
+        static List<Object2DoubleMap<BiomeExtension>> sampleBiomes(ChunkPos pos, Sampler<BiomeExtension> biomeSampler)
+        {
+            final List<Object2DoubleMap<BiomeExtension>> chunkBiomeWeightArray = new ArrayList<>();
+            final int chunkX = pos.getMinBlockX(), chunkZ = pos.getMinBlockZ();
+            for (int i = 0; i < 4 * 4; i++)
+            {
+                chunkBiomeWeightArray.add(null);
+            }
+            for (int x = 0; x < 4; x++)
+            {
+                for (int z = 0; z < 4; z++)
+                {
+                    final Object2DoubleMap<BiomeExtension> chunkBiomeWeight = new Object2DoubleLinkedOpenHashMap<>();
+                    chunkBiomeWeightArray.set(x | (z << 2), chunkBiomeWeight);
+                    sampleBiomesAtPositionWithKernel(chunkBiomeWeight, biomeSampler, ChunkBiomeSampler.KERNEL_9x9, 4, chunkX, chunkZ, x - 1, z - 1);
+                }
+            }
+
+            final List<Object2DoubleMap<BiomeExtension>> quartBiomeWeightArray = new ArrayList<>();
+            final Object2DoubleMap<BiomeExtension> chunkBiomeWeight = new Object2DoubleLinkedOpenHashMap<>();
+            for (int i = 0; i < 7 * 7; i++)
+            {
+                quartBiomeWeightArray.add(null);
+            }
+            for (int x = 0; x < 7; x++)
+            {
+                for (int z = 0; z < 7; z++)
+                {
+                    final Object2DoubleMap<BiomeExtension> quartBiomeWeight = new Object2DoubleLinkedOpenHashMap<>();
+                    chunkBiomeWeight.clear();
+
+                    sampleBiomesAtPositionWithKernel(quartBiomeWeight, biomeSampler, ChunkBiomeSampler.KERNEL_9x9, 2, chunkX, chunkZ, x - 1, z - 1);
+
+                    final int x1 = chunkX + ((x - 1) << 2);
+                    final int z1 = chunkZ + ((z - 1) << 2);
+
+                    final int coordX = x1 >> 4;
+                    final int coordZ = z1 >> 4;
+
+                    final double lerpX = (x1 - (coordX << 4)) * (1 / 16d);
+                    final double lerpZ = (z1 - (coordZ << 4)) * (1 / 16d);
+
+                    final int index16X = ((x1 - chunkX) >> 4) + 1;
+                    final int index16Z = ((z1 - chunkZ) >> 4) + 1;
+
+                    sampleBiomesCornerContribution(chunkBiomeWeight, chunkBiomeWeightArray.get(index16X | (index16Z << 2)), (1 - lerpX) * (1 - lerpZ));
+                    sampleBiomesCornerContribution(chunkBiomeWeight, chunkBiomeWeightArray.get((index16X + 1) | (index16Z << 2)), lerpX * (1 - lerpZ));
+                    sampleBiomesCornerContribution(chunkBiomeWeight, chunkBiomeWeightArray.get(index16X | ((index16Z + 1) << 2)), (1 - lerpX) * lerpZ);
+                    sampleBiomesCornerContribution(chunkBiomeWeight, chunkBiomeWeightArray.get((index16X + 1) | ((index16Z + 1) << 2)), lerpX * lerpZ);
+
+                    composeSampleWeights(quartBiomeWeight, chunkBiomeWeight, biome -> biome.biomeBlendType().ordinal(), BiomeBlendType.SIZE);
+
+                    quartBiomeWeightArray.set(x + 7 * z, quartBiomeWeight);
+                }
+            }
+            return quartBiomeWeightArray;
+        }
+
+        static void sampleBiomesColumn(Object2DoubleMap<BiomeExtension> accumulator, List<Object2DoubleMap<BiomeExtension>> corners, int localX, int localZ)
+        {
+            final int index4X = (localX >> 2) + 1;
+            final int index4Z = (localZ >> 2) + 1;
+
+            final double lerpX = (localX - ((localX >> 2) << 2)) * (1 / 4d);
+            final double lerpZ = (localZ - ((localZ >> 2) << 2)) * (1 / 4d);
+
+            accumulator.clear();
+            sampleBiomesCornerContribution(accumulator, corners.get(index4X + index4Z * 7), (1 - lerpX) * (1 - lerpZ));
+            sampleBiomesCornerContribution(accumulator, corners.get((index4X + 1) + index4Z * 7), lerpX * (1 - lerpZ));
+            sampleBiomesCornerContribution(accumulator, corners.get(index4X + (index4Z + 1) * 7), (1 - lerpX) * lerpZ);
+            sampleBiomesCornerContribution(accumulator, corners.get((index4X + 1) + (index4Z + 1) * 7), lerpX * lerpZ);
+        }
+
+        static void sampleBiomesCornerContribution(Object2DoubleMap<BiomeExtension> accumulator, Object2DoubleMap<BiomeExtension> corner, double t)
+        {
+            if (t > 0)
+            {
+                for (Object2DoubleMap.Entry<BiomeExtension> entry : corner.object2DoubleEntrySet())
+                {
+                    accumulator.mergeDouble(entry.getKey(), entry.getDoubleValue() * t, Double::sum);
+                }
+            }
+        }
+
+        static void sampleBiomesAtPositionWithKernel(Object2DoubleMap<BiomeExtension> weights, Sampler<BiomeExtension> biomeSampler, Kernel kernel, int kernelBits, int chunkX, int chunkZ, int xOffsetInKernelBits, int zOffsetInKernelBits)
+        {
+            final int kernelRadius = kernel.radius();
+            final int kernelWidth = kernel.width();
+            for (int dx = -kernelRadius; dx <= kernelRadius; dx++)
+            {
+                for (int dz = -kernelRadius; dz <= kernelRadius; dz++)
+                {
+                    final double weight = kernel.values()[(dx + kernelRadius) + (dz + kernelRadius) * kernelWidth];
+                    final int blockX = chunkX + ((xOffsetInKernelBits + dx) << kernelBits);
+                    final int blockZ = chunkZ + ((zOffsetInKernelBits + dz) << kernelBits);
+                    weights.mergeDouble(biomeSampler.get(blockX, blockZ), weight, Double::sum);
+                }
+            }
+        }
+
+        static void composeSampleWeights(Object2DoubleMap<BiomeExtension> weightMap, Object2DoubleMap<BiomeExtension> groupWeightMap, ToIntFunction<BiomeExtension> groupFunction, int groups)
+        {
+            double[] maxWeights = new double[groups];
+            for (Object2DoubleMap.Entry<BiomeExtension> entry : groupWeightMap.object2DoubleEntrySet())
+            {
+                int group = groupFunction.applyAsInt(entry.getKey());
+                if (group != -1)
+                {
+                    maxWeights[group] += entry.getDoubleValue();
+                }
+            }
+
+            double[] actualWeights = new double[groups];
+            ObjectIterator<Object2DoubleMap.Entry<BiomeExtension>> iterator = weightMap.object2DoubleEntrySet().iterator();
+            while (iterator.hasNext())
+            {
+                Object2DoubleMap.Entry<BiomeExtension> entry = iterator.next();
+                int group = groupFunction.applyAsInt(entry.getKey());
+                if (group != -1)
+                {
+                    actualWeights[group] += entry.getDoubleValue();
+                    iterator.remove();
+                }
+            }
+
+            for (Object2DoubleMap.Entry<BiomeExtension> entry : groupWeightMap.object2DoubleEntrySet())
+            {
+                int group = groupFunction.applyAsInt(entry.getKey());
+                if (group != -1 && actualWeights[group] > 0 && maxWeights[group] > 0)
+                {
+                    weightMap.put(entry.getKey(), entry.getDoubleValue() * actualWeights[group] / maxWeights[group]);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,92 @@
+/*
+ * Licensed under the EUPL, Version 1.2.
+ * You may obtain a copy of the Licence at:
+ * https://joinup.ec.europa.eu/collection/eupl/eupl-text-eupl-12
+ */
+
+package net.dries007.tfc.test;
+
+import java.util.ArrayList;
+import java.util.List;
+import net.minecraftforge.items.ItemStackHandler;
+import org.junit.jupiter.api.Test;
+
+import net.dries007.tfc.TestHelper;
+import net.dries007.tfc.common.blockentities.DeviceSync;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class DeviceSyncTests extends TestHelper
+{
+    private final ItemStackHandler inventory = new ItemStackHandler(1);
+
+    @Test
+    public void testSyncIsRateLimited()
+    {
+        final DeviceSync sync = new DeviceSync(1);
+        final Object player = new Object();
+        final List<Object> sent = new ArrayList<>();
+
+        sync.sync(List.of(player), 0, 100f, inventory, (p, slots) -> sent.add(p));
+        sync.sync(List.of(player), 1, 50f, inventory, (p, slots) -> sent.add(p));
+
+        assertEquals(1, sent.size());
+        assertTrue(sync.isPending());
+
+        sync.sync(List.of(player), DeviceSync.MIN_SYNC_INTERVAL, 50f, inventory, (p, slots) -> sent.add(p));
+
+        assertEquals(2, sent.size());
+        assertFalse(sync.isPending());
+    }
+
+    @Test
+    public void testCoolingToZeroThroughRateLimitedTickIsSent()
+    {
+        final DeviceSync sync = new DeviceSync(1);
+        final Object player = new Object();
+        final List<Float> sent = new ArrayList<>();
+
+        // A forge cooling, syncing every tick while hot, and reaching zero on a tick where the player is rate limited
+        long tick = 0;
+        float temperature = 3f;
+        for (; temperature > 0; temperature--, tick++)
+        {
+            final float sentTemperature = temperature;
+            sync.sync(List.of(player), tick, temperature, inventory, (p, slots) -> sent.add(sentTemperature));
+        }
+
+        sync.sync(List.of(player), tick, 0f, inventory, (p, slots) -> sent.add(0f));
+
+        assertEquals(List.of(3f), sent);
+        assertTrue(sync.isPending(), "Cooling to zero was rate limited, so must still be pending");
+
+        // Once cold, the forge keeps syncing while pending, until the player has seen the forge at zero
+        while (sync.isPending())
+        {
+            tick++;
+            sync.sync(List.of(player), tick, 0f, inventory, (p, slots) -> sent.add(0f));
+            assertTrue(tick < 100, "Sync never stopped being pending");
+        }
+
+        assertEquals(List.of(3f, 0f), sent);
+    }
+
+    @Test
+    public void testPlayerBudgetIsSharedAcrossDevices()
+    {
+        final Object player = new Object();
+        final List<DeviceSync> devices = new ArrayList<>();
+        int sent = 0;
+        for (int i = 0; i < DeviceSync.MAX_SYNCS_PER_PLAYER_PER_TICK + 1; i++)
+        {
+            final DeviceSync sync = new DeviceSync(1);
+            final int[] count = {0};
+            sync.sync(List.of(player), 0, 100f, inventory, (p, slots) -> count[0]++);
+            sent += count[0];
+            devices.add(sync);
+        }
+
+        assertEquals(DeviceSync.MAX_SYNCS_PER_PLAYER_PER_TICK, sent);
+        assertTrue(devices.get(devices.size() - 1).isPending());
+    }
+}
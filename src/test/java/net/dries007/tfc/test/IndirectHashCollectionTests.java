@@ -0,0 +1,91 @@
+/*
+ * Licensed under the EUPL, Version 1.2.
+ * You may obtain a copy of the Licence at:
+ * https://joinup.ec.europa.eu/collection/eupl/eupl-text-eupl-12
+ */
+
+package net.dries007.tfc.test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import com.mojang.datafixers.util.Pair;
+import org.jetbrains.annotations.Nullable;
+import org.junit.jupiter.api.Test;
+
+import net.dries007.tfc.util.collections.IndirectHashCollection;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class IndirectHashCollectionTests
+{
+    @Test
+    public void testKeysOf()
+    {
+        assertEquals(List.of(Pair.of("a", 1), Pair.of("a", 2), Pair.of("b", 1), Pair.of("b", 2)), IndirectHashCollection.keysOf(List.of("a", "b"), List.of(1, 2)));
+        assertEquals(List.of(), IndirectHashCollection.keysOf(List.of("a", "b"), List.of()));
+    }
+
+    @Test
+    public void testMultiKeyLookupMatchesLinearScan()
+    {
+        // A modpack-sized set of recipes, each matching a few items and fluids
+        final int recipeCount = 5000, itemCount = 2000, fluidCount = 20, queryCount = 100_000;
+        final Random random = new Random(12345);
+        final List<MockRecipe> recipes = new ArrayList<>();
+        for (int i = 0; i < recipeCount; i++)
+        {
+            recipes.add(new MockRecipe(Set.of(random.nextInt(itemCount), itemCount + random.nextInt(itemCount)), Set.of(random.nextInt(fluidCount))));
+        }
+
+        final IndirectHashCollection<Pair<Integer, Integer>, MockRecipe> cache = new IndirectHashCollection<>(r -> IndirectHashCollection.keysOf(r.items(), r.fluids()));
+        cache.reload(recipes);
+
+        final int[] items = new int[queryCount], fluids = new int[queryCount];
+        for (int i = 0; i < queryCount; i++)
+        {
+            items[i] = random.nextInt(2 * itemCount);
+            fluids[i] = random.nextInt(fluidCount);
+        }
+
+        for (int i = 0; i < queryCount; i++)
+        {
+            assertSame(linearScan(recipes, items[i], fluids[i]), indexed(cache, items[i], fluids[i]));
+        }
+    }
+
+    @Nullable
+    private MockRecipe linearScan(List<MockRecipe> recipes, int item, int fluid)
+    {
+        for (MockRecipe recipe : recipes)
+        {
+            if (recipe.matches(item, fluid))
+            {
+                return recipe;
+            }
+        }
+        return null;
+    }
+
+    @Nullable
+    private MockRecipe indexed(IndirectHashCollection<Pair<Integer, Integer>, MockRecipe> cache, int item, int fluid)
+    {
+        for (MockRecipe recipe : cache.getAll(Pair.of(item, fluid)))
+        {
+            if (recipe.matches(item, fluid))
+            {
+                return recipe;
+            }
+        }
+        return null;
+    }
+
+    record MockRecipe(Set<Integer> items, Set<Integer> fluids)
+    {
+        boolean matches(int item, int fluid)
+        {
+            return items.contains(item) && fluids.contains(fluid);
+        }
+    }
+}
@@ -0,0 +1,256 @@
+/*
+ * Licensed under the EUPL, Version 1.2.
+ * You may obtain a copy of the Licence at:
+ * https://joinup.ec.europa.eu/collection/eupl/eupl-text-eupl-12
+ */
+
+package net.dries007.tfc.test;
+
+import java.util.List;
+import java.util.function.Supplier;
+import io.netty.buffer.Unpooled;
+import net.minecraft.nbt.CompoundTag;
+import net.minecraft.network.FriendlyByteBuf;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import net.dries007.tfc.TestHelper;
+import net.dries007.tfc.common.capabilities.INetworkSerializable;
+import net.dries007.tfc.common.capabilities.ItemStackCapabilitySync;
+import net.dries007.tfc.common.capabilities.food.FoodData;
+import net.dries007.tfc.common.capabilities.food.FoodHandler;
+import net.dries007.tfc.common.capabilities.food.FoodTrait;
+import net.dries007.tfc.common.capabilities.food.FoodTraits;
+import net.dries007.tfc.common.capabilities.heat.HeatHandler;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class NetworkCapabilityFormatTests extends TestHelper
+{
+    private static final int MARKER = 0xCAFEBABE;
+
+    @BeforeAll
+    public static void setupFood()
+    {
+        FoodHandler.setNonDecaying(false);
+    }
+
+    @AfterAll
+    public static void cleanupFood()
+    {
+        FoodHandler.setNonDecaying(true);
+    }
+
+    @Test
+    public void testFoodRoundTrip()
+    {
+        for (long creationDate : new long[] {FoodHandler.ROTTEN_CREATION_DATE, FoodHandler.NEVER_DECAY_CREATION_DATE, -3, -4, -1_000_000L, 0, 12_345_678L})
+        {
+            final FoodHandler food = food(creationDate, List.of(FoodTraits.SALTED, FoodTraits.PICKLED));
+            final FoodHandler copy = roundTrip(food, () -> food(FoodHandler.UNKNOWN_CREATION_DATE, List.of()));
+
+            assertEquals(food.serializeNBT(), copy.serializeNBT(), "Creation date " + creationDate);
+        }
+    }
+
+    @Test
+    public void testSmallNegativeCreationDatesAreCompact()
+    {
+        for (long creationDate : new long[] {FoodHandler.ROTTEN_CREATION_DATE, FoodHandler.NEVER_DECAY_CREATION_DATE, -3, -63})
+        {
+            assertEquals(2, encode(food(creationDate, List.of()), true).readableBytes(), "Creation date " + creationDate);
+        }
+    }
+
+    @Test
+    public void testHeatRoundTrip()
+    {
+        final HeatHandler hot = new HeatHandler(1, 0, 0);
+        hot.setTemperature(1200);
+
+        assertEquals(hot.serializeNBT(), roundTrip(hot, () -> new HeatHandler(1, 0, 0)).serializeNBT());
+        assertEquals(new HeatHandler(1, 0, 0).serializeNBT(), roundTrip(new HeatHandler(1, 0, 0), () -> new HeatHandler(1, 0, 0)).serializeNBT());
+    }
+
+    @Test
+    public void testCompactFormatIsSmallerThanNbt()
+    {
+        final FoodHandler food = food(12_345_678L, List.of(FoodTraits.SALTED, FoodTraits.PICKLED));
+        final HeatHandler heat = new HeatHandler(1, 0, 0);
+        heat.setTemperature(1200);
+
+        for (INetworkSerializable cap : new INetworkSerializable[] {food, heat})
+        {
+            assertTrue(encode(cap, true).readableBytes() < encode(cap, false).readableBytes(), "Compact format should be smaller than NBT for " + cap.getClass().getSimpleName());
+        }
+    }
+
+    @Test
+    public void testSyncCompactFormat()
+    {
+        final FoodHandler food = food(12_345_678L, List.of(FoodTraits.SALTED));
+        final FriendlyByteBuf buffer = sync(food);
+        final FoodHandler copy = food(FoodHandler.UNKNOWN_CREATION_DATE, List.of());
+
+        ItemStackCapabilitySync.readCapability(copy, buffer);
+
+        assertEquals(food.serializeNBT(), copy.serializeNBT());
+        assertEnd(buffer);
+    }
+
+    @Test
+    public void testSyncNbtFormat()
+    {
+        final FoodHandler.Dynamic food = new FoodHandler.Dynamic();
+        food.setFood(FoodData.decayOnly(2f));
+        food.setCreationDate(12_345_678L);
+        assertFalse(food.hasNetworkFormat());
+
+        final FriendlyByteBuf buffer = sync(food);
+        final FoodHandler.Dynamic copy = new FoodHandler.Dynamic();
+
+        ItemStackCapabilitySync.readCapability(copy, buffer);
+
+        assertEquals(food.serializeNBT(), copy.serializeNBT());
+        assertEnd(buffer);
+    }
+
+    @Test
+    public void testSyncSkipsCompactFormatWithoutCapability()
+    {
+        final HeatHandler heat = new HeatHandler(1, 0, 0);
+        heat.setTemperature(1200);
+
+        final FriendlyByteBuf buffer = sync(food(12_345_678L, List.of(FoodTraits.SALTED, FoodTraits.PICKLED)), heat);
+        final HeatHandler copy = new HeatHandler(1, 0, 0);
+
+        ItemStackCapabilitySync.readCapability(null, buffer); // Receiving stack has no food capability
+        ItemStackCapabilitySync.readCapability(copy, buffer);
+
+        assertEquals(heat.serializeNBT(), copy.serializeNBT());
+        assertEnd(buffer);
+    }
+
+    @Test
+    public void testSyncSkipsCompactFormatWhenReaderHasNoCompactFormat()
+    {
+        final FriendlyByteBuf buffer = sync(food(12_345_678L, List.of(FoodTraits.SALTED)));
+        final FoodHandler.Dynamic copy = new FoodHandler.Dynamic();
+
+        ItemStackCapabilitySync.readCapability(copy, buffer);
+
+        assertEnd(buffer);
+    }
+
+    @Test
+    public void testSyncAbsentCapability()
+    {
+        final FriendlyByteBuf buffer = sync((INetworkSerializable) null);
+        assertEquals(1 + Integer.BYTES, buffer.readableBytes());
+
+        ItemStackCapabilitySync.readCapability(new HeatHandler(1, 0, 0), buffer);
+        assertEnd(buffer);
+    }
+
+    @Test
+    public void testSyncFallsBackToNbtWhenCompactFormatIsTooLong()
+    {
+        final CompoundTag tag = new CompoundTag();
+        tag.putString("data", "x".repeat(300));
+
+        final OptInWithoutCompactFormat cap = new OptInWithoutCompactFormat(tag);
+        final FriendlyByteBuf buffer = sync(cap);
+        final OptInWithoutCompactFormat copy = new OptInWithoutCompactFormat(new CompoundTag());
+
+        ItemStackCapabilitySync.readCapability(copy, buffer);
+
+        assertEquals(tag, copy.serializeNBT());
+        assertEnd(buffer);
+    }
+
+    private FoodHandler food(long creationDate, List<FoodTrait> traits)
+    {
+        final FoodHandler food = new FoodHandler(FoodData.decayOnly(1f));
+        food.setCreationDate(creationDate);
+        food.getTraits().addAll(traits);
+        return food;
+    }
+
+    private <T extends INetworkSerializable> T roundTrip(T cap, Supplier<T> factory)
+    {
+        assertTrue(cap.hasNetworkFormat());
+
+        final FriendlyByteBuf buffer = encode(cap, true);
+        final T copy = factory.get();
+        copy.readFromNetwork(buffer);
+
+        assertEquals(0, buffer.readableBytes());
+        return copy;
+    }
+
+    private FriendlyByteBuf encode(INetworkSerializable cap, boolean compact)
+    {
+        final FriendlyByteBuf buffer = new FriendlyByteBuf(Unpooled.buffer());
+        if (compact)
+        {
+            cap.writeToNetwork(buffer);
+        }
+        else
+        {
+            buffer.writeNbt(cap.serializeNBT());
+        }
+        return buffer;
+    }
+
+    /**
+     * Writes each capability through {@link ItemStackCapabilitySync}, followed by a marker, so tests can check that readers end exactly at the end of the data.
+     */
+    private FriendlyByteBuf sync(INetworkSerializable... caps)
+    {
+        final FriendlyByteBuf buffer = new FriendlyByteBuf(Unpooled.buffer());
+        for (INetworkSerializable cap : caps)
+        {
+            ItemStackCapabilitySync.writeCapability(cap, buffer);
+        }
+        buffer.writeInt(MARKER);
+        return buffer;
+    }
+
+    private void assertEnd(FriendlyByteBuf buffer)
+    {
+        assertEquals(MARKER, buffer.readInt());
+        assertEquals(0, buffer.readableBytes());
+    }
+
+    /**
+     * Opts in to the compact format, but does not override the default, NBT based, {@link INetworkSerializable#writeToNetwork(FriendlyByteBuf)}.
+     */
+    static class OptInWithoutCompactFormat implements INetworkSerializable
+    {
+        private CompoundTag tag;
+
+        OptInWithoutCompactFormat(CompoundTag tag)
+        {
+            this.tag = tag;
+        }
+
+        @Override
+        public boolean hasNetworkFormat()
+        {
+            return true;
+        }
+
+        @Override
+        public CompoundTag serializeNBT()
+        {
+            return tag.copy();
+        }
+
+        @Override
+        public void deserializeNBT(CompoundTag nbt)
+        {
+            tag = nbt.copy();
+        }
+    }
+}
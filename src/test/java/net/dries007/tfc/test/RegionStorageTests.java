@@ -0,0 +1,74 @@
+/*
+ * Licensed under the EUPL, Version 1.2.
+ * You may obtain a copy of the Licence at:
+ * https://joinup.ec.europa.eu/collection/eupl/eupl-text-eupl-12
+ */
+
+package net.dries007.tfc.test;
+
+import java.nio.file.Path;
+import java.util.List;
+import net.minecraft.world.level.levelgen.XoroshiroRandomSource;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import net.dries007.tfc.TestHelper;
+import net.dries007.tfc.world.region.Region;
+import net.dries007.tfc.world.region.RegionGenerator;
+import net.dries007.tfc.world.region.RiverEdge;
+import net.dries007.tfc.world.settings.Settings;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class RegionStorageTests extends TestHelper
+{
+    @TempDir Path directory;
+
+    @Test
+    public void testStoredRegionMatchesGenerated()
+    {
+        final Region generated = generator(directory).getOrCreateRegion(0, 0);
+        final Region stored = generator(directory).getOrCreateRegion(0, 0);
+
+        assertNotSame(generated, stored);
+        assertEquals(generated.toString(), stored.toString());
+        assertEquals(generated.noise(), stored.noise());
+        assertEquals(generated.size(), stored.size());
+
+        for (int i = 0; i < generated.size(); i++)
+        {
+            assertEquals(generated.exists(i), stored.exists(i));
+            assertEquals(generated.land(i), stored.land(i));
+            assertEquals(generated.river(i), stored.river(i));
+            assertEquals(generated.lake(i), stored.lake(i));
+            assertEquals(generated.mountain(i), stored.mountain(i));
+            assertEquals(generated.distanceToOcean(i), stored.distanceToOcean(i));
+            assertEquals(generated.distanceToEdge(i), stored.distanceToEdge(i));
+            assertEquals(generated.baseOceanDepth(i), stored.baseOceanDepth(i));
+            assertEquals(generated.baseLandHeight(i), stored.baseLandHeight(i));
+            assertEquals(generated.biomeAltitude(i), stored.biomeAltitude(i));
+            assertEquals(generated.rainfall(i), stored.rainfall(i));
+            assertEquals(generated.temperature(i), stored.temperature(i));
+            assertEquals(generated.biome(i), stored.biome(i));
+            assertEquals(generated.rock(i), stored.rock(i));
+        }
+
+        final List<RiverEdge> expectedRivers = generated.rivers(), actualRivers = stored.rivers();
+        assertEquals(expectedRivers.size(), actualRivers.size());
+        for (int i = 0; i < expectedRivers.size(); i++)
+        {
+            final RiverEdge expected = expectedRivers.get(i), actual = actualRivers.get(i);
+            assertEquals(expected.source(), actual.source());
+            assertEquals(expected.drain(), actual.drain());
+            assertEquals(expected.width, actual.width);
+            assertEquals(expected.sourceEdge(), actual.sourceEdge());
+            assertEquals(expected.drainEdge() == null, actual.drainEdge() == null);
+            assertArrayEquals(expected.fractal().segments, actual.fractal().segments);
+        }
+    }
+
+    private RegionGenerator generator(Path directory)
+    {
+        return new RegionGenerator(new Settings(false, 0, 0, 0, 20_000, 0, 20_000, 0, null, 0.5f, 0.5f), new XoroshiroRandomSource(1798237841231L), directory);
+    }
+}
@@ -6,6 +6,7 @@
 
 package net.dries007.tfc.test;
 
+import java.util.Arrays;
 import java.util.EnumSet;
 import java.util.HashMap;
 import java.util.Map;
@@ -504,8 +505,85 @@ public class RotationNetworkTests
             """, mock.toString());
     }
 
+    @Test
+    public void testRemovingMultipleNodesAtOnce()
+    {
+        final RotationMock mock = mock();
+
+        assertTrue(mock.addSource(0, 0, 0, NORTH));
+        assertTrue(mock.add(0, 0, -1, NORTH, SOUTH));
+        assertTrue(mock.add(0, 0, -2, NORTH, SOUTH));
+        assertTrue(mock.add(0, 0, -3, NORTH, SOUTH));
+        assertTrue(mock.add(0, 0, -4, NORTH, SOUTH));
+        mock.removeAll(new BlockPos(0, 0, -2), new BlockPos(0, 0, -4));
+        assertEquals("""
+            [network=0]
+            Node[connections=[north], pos=[0, 0, 0], network=0, rotation=null]
+            Node[connections=[north, south], pos=[0, 0, -1], network=0, rotation=[south, Rotation[direction=north, speed=1.0]]]
+            """, mock.toString());
+    }
+
+    @Test
+    public void testRemovingMultipleNodesAtOnceWithSource()
+    {
+        final RotationMock mock = mock();
+
+        assertTrue(mock.addSource(0, 0, 0, EAST));
+        assertTrue(mock.add(1, 0, 0, WEST, UP));
+        assertTrue(mock.add(1, 1, 0, DOWN));
+        mock.removeAll(new BlockPos(1, 1, 0), new BlockPos(0, 0, 0));
+        assertEquals("", mock.toString());
+    }
+
+    @Test
+    public void testRemovingMultipleNodesAtOnceReconnectsThroughCycle()
+    {
+        final RotationMock mock = mock();
+
+        assertTrue(mock.addSource(0, 0, 0, UP));
+        assertTrue(mock.add(0, 1, 0, DOWN, NORTH, EAST, SOUTH, WEST));
+        assertTrue(mock.add(1, 1, 0, NORTH, EAST, SOUTH, WEST));
+        assertTrue(mock.add(0, 1, 1, NORTH, EAST, SOUTH, WEST));
+        assertTrue(mock.add(1, 1, 1, NORTH, EAST, SOUTH, WEST));
+        assertTrue(mock.add(2, 1, 1, WEST));
+        mock.removeAll(new BlockPos(1, 1, 0));
+        assertEquals("""
+            [network=0]
+            Node[connections=[up], pos=[0, 0, 0], network=0, rotation=null]
+            Node[connections=[down, north, south, west, east], pos=[0, 1, 0], network=0, rotation=[down, Rotation[direction=up, speed=1.0]]]
+            Node[connections=[north, south, west, east], pos=[0, 1, 1], network=0, rotation=[north, Rotation[direction=south, speed=1.0]]]
+            Node[connections=[north, south, west, east], pos=[1, 1, 1], network=0, rotation=[west, Rotation[direction=east, speed=1.0]]]
+            Node[connections=[west], pos=[2, 1, 1], network=0, rotation=[west, Rotation[direction=east, speed=1.0]]]
+            """, mock.toString());
+    }
+
+    @Test
+    public void testAddingManyNodesAcrossManyNetworks()
+    {
+        final int networks = 200, nodesPerNetwork = 50;
+        final RotationMock mock = mock();
+
+        for (int i = 0; i < networks; i++)
+        {
+            assertTrue(mock.addSource(2 * i, 0, 0, SOUTH));
+        }
+
+        for (int z = 1; z <= nodesPerNetwork; z++)
+        {
+            for (int i = 0; i < networks; i++)
+            {
+                assertTrue(mock.add(2 * i, 0, z, NORTH, SOUTH));
+            }
+        }
+
+        for (int i = 0; i < networks; i++)
+        {
+            final Node node = mock.manager().getNode(new BlockPos(2 * i, 0, nodesPerNetwork));
+            assertNotNull(node);
+            assertEquals(i, node.network());
+        }
+    }
 
-    
     private RotationMock mock()
     {
         return new RotationMock(new RotationNetworkManager(), new HashMap<>());
@@ -540,6 +618,13 @@ public class RotationNetworkTests
             return manager.update(node);
         }
 
+        void removeAll(BlockPos... positions)
+        {
+            manager.removeAll(Arrays.stream(positions)
+                .map(pos -> sourceNodes.containsKey(pos) ? sourceNodes.get(pos) : manager.getNode(pos))
+                .toList());
+        }
+
         void remove(int x, int y, int z)
         {
             final BlockPos pos = new BlockPos(x, y, z);